@@ -0,0 +1,135 @@
+package com.candidate.pixkeymanagement.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.configuration.KeyValueIndexProperties;
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.configuration.RandomKeyPoolProperties;
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.service.RegisterKeyService;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationPipelines;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
+import com.candidate.pixkeymanagement.validation.prefetch.ValidationFactsLoader;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.EmailValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * A whole POST /v1 through the MVC stack with the application logging at each level, the repository and the facts
+ * loader stubbed. Run with {@code -prof gc}: OFF and INFO report the same {@code gc.alloc.rate.norm}, so logging
+ * allocates nothing at INFO; DEBUG shows what the masked request and response messages cost once enabled. Events are
+ * formatted into a discarding stream so only the logging work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegisterKeyLoggingBenchmark {
+
+    private static final String APPLICATION_LOGGER = "com.candidate.pixkeymanagement";
+    private static final String BODY = """
+            {"tipoChave":"CPF","valorChave":"123.456.789-09","tipoConta":"CORRENTE","numeroAgencia":1234,\
+            "numeroConta":12345678,"nomeCorrentista":"Lorem","sobrenomeCorrentista":"Ipsum"}""";
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    private String level;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        configureLogging(Level.toLevel(level));
+
+        PixKeyRegisterRepository repository = Mockito.mock(PixKeyRegisterRepository.class, Mockito.withSettings().stubOnly());
+        UUID id = UUID.randomUUID();
+        Mockito.when(repository.saveAndFlush(Mockito.any())).thenAnswer(invocation -> {
+            PixKeyRegister pixKeyRegister = invocation.getArgument(0);
+            pixKeyRegister.setId(id);
+            return pixKeyRegister;
+        });
+        ValidationFactsLoader validationFactsLoader = Mockito.mock(ValidationFactsLoader.class, Mockito.withSettings().stubOnly());
+        Mockito.when(validationFactsLoader.load(Mockito.any())).thenReturn(new ValidationFacts(false, Map.of()));
+
+        ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+        ValidationStepEngine validationStepEngine = new ValidationStepEngine(new ValidationPipelines(
+                List.of(new CellPhoneValidationStep(errorMessageCatalog), new CpfValidationStep(errorMessageCatalog),
+                        new CnpjValidationStep(errorMessageCatalog), new EmailValidationStep(errorMessageCatalog),
+                        new GeneralValidationStep(errorMessageCatalog)),
+                new ValidationProperties(), new SimpleMeterRegistry()), validationFactsLoader);
+
+        KeyValueIndexProperties indexProperties = new KeyValueIndexProperties();
+        indexProperties.setExpectedInsertions(1_000);
+        RegisterKeyService registerKeyService = new RegisterKeyService(repository, validationStepEngine,
+                new KeyValueIndex(repository, indexProperties, new SimpleMeterRegistry()),
+                new PixKeyCache(new PixKeyCacheProperties(), new SimpleMeterRegistry()),
+                new PixKeyResolveCache(new PixKeyCacheProperties(), new SimpleMeterRegistry()),
+                new RandomKeyPool(candidates -> Set.of(), new RandomKeyPoolProperties(), new SimpleMeterRegistry()),
+                Mockito.mock(AccountKeyCounter.class, Mockito.withSettings().stubOnly()), errorMessageCatalog,
+                Mockito.mock(AccountLocks.class, Mockito.withSettings().stubOnly()));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new PixKeyManagementController(registerKeyService, null, null, null, null, null, null))
+                .setControllerAdvice(new PixKeyManagementControllerAdvice(errorMessageCatalog))
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult registerKey() throws Exception {
+        return mockMvc.perform(post("/v1").contentType(MediaType.APPLICATION_JSON).content(BODY)).andReturn();
+    }
+
+    private static void configureLogging(Level level) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(level == Level.DEBUG ? Level.INFO : level);
+        loggerContext.getLogger(APPLICATION_LOGGER).setLevel(level);
+    }
+}
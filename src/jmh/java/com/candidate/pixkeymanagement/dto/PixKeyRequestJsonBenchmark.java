@@ -0,0 +1,80 @@
+package com.candidate.pixkeymanagement.dto;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of a registration: reading the request body and writing the response, with readers and writers bound
+ * once like the message converters do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PixKeyRequestJsonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter requestWriter;
+    private ObjectWriter responseWriter;
+    private PixKeyRequestDTO request;
+    private PixKeyResponseDTO response;
+    private byte[] requestBody;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        requestReader = objectMapper.readerFor(PixKeyRequestDTO.class);
+        requestWriter = objectMapper.writerFor(PixKeyRequestDTO.class);
+        responseWriter = objectMapper.writerFor(PixKeyResponseDTO.class);
+
+        request = PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+        response = PixKeyResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .keyRegistrationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+        requestBody = requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public PixKeyRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws JsonProcessingException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.candidate.pixkeymanagement.enumeration;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code fromValue} runs for every key type and account type read back from the database. It is a map lookup, so the
+ * first and last constants of each enum should cost the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnumLookupBenchmark {
+
+    @Param({"FIRST", "LAST"})
+    private String position;
+
+    private String keyTypeValue;
+    private String accountTypeValue;
+
+    @Setup
+    public void setUp() {
+        PixKeyType[] keyTypes = PixKeyType.values();
+        AccountType[] accountTypes = AccountType.values();
+        boolean first = position.equals("FIRST");
+        keyTypeValue = keyTypes[first ? 0 : keyTypes.length - 1].getValue();
+        accountTypeValue = accountTypes[first ? 0 : accountTypes.length - 1].getValue();
+    }
+
+    @Benchmark
+    public Optional<PixKeyType> pixKeyTypeFromValue() {
+        return PixKeyType.fromValue(keyTypeValue);
+    }
+
+    @Benchmark
+    public Optional<AccountType> accountTypeFromValue() {
+        return AccountType.fromValue(accountTypeValue);
+    }
+}
@@ -0,0 +1,98 @@
+package com.candidate.pixkeymanagement.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON results, usually one from the base commit and one from the change under review. A benchmark
+ * regresses when its score got worse by more than the threshold and the two confidence intervals do not overlap;
+ * the exit code is 1 when any did, so the comparison can gate a build.
+ */
+public class JmhResultDiff {
+
+    private static final String ROW = "%-90s %14s %14s %9s  %s%n";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhResultDiff <baseline.json> <current.json> [threshold percent, default 10]");
+            System.exit(2);
+        }
+
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        int regressions = 0;
+        System.out.printf(ROW, "benchmark", "baseline", "current", "change", "");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf(ROW, entry.getKey(), "-", after.format(), "-", "new");
+                continue;
+            }
+
+            double change = (after.value() - before.value()) / before.value() * 100;
+            double worse = after.higherIsBetter() ? -change : change;
+            boolean regressed = worse > threshold && !after.overlaps(before);
+            boolean improved = worse < -threshold && !after.overlaps(before);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(ROW, entry.getKey(), before.format(), after.format(),
+                    String.format(Locale.ROOT, "%+.1f%%", change), regressed ? "REGRESSION" : improved ? "improved" : "");
+        }
+        baseline.keySet().stream().filter(name -> !current.containsKey(name))
+                .forEach(name -> System.out.printf(ROW, name, baseline.get(name).format(), "-", "-", "removed"));
+
+        System.out.printf("%d regression(s) above %.0f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(path.toFile())) {
+            JsonNode metric = run.get("primaryMetric");
+            scores.put(name(run), new Score(metric.get("score").asDouble(), metric.get("scoreError").asDouble(),
+                    metric.get("scoreUnit").asText(), run.get("mode").asText().equals("thrpt")));
+        }
+        return scores;
+    }
+
+    private static String name(JsonNode run) {
+        StringBuilder name = new StringBuilder(run.get("benchmark").asText().replace("com.candidate.pixkeymanagement.", ""));
+        JsonNode params = run.get("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = params.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue().asText());
+            }
+            sorted.forEach((key, value) -> name.append(' ').append(key).append('=').append(value));
+        }
+        return name.append(" [").append(run.get("mode").asText()).append(']').toString();
+    }
+
+    private record Score(double value, double error, String unit, boolean higherIsBetter) {
+
+        private boolean overlaps(Score other) {
+            double error = Double.isNaN(this.error) ? 0 : this.error;
+            double otherError = Double.isNaN(other.error) ? 0 : other.error;
+            return Math.abs(value - other.value) <= error + otherError;
+        }
+
+        private String format() {
+            return String.format(Locale.ROOT, "%.3f %s", value, unit);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.candidate.pixkeymanagement.lock;
+
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the account lock around a registration, with 8 threads registering at once. {@code accounts=1} puts every
+ * request on the same account and measures the worst case, where requests run one at a time; with many accounts the
+ * threads should only wait on each other on a shared stripe, so {@code LOCAL} should stay close to {@code NONE}. The
+ * consumed tokens stand in for the validation and insert done while the lock is held.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccountLocksBenchmark {
+
+    @Param({"NONE", "LOCAL"})
+    private AccountLockProperties.Mode mode;
+
+    @Param({"1", "64", "100000"})
+    private int accounts;
+
+    @Param({"1000"})
+    private long tokens;
+
+    private AccountLocks accountLocks;
+
+    @Setup
+    public void setUp() {
+        AccountLockProperties properties = new AccountLockProperties();
+        properties.setMode(mode);
+        accountLocks = new AccountLocks(null, properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void register() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            accountLocks.lock(1234, (long) ThreadLocalRandom.current().nextInt(accounts));
+            Blackhole.consumeCPU(tokens);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
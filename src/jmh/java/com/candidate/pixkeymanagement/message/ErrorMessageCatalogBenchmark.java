@@ -0,0 +1,43 @@
+package com.candidate.pixkeymanagement.message;
+
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CPF;
+import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorMessageCatalogBenchmark {
+
+    private ErrorMessageCatalog errorMessageCatalog;
+
+    @Setup
+    public void setUp() {
+        errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    }
+
+    @Benchmark
+    public ErrorMessageDTO messageSourcePerError() {
+        // What every ErrorMessageDTO used to do: build and load a fresh message source per error.
+        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+        messageSource.setBasename("classpath:messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        return new ErrorMessageDTO(messageSource.getMessage(VALIDATION_FAILED, new Object[]{CPF.getValue(), "CPF inválido"},
+                LocaleContextHolder.getLocale()));
+    }
+
+    @Benchmark
+    public ErrorMessageDTO catalogError() {
+        return errorMessageCatalog.error(VALIDATION_FAILED, CPF.getValue(), "CPF inválido");
+    }
+}
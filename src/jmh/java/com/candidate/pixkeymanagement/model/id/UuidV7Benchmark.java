@@ -0,0 +1,42 @@
+package com.candidate.pixkeymanagement.model.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a new id: {@link UuidV7#next()}, which draws its random bits from a shared {@code SecureRandom} in
+ * per-thread blocks, against {@link UUID#randomUUID()}, which enters the same kind of generator for every id. The
+ * four-thread variants show the contention on the shared generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UuidV7Benchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomUuidFourThreads() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7FourThreads() {
+        return UuidV7.next();
+    }
+}
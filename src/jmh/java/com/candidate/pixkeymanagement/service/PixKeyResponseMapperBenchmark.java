@@ -0,0 +1,72 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts {@code size} search results to responses, as the services did before {@link PixKeyResponseMapper} (builder,
+ * collected through a stream) and as they do now. Run with {@code -prof gc} for the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PixKeyResponseMapperBenchmark {
+
+    @Param({"1", "10000"})
+    private int size;
+
+    private List<PixKeyView> pixKeyViews;
+
+    @Setup
+    public void setUp() {
+        PixKeyType[] keyTypes = PixKeyType.values();
+        AccountType[] accountTypes = AccountType.values();
+        LocalDateTime firstRegistration = LocalDateTime.of(2024, 1, 1, 0, 0);
+        pixKeyViews = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            pixKeyViews.add(new PixKeyView(UUID.randomUUID(), keyTypes[index % keyTypes.length], "chave" + index,
+                    accountTypes[index % accountTypes.length], 1 + index % 9_999,
+                    10_000_000L + index, "Lorem", index % 2 == 0 ? "Ipsum" : null,
+                    firstRegistration.plusSeconds(index), null));
+        }
+    }
+
+    @Benchmark
+    public List<PixKeyResponseDTO> builder() {
+        return pixKeyViews.stream().map(PixKeyResponseMapperBenchmark::convertWithBuilder).toList();
+    }
+
+    @Benchmark
+    public List<PixKeyResponseDTO> mapper() {
+        return PixKeyResponseMapper.toResponseDTOs(pixKeyViews);
+    }
+
+    private static PixKeyResponseDTO convertWithBuilder(PixKeyView pixKeyView) {
+        return PixKeyResponseDTO.builder()
+                .id(pixKeyView.id())
+                .keyType(pixKeyView.keyType())
+                .keyValue(pixKeyView.keyValue())
+                .accountType(pixKeyView.accountType())
+                .agencyNumber(pixKeyView.agencyNumber())
+                .accountNumber(pixKeyView.accountNumber())
+                .accountHolderFirstName(pixKeyView.accountHolderFirstName())
+                .accountHolderLastName(Objects.nonNull(pixKeyView.accountHolderLastName())
+                        ? pixKeyView.accountHolderLastName() : "")
+                .keyRegistrationDate(pixKeyView.keyRegistrationDate())
+                .keyInactivationDate(pixKeyView.keyInactivationDate())
+                .build();
+    }
+}
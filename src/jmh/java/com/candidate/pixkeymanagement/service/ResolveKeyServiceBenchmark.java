@@ -0,0 +1,78 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties;
+import com.candidate.pixkeymanagement.configuration.KeyValueIndexProperties;
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.ResolvedPixKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Hot resolve path: normalization, index check and cache hit. Run in SampleTime mode so the p99 can be read from
+ * the percentiles in the result.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResolveKeyServiceBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    private ResolveKeyService resolveKeyService;
+    private String[] punctuatedKeys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PixKeyRegisterRepository repository = Mockito.mock(PixKeyRegisterRepository.class);
+        Mockito.when(repository.streamAllKeyValues()).thenAnswer(invocation -> IntStream.range(0, KEYS).mapToObj(this::cpf));
+        Mockito.when(repository.findActiveByKeyValue(Mockito.anyString())).thenAnswer(invocation -> Optional.of(resolved(invocation.getArgument(0))));
+
+        KeyValueIndexProperties indexProperties = new KeyValueIndexProperties();
+        indexProperties.setExpectedInsertions(KEYS);
+        KeyValueIndex keyValueIndex = new KeyValueIndex(repository, indexProperties, new SimpleMeterRegistry());
+        keyValueIndex.warmUp();
+
+        resolveKeyService = new ResolveKeyService(repository,
+                new PixKeyResolveCache(new PixKeyCacheProperties(), new SimpleMeterRegistry()), keyValueIndex,
+                new AccountLocks(null, new AccountLockProperties(), new SimpleMeterRegistry()));
+        punctuatedKeys = IntStream.range(0, KEYS).mapToObj(this::cpf)
+                .map(cpf -> cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9))
+                .toArray(String[]::new);
+        Stream.of(punctuatedKeys).forEach(resolveKeyService::process);
+    }
+
+    @Benchmark
+    public PixKeyResolveResponseDTO resolveCachedKey() {
+        next = next + 1 == KEYS ? 0 : next + 1;
+        return resolveKeyService.process(punctuatedKeys[next]);
+    }
+
+    private String cpf(int seed) {
+        return String.format("%011d", 10_000_000_000L + seed);
+    }
+
+    private ResolvedPixKey resolved(String keyValue) {
+        ResolvedPixKey resolvedPixKey = Mockito.mock(ResolvedPixKey.class);
+        Mockito.when(resolvedPixKey.getKeyType()).thenReturn(PixKeyType.CPF);
+        Mockito.when(resolvedPixKey.getKeyValue()).thenReturn(keyValue);
+        Mockito.when(resolvedPixKey.getAccountType()).thenReturn(AccountType.CHECKING);
+        return resolvedPixKey;
+    }
+}
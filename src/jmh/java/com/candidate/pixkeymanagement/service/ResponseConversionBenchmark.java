@@ -0,0 +1,139 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.candidate.pixkeymanagement.repository.projection.ResolvedPixKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion to response of each service. The registration response is still built by a private method of
+ * {@link RegisterKeyService}, reached through a method handle bound to a service built with null collaborators; every
+ * other conversion goes through {@link PixKeyResponseMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseConversionBenchmark {
+
+    private MethodHandle registerConversion;
+    private PixKeyRegister pixKeyRegister;
+    private PixKeyView pixKeyView;
+    private ResolvedPixKey resolvedPixKey;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Constructor<?> constructor = RegisterKeyService.class.getDeclaredConstructors()[0];
+        Object registerKeyService = constructor.newInstance(new Object[constructor.getParameterCount()]);
+        registerConversion = MethodHandles.privateLookupIn(RegisterKeyService.class, MethodHandles.lookup())
+                .findVirtual(RegisterKeyService.class, "convertEntityToResponse",
+                        MethodType.methodType(PixKeyResponseDTO.class, PixKeyRegister.class))
+                .bindTo(registerKeyService);
+
+        pixKeyRegister = PixKeyRegister.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.SAVINGS)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .keyRegistrationDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+        pixKeyView = new PixKeyView(pixKeyRegister.getId(), pixKeyRegister.getKeyType(), pixKeyRegister.getKeyValue(),
+                pixKeyRegister.getAccountType(), pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(),
+                pixKeyRegister.getAccountHolderFirstName(), pixKeyRegister.getAccountHolderLastName(),
+                pixKeyRegister.getKeyRegistrationDate(), null);
+        resolvedPixKey = new Resolved(PixKeyType.EMAIL, "lorem.ipsum@gmail.com", AccountType.SAVINGS,
+                1234, 12345678L, "Lorem", "Ipsum");
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO register() throws Throwable {
+        return (PixKeyResponseDTO) registerConversion.invoke(pixKeyRegister);
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO registerForCache() {
+        return PixKeyResponseMapper.toResponseDTO(pixKeyRegister, null);
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO update() {
+        return PixKeyResponseMapper.toResponseDTO(pixKeyRegister, "Chave Pix atualizada com sucesso");
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO delete() {
+        return PixKeyResponseMapper.toResponseDTO(pixKeyRegister, "Chave Pix deletada com sucesso");
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO searchById() {
+        return PixKeyResponseMapper.toResponseDTO(pixKeyView);
+    }
+
+    @Benchmark
+    public PixKeyResponseDTO searchByFilter() {
+        return PixKeyResponseMapper.toResponseDTO(pixKeyView);
+    }
+
+    @Benchmark
+    public PixKeyResolveResponseDTO resolve() {
+        return PixKeyResponseMapper.toResolveResponseDTO(resolvedPixKey);
+    }
+
+    private record Resolved(PixKeyType keyType, String keyValue, AccountType accountType, Integer agencyNumber,
+                            Long accountNumber, String accountHolderFirstName, String accountHolderLastName) implements ResolvedPixKey {
+
+        @Override
+        public PixKeyType getKeyType() {
+            return keyType;
+        }
+
+        @Override
+        public String getKeyValue() {
+            return keyValue;
+        }
+
+        @Override
+        public AccountType getAccountType() {
+            return accountType;
+        }
+
+        @Override
+        public Integer getAgencyNumber() {
+            return agencyNumber;
+        }
+
+        @Override
+        public Long getAccountNumber() {
+            return accountNumber;
+        }
+
+        @Override
+        public String getAccountHolderFirstName() {
+            return accountHolderFirstName;
+        }
+
+        @Override
+        public String getAccountHolderLastName() {
+            return accountHolderLastName;
+        }
+    }
+}
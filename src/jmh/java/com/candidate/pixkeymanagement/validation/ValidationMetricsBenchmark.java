@@ -0,0 +1,99 @@
+package com.candidate.pixkeymanagement.validation;
+
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationPipelines;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.EmailValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.RandomKeyValidationStep;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per step timers and counters: the same validation with {@code pix.validation.metrics-enabled} off
+ * and on. The registry publishes the percentile histogram configured in application.yaml, so each step records into
+ * the buckets as it would in production. The difference between the two should stay under 100 ns per validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationMetricsBenchmark {
+
+    private static final ValidationFacts FACTS = new ValidationFacts(false, Map.of(PixKeyType.EMAIL, 2));
+
+    @Param({"CELLPHONE", "EMAIL", "CPF", "CNPJ", "RANDOM_KEY"})
+    private PixKeyType keyType;
+
+    @Param({"false", "true"})
+    private boolean metricsEnabled;
+
+    private ValidationStepEngine validationStepEngine;
+    private PixKeyRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.setMetricsEnabled(metricsEnabled);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofNanos(100).toNanos())
+                        .maximumExpectedValue((double) Duration.ofMillis(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+
+        validationStepEngine = new ValidationStepEngine(new ValidationPipelines(List.of(new CellPhoneValidationStep(errorMessageCatalog),
+                new CpfValidationStep(errorMessageCatalog), new CnpjValidationStep(errorMessageCatalog),
+                new EmailValidationStep(errorMessageCatalog), new RandomKeyValidationStep(errorMessageCatalog),
+                new GeneralValidationStep(errorMessageCatalog)), validationProperties, meterRegistry), null);
+
+        request = PixKeyRequestDTO.builder()
+                .keyType(keyType)
+                .keyValue(switch (keyType) {
+                    case CELLPHONE -> "+55011912341234";
+                    case EMAIL -> "lorem.ipsum@gmail.com";
+                    case CPF -> "949.286.190-99";
+                    case CNPJ -> "12.ABC.345/01DE-35";
+                    default -> "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11";
+                })
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+    }
+
+    @Benchmark
+    public PixKeyContext validation() {
+        PixKeyContext context = new PixKeyContext(request);
+        context.setTransactionType("POST");
+        context.setFacts(FACTS);
+        return validationStepEngine.validation(context);
+    }
+}
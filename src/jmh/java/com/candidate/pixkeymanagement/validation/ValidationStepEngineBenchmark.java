@@ -0,0 +1,128 @@
+package com.candidate.pixkeymanagement.validation;
+
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationPipelines;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.EmailValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.RandomKeyValidationStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linked chain the engine used to build (every step visited, each one checking the key type and wrapping the
+ * context in an Optional) against the per key type pipeline. Facts are set up front so neither touches a database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationStepEngineBenchmark {
+
+    private static final ValidationFacts FACTS = new ValidationFacts(false, Map.of(PixKeyType.EMAIL, 2));
+
+    @Param({"CELLPHONE", "EMAIL", "CPF", "CNPJ", "RANDOM_KEY"})
+    private PixKeyType keyType;
+
+    private ValidationStepEngine validationStepEngine;
+    private LinkedStep linkedChain;
+    private PixKeyRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+        List<ValidationStep> steps = List.of(new CellPhoneValidationStep(errorMessageCatalog), new CpfValidationStep(errorMessageCatalog),
+                new CnpjValidationStep(errorMessageCatalog), new EmailValidationStep(errorMessageCatalog),
+                new RandomKeyValidationStep(errorMessageCatalog), new GeneralValidationStep(errorMessageCatalog));
+
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.setMetricsEnabled(false);
+        validationStepEngine = new ValidationStepEngine(new ValidationPipelines(steps, validationProperties, new SimpleMeterRegistry()), null);
+
+        LinkedStep next = null;
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            next = new LinkedStep(steps.get(i), next);
+        }
+        linkedChain = next;
+
+        request = PixKeyRequestDTO.builder()
+                .keyType(keyType)
+                .keyValue(keyValue(keyType))
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+    }
+
+    @Benchmark
+    public PixKeyContext linkedChain() {
+        return linkedChain.validation(newContext());
+    }
+
+    @Benchmark
+    public PixKeyContext dispatchedPipeline() {
+        return validationStepEngine.validation(newContext());
+    }
+
+    private PixKeyContext newContext() {
+        PixKeyContext context = new PixKeyContext(request);
+        context.setTransactionType("POST");
+        context.setFacts(FACTS);
+        return context;
+    }
+
+    private static String keyValue(PixKeyType keyType) {
+        return switch (keyType) {
+            case CELLPHONE -> "+55011912341234";
+            case EMAIL -> "lorem.ipsum@gmail.com";
+            case CPF -> "949.286.190-99";
+            case CNPJ -> "12.ABC.345/01DE-35";
+            default -> "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11";
+        };
+    }
+
+    private static final class LinkedStep {
+
+        private final ValidationStep step;
+        private final Set<PixKeyType> keyTypes;
+        private final LinkedStep next;
+
+        private LinkedStep(ValidationStep step, LinkedStep next) {
+            this.step = step;
+            this.keyTypes = step.keyTypes();
+            this.next = next;
+        }
+
+        private PixKeyContext validation(PixKeyContext context) {
+            PixKeyContext validated = applyStep(context).orElse(context);
+            return next == null ? validated : next.validation(validated);
+        }
+
+        private Optional<PixKeyContext> applyStep(PixKeyContext context) {
+            if (!keyTypes.contains(context.getFields().getKeyType())) {
+                return Optional.of(context);
+            }
+
+            step.validate(context);
+            return Optional.of(context);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import org.hibernate.validator.internal.constraintvalidators.hv.br.CNPJValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.br.CPFValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Happy path of the phone, CPF and CNPJ checks, the regex and substring based versions the steps used before and
+ * Hibernate's {@code CNPJValidator} against the scanners. Hibernate only knows numeric CNPJs; the alphanumeric one runs
+ * on the scanner alone. Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of the scanner and step benchmarks should
+ * be 0.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class KeyValueScannerBenchmark {
+
+    private static final String ONLY_NUMBER_REGEX = "\\d+";
+
+    private String phoneNumber = "+55011912341234";
+    private String cpf = "949.286.190-99";
+    private String cnpj = "11.222.333/0001-81";
+    private String alphanumericCnpj = "12.ABC.345/01DE-35";
+    private CellPhoneValidationStep cellPhoneValidationStep;
+    private CpfValidationStep cpfValidationStep;
+    private CnpjValidationStep cnpjValidationStep;
+    private PixKeyContext phoneContext;
+    private PixKeyContext cpfContext;
+    private PixKeyContext cnpjContext;
+
+    @Setup
+    public void setUp() {
+        ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+        cellPhoneValidationStep = new CellPhoneValidationStep(errorMessageCatalog);
+        cpfValidationStep = new CpfValidationStep(errorMessageCatalog);
+        cnpjValidationStep = new CnpjValidationStep(errorMessageCatalog);
+        phoneContext = new PixKeyContext(PixKeyRequestDTO.builder().keyType(PixKeyType.CELLPHONE).keyValue(phoneNumber).build());
+        cpfContext = new PixKeyContext(PixKeyRequestDTO.builder().keyType(PixKeyType.CPF).keyValue(cpf).build());
+        cnpjContext = new PixKeyContext(PixKeyRequestDTO.builder().keyType(PixKeyType.CNPJ).keyValue(alphanumericCnpj).build());
+    }
+
+    @Benchmark
+    public boolean phoneRegexAndSubstrings() {
+        String countryCode = phoneNumber.substring(0, 3);
+        String withoutCountryCode = phoneNumber.substring(3).trim();
+        String ddd = withoutCountryCode.substring(0, withoutCountryCode.length() - 9).trim();
+        String number = phoneNumber.substring(phoneNumber.length() - 9);
+
+        return countryCode.matches("\\+\\d{1,2}") && number.matches(ONLY_NUMBER_REGEX)
+                && ddd.matches(ONLY_NUMBER_REGEX) && ddd.matches("\\d{2,3}");
+    }
+
+    @Benchmark
+    public int phoneScanner() {
+        return PhoneNumberScanner.scan(phoneNumber);
+    }
+
+    @Benchmark
+    public boolean cpfValidatorAndReplaceAll() {
+        CPFValidator cpfValidator = new CPFValidator();
+        cpfValidator.initialize(null);
+
+        return cpfValidator.isValid(cpf, null) && cpf.replaceAll("\\D", "").matches(ONLY_NUMBER_REGEX)
+                && cpf.replaceAll("\\D", "").length() <= 11;
+    }
+
+    @Benchmark
+    public boolean cpfScanner() {
+        return CpfScanner.isValid(cpf);
+    }
+
+    @Benchmark
+    public boolean cnpjValidator() {
+        CNPJValidator cnpjValidator = new CNPJValidator();
+        cnpjValidator.initialize(null);
+
+        return cnpjValidator.isValid(cnpj, null);
+    }
+
+    @Benchmark
+    public boolean cnpjScanner() {
+        return CnpjScanner.isValid(cnpj);
+    }
+
+    @Benchmark
+    public boolean alphanumericCnpjScanner() {
+        return CnpjScanner.isValid(alphanumericCnpj);
+    }
+
+    @Benchmark
+    public PixKeyContext cellPhoneStep() {
+        cellPhoneValidationStep.validate(phoneContext);
+        return phoneContext;
+    }
+
+    @Benchmark
+    public PixKeyContext cpfStep() {
+        cpfValidationStep.validate(cpfContext);
+        return cpfContext;
+    }
+
+    @Benchmark
+    public PixKeyContext cnpjStep() {
+        cnpjValidationStep.validate(cnpjContext);
+        return cnpjContext;
+    }
+}
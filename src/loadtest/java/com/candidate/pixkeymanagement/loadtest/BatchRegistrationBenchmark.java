@@ -0,0 +1,170 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers {@code loadtest.requests} email keys from a single client, one {@code POST /v1} after the other, and then
+ * as many again through {@code POST /v1/batch} in batches of {@code loadtest.batch-size}, each key in its own account
+ * so that no account limit is hit. Every phase runs {@code loadtest.rounds} times after one unmeasured round, and the
+ * result is the keys registered per second of each phase and how many times faster the batches were. Uses the
+ * database and child JVM setup of {@link MixedWorkloadLoadTest} and fails when a key is not registered.
+ */
+public class BatchRegistrationBenchmark {
+
+    private static final String HEADER = "label,phase,rounds,keys,batch_size,keys_per_second,speedup,elapsed_ms";
+    private static final String ITEM = """
+            {"tipoChave":"EMAIL","valorChave":"%s","tipoConta":"CORRENTE","numeroAgencia":%d,"numeroConta":%d,\
+            "nomeCorrentista":"Lote","sobrenomeCorrentista":"Teste"}""";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("loadtest.rows", 100_000L);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int rounds = Integer.getInteger("loadtest.rounds", 10);
+        int requests = Integer.getInteger("loadtest.requests", 2_000);
+        int batchSize = Integer.getInteger("loadtest.batch-size", 500);
+        int port = Integer.getInteger("loadtest.port", 18080);
+        String label = System.getProperty("loadtest.label", "run");
+        String dbUrl = System.getProperty("loadtest.db-url", "");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/batch-registration-results.csv"));
+
+        EmbeddedPostgres embeddedPostgres = null;
+        Process application = null;
+        try {
+            if (dbUrl.isBlank()) {
+                System.out.println("Starting embedded PostgreSQL");
+                embeddedPostgres = EmbeddedPostgres.builder().start();
+                dbUrl = "jdbc:postgresql://localhost:" + embeddedPostgres.getPort() + "/postgres";
+            }
+            MixedWorkloadLoadTest.prepareDatabase(dbUrl, new PixKeyDataset(seed, rows));
+
+            application = MixedWorkloadLoadTest.startApplication(dbUrl, port, results.resolveSibling("batch-registration-app.log"));
+            String baseUrl = "http://localhost:" + port + "/pixkeymanagement";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            MixedWorkloadLoadTest.awaitReady(httpClient, baseUrl, application);
+
+            Registrar registrar = new Registrar(httpClient, baseUrl, Long.toString(System.currentTimeMillis(), 36));
+            registrar.single(requests);
+            registrar.batches(requests, batchSize);
+
+            long singleNanos = 0;
+            long batchNanos = 0;
+            for (int round = 0; round < rounds; round++) {
+                singleNanos += registrar.single(requests);
+                batchNanos += registrar.batches(requests, batchSize);
+            }
+
+            long keys = (long) rounds * requests;
+            double singleRate = keys / (singleNanos / 1e9);
+            double batchRate = keys / (batchNanos / 1e9);
+            List<String> lines = List.of(
+                    line(label, "single", rounds, keys, 1, singleRate, 1, singleNanos),
+                    line(label, "batch", rounds, keys, batchSize, batchRate, batchRate / singleRate, batchNanos));
+
+            System.out.println(HEADER);
+            lines.forEach(System.out::println);
+            if (results.getParent() != null) {
+                Files.createDirectories(results.getParent());
+            }
+            if (Files.notExists(results)) {
+                Files.writeString(results, HEADER + "\n");
+            }
+            Files.write(results, lines, StandardOpenOption.APPEND);
+        } finally {
+            if (application != null) {
+                application.destroy();
+                application.waitFor(30, TimeUnit.SECONDS);
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static String line(String label, String phase, int rounds, long keys, int batchSize, double keysPerSecond,
+                               double speedup, long nanos) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%d", label, phase, rounds, keys, batchSize, keysPerSecond,
+                speedup, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    private static final class Registrar {
+
+        private final HttpClient httpClient;
+        private final String baseUrl;
+        private final String runId;
+        private long next;
+
+        private Registrar(HttpClient httpClient, String baseUrl, String runId) {
+            this.httpClient = httpClient;
+            this.baseUrl = baseUrl;
+            this.runId = runId;
+        }
+
+        /**
+         * Registers {@code keys} keys one request at a time and returns the nanoseconds it took.
+         */
+        private long single(int keys) throws Exception {
+            long begin = System.nanoTime();
+            for (int i = 0; i < keys; i++) {
+                HttpResponse<String> response = httpClient.send(post("/v1", nextItem()), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 201) {
+                    throw new IllegalStateException("Key not registered: " + response.statusCode() + " " + response.body());
+                }
+            }
+            return System.nanoTime() - begin;
+        }
+
+        /**
+         * Registers {@code keys} keys in batches of {@code batchSize} and returns the nanoseconds it took.
+         */
+        private long batches(int keys, int batchSize) throws Exception {
+            long begin = System.nanoTime();
+            for (int start = 0; start < keys; start += batchSize) {
+                StringJoiner body = new StringJoiner(",", "[", "]");
+                int items = Math.min(batchSize, keys - start);
+                for (int i = 0; i < items; i++) {
+                    body.add(nextItem());
+                }
+
+                HttpResponse<String> response = httpClient.send(post("/v1/batch", body.toString()), HttpResponse.BodyHandlers.ofString());
+                JsonNode registered = response.statusCode() == 201 ? OBJECT_MAPPER.readTree(response.body()).get("cadastradas") : null;
+                if (registered == null || registered.asInt() != items) {
+                    throw new IllegalStateException("Batch not registered: " + response.statusCode() + " " + response.body());
+                }
+            }
+            return System.nanoTime() - begin;
+        }
+
+        private String nextItem() {
+            long sequence = next++;
+            return ITEM.formatted("lote." + runId + "." + sequence + "@teste.com", 5_000 + (int) (sequence % 1_000),
+                    95_000_000L + sequence);
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Races identical requests against one key and checks that the database settles every race on its own: in each
+ * round {@code loadtest.requests} clients register the same key value at once and exactly one may get a 201, the
+ * others a 422, with a single active row left; then the same number of clients update the last key at once, and
+ * every 200 must have bumped its {@code version} by one while the rest got a 422. Meanwhile another connection
+ * samples {@code pg_locks} for any lock a client session holds on {@code pix_key_register} stronger than the
+ * row-exclusive lock plain writes take (autovacuum is left out). Uses the database and child JVM setup of
+ * {@link MixedWorkloadLoadTest} and fails when any check does not hold.
+ */
+public class ConcurrentRegistrationStressTest {
+
+    private static final String HEADER = "label,phase,rounds,requests,concurrency,ok,conflicts,errors,active_rows,"
+            + "final_version,peak_row_lock_waits,table_lock_samples,elapsed_ms";
+    private static final String REGISTER_BODY = """
+            {"tipoChave":"EMAIL","valorChave":"%s","tipoConta":"CORRENTE","numeroAgencia":%d,"numeroConta":%d,\
+            "nomeCorrentista":"Disputa","sobrenomeCorrentista":"Teste"}""";
+    private static final String UPDATE_BODY = """
+            {"id":"%s","tipoConta":"POUPANCA","numeroAgencia":%d,"numeroConta":%d,"nomeCorrentista":"Disputa",\
+            "sobrenomeCorrentista":"Atualizado"}""";
+    private static final String TABLE_LOCKS = """
+            select l.mode from pg_locks l join pg_stat_activity a on a.pid = l.pid
+            where a.backend_type = 'client backend' and l.locktype = 'relation'
+              and l.relation = 'pix_key_register'::regclass
+              and l.mode not in ('AccessShareLock', 'RowShareLock', 'RowExclusiveLock')""";
+    private static final String ROW_LOCK_WAITS = "select count(*) from pg_locks where not granted and locktype in ('transactionid', 'tuple')";
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("loadtest.rows", 100_000L);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        int rounds = Integer.getInteger("loadtest.rounds", 10);
+        int requests = Integer.getInteger("loadtest.requests", 2_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+        int port = Integer.getInteger("loadtest.port", 18080);
+        String label = System.getProperty("loadtest.label", "run");
+        String dbUrl = System.getProperty("loadtest.db-url", "");
+        String user = System.getProperty("loadtest.db-username", "postgres");
+        String password = System.getProperty("loadtest.db-password", "postgres");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/concurrent-registration-results.csv"));
+
+        EmbeddedPostgres embeddedPostgres = null;
+        Process application = null;
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            if (dbUrl.isBlank()) {
+                System.out.println("Starting embedded PostgreSQL");
+                embeddedPostgres = EmbeddedPostgres.builder().start();
+                dbUrl = "jdbc:postgresql://localhost:" + embeddedPostgres.getPort() + "/postgres";
+            }
+            MixedWorkloadLoadTest.prepareDatabase(dbUrl, new PixKeyDataset(seed, rows));
+
+            application = MixedWorkloadLoadTest.startApplication(dbUrl, port, results.resolveSibling("concurrent-registration-app.log"));
+            String baseUrl = "http://localhost:" + port + "/pixkeymanagement";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            MixedWorkloadLoadTest.awaitReady(httpClient, baseUrl, application);
+
+            try (Connection connection = DriverManager.getConnection(dbUrl, user, password)) {
+                Race race = new Race(httpClient, clients, connection);
+                String runId = Long.toString(System.currentTimeMillis(), 36);
+                List<String> lines = new ArrayList<>();
+                List<String> failures = new ArrayList<>();
+                System.out.println(HEADER);
+
+                Outcome registrations = new Outcome();
+                String lastKeyValue = null;
+                for (int round = 0; round < rounds; round++) {
+                    String keyValue = "disputa." + runId + "." + round + "@teste.com";
+                    String body = REGISTER_BODY.formatted(keyValue, 4321, 77_000_000L + round);
+                    Outcome outcome = race.run(requests, i -> json(baseUrl).POST(HttpRequest.BodyPublishers.ofString(body)).build(), 201);
+                    outcome.activeRows = race.activeRows(keyValue);
+                    if (outcome.ok != 1 || outcome.conflicts != requests - 1 || outcome.errors != 0 || outcome.activeRows != 1) {
+                        failures.add("register round %d: %d created, %d conflicts, %d errors, %d active rows"
+                                .formatted(round, outcome.ok, outcome.conflicts, outcome.errors, outcome.activeRows));
+                    }
+                    registrations.add(outcome);
+                    lastKeyValue = keyValue;
+                }
+                lines.add(registrations.line(label, "register", rounds, requests, concurrency));
+
+                UUID id = race.activeId(lastKeyValue);
+                long versionBefore = race.version(id);
+                Outcome updates = race.run(requests, i -> json(baseUrl).method("PATCH",
+                        HttpRequest.BodyPublishers.ofString(UPDATE_BODY.formatted(id, 4322, 78_000_000L + i))).build(), 200);
+                updates.finalVersion = race.version(id) - versionBefore;
+                updates.activeRows = race.activeRows(lastKeyValue);
+                if (updates.ok + updates.conflicts != requests || updates.errors != 0 || updates.finalVersion != updates.ok) {
+                    failures.add("update: %d updated, %d conflicts, %d errors, version moved by %d"
+                            .formatted(updates.ok, updates.conflicts, updates.errors, updates.finalVersion));
+                }
+                lines.add(updates.line(label, "update", 1, requests, concurrency));
+
+                if (registrations.tableLockSamples + updates.tableLockSamples > 0) {
+                    failures.add("table-level locks seen on pix_key_register in "
+                            + (registrations.tableLockSamples + updates.tableLockSamples) + " samples");
+                }
+
+                lines.forEach(System.out::println);
+                if (results.getParent() != null) {
+                    Files.createDirectories(results.getParent());
+                }
+                if (Files.notExists(results)) {
+                    Files.writeString(results, HEADER + "\n");
+                }
+                Files.write(results, lines, StandardOpenOption.APPEND);
+
+                if (!failures.isEmpty()) {
+                    throw new IllegalStateException("Concurrency checks failed: " + String.join("; ", failures));
+                }
+                System.out.println("Every race had a single winner and no table lock was taken");
+            }
+        } finally {
+            clients.shutdownNow();
+            if (application != null) {
+                application.destroy();
+                application.waitFor(30, TimeUnit.SECONDS);
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static HttpRequest.Builder json(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1")).header("Content-Type", "application/json");
+    }
+
+    private static final class Race {
+
+        private final HttpClient httpClient;
+        private final ExecutorService clients;
+        private final Connection connection;
+
+        private Race(HttpClient httpClient, ExecutorService clients, Connection connection) {
+            this.httpClient = httpClient;
+            this.clients = clients;
+            this.connection = connection;
+        }
+
+        /**
+         * Sends {@code requests} requests from every client thread at once, released together by a latch, while the
+         * current thread samples {@code pg_locks} until the last response arrives.
+         */
+        private Outcome run(int requests, IntFunction<HttpRequest> request, int okStatus) throws Exception {
+            Outcome outcome = new Outcome();
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger ok = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            AtomicBoolean done = new AtomicBoolean();
+
+            List<Future<?>> sent = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                HttpRequest httpRequest = request.apply(i);
+                sent.add(clients.submit(() -> {
+                    start.await();
+                    int status = send(httpRequest);
+                    if (status == okStatus) {
+                        ok.incrementAndGet();
+                    } else if (status == 422) {
+                        conflicts.incrementAndGet();
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            Thread waiter = new Thread(() -> {
+                for (Future<?> future : sent) {
+                    try {
+                        future.get();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+                done.set(true);
+            });
+            waiter.start();
+
+            try (Statement statement = connection.createStatement()) {
+                while (!done.get()) {
+                    try (ResultSet tableLocks = statement.executeQuery(TABLE_LOCKS)) {
+                        if (tableLocks.next()) {
+                            outcome.tableLockSamples++;
+                            System.out.println("Table lock on pix_key_register: " + tableLocks.getString(1));
+                        }
+                    }
+                    outcome.peakRowLockWaits = Math.max(outcome.peakRowLockWaits, count(statement, ROW_LOCK_WAITS));
+                    Thread.sleep(5);
+                }
+            }
+            waiter.join();
+
+            outcome.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+            outcome.ok = ok.get();
+            outcome.conflicts = conflicts.get();
+            outcome.errors = errors.get();
+            return outcome;
+        }
+
+        private int send(HttpRequest request) {
+            try {
+                return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                return -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+
+        private long activeRows(String keyValue) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select count(*) from pix_key_register where key_value = ? and key_inactivation_date is null")) {
+                statement.setString(1, keyValue);
+                return single(statement);
+            }
+        }
+
+        private UUID activeId(String keyValue) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select id from pix_key_register where key_value = ? and key_inactivation_date is null")) {
+                statement.setString(1, keyValue);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Registered key not found: " + keyValue);
+                    }
+                    return resultSet.getObject(1, UUID.class);
+                }
+            }
+        }
+
+        private long version(UUID id) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement("select version from pix_key_register where id = ?")) {
+                statement.setObject(1, id);
+                return single(statement);
+            }
+        }
+
+        private static long count(Statement statement, String sql) throws SQLException {
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+
+        private static long single(PreparedStatement statement) throws SQLException {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static final class Outcome {
+
+        private long ok;
+        private long conflicts;
+        private long errors;
+        private long activeRows;
+        private long finalVersion;
+        private long peakRowLockWaits;
+        private long tableLockSamples;
+        private long elapsedMillis;
+
+        private void add(Outcome other) {
+            ok += other.ok;
+            conflicts += other.conflicts;
+            errors += other.errors;
+            activeRows += other.activeRows;
+            peakRowLockWaits = Math.max(peakRowLockWaits, other.peakRowLockWaits);
+            tableLockSamples += other.tableLockSamples;
+            elapsedMillis += other.elapsedMillis;
+        }
+
+        private String line(String label, String phase, int rounds, int requests, int concurrency) {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d", label, phase, rounds, requests, concurrency,
+                    ok, conflicts, errors, activeRows, finalVersion, peakRowLockWaits, tableLockSamples, elapsedMillis);
+        }
+    }
+}
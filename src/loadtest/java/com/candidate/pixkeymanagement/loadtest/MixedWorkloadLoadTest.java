@@ -0,0 +1,344 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.Flyway;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Self-contained capacity run on one machine: starts an embedded PostgreSQL (or uses {@code loadtest.db-url}),
+ * migrates it, seeds {@code loadtest.rows} keys from {@link PixKeyDataset}, boots the application in a child JVM and
+ * drives register, lookup, filter, update and delete at fixed rates. The load is open loop: each operation is sent
+ * on its own schedule whatever the server does, and latency is measured from the scheduled send time, so a stalled
+ * server shows up in the percentiles instead of slowing the generator down. Each run appends one line per operation
+ * to the results file and writes the full HDR histograms next to it.
+ */
+public class MixedWorkloadLoadTest {
+
+    private static final String HEADER = "label,operation,rate,requests,requests_per_second,ok,client_errors,errors,"
+            + "dropped,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+    private static final String REGISTER_BODY = """
+            {"tipoChave":"EMAIL","valorChave":"%s","tipoConta":"CORRENTE","numeroAgencia":%d,"numeroConta":%d,\
+            "nomeCorrentista":"Carga","sobrenomeCorrentista":"Teste"}""";
+    private static final String UPDATE_BODY = """
+            {"id":"%s","tipoConta":"%s","numeroAgencia":%d,"numeroConta":%d,"nomeCorrentista":"%s",\
+            "sobrenomeCorrentista":"Atualizado"}""";
+    private static final String MAIN_CLASS = "com.candidate.pixkeymanagement.PixKeyManagementApplication";
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private enum Operation {
+        REGISTER, LOOKUP, FILTER, UPDATE, DELETE
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("loadtest.rows", 1_000_000L);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Map<Operation, Integer> rates = parseRates(System.getProperty("loadtest.rates",
+                "register=100,lookup=800,filter=50,update=40,delete=10"));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 15L));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60L));
+        int port = Integer.getInteger("loadtest.port", 18080);
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2_000);
+        String label = System.getProperty("loadtest.label", "run");
+        String dbUrl = System.getProperty("loadtest.db-url", "");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/mixed-workload-results.csv"));
+
+        PixKeyDataset dataset = new PixKeyDataset(seed, rows);
+        EmbeddedPostgres embeddedPostgres = null;
+        Process application = null;
+        try {
+            if (dbUrl.isBlank()) {
+                System.out.println("Starting embedded PostgreSQL");
+                embeddedPostgres = EmbeddedPostgres.builder().start();
+                dbUrl = "jdbc:postgresql://localhost:" + embeddedPostgres.getPort() + "/postgres";
+            }
+            prepareDatabase(dbUrl, dataset);
+
+            application = startApplication(dbUrl, port, results.resolveSibling("mixed-workload-app.log"));
+            String baseUrl = "http://localhost:" + port + "/pixkeymanagement";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            awaitReady(httpClient, baseUrl, application);
+
+            Workload workload = new Workload(httpClient, baseUrl, dataset, maxInFlight);
+            System.out.printf("Warming up for %ds%n", warmup.toSeconds());
+            workload.run(rates, warmup);
+            workload.reset();
+            System.out.printf("Running %s: %s for %ds against %d seeded keys%n", label, rates, duration.toSeconds(), rows);
+            workload.run(rates, duration);
+            workload.report(label, rates, duration, results);
+        } finally {
+            if (application != null) {
+                application.destroy();
+                application.waitFor(30, TimeUnit.SECONDS);
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static Map<Operation, Integer> parseRates(String rates) {
+        Map<Operation, Integer> parsed = new EnumMap<>(Operation.class);
+        for (String rate : rates.split(",")) {
+            String[] parts = rate.trim().split("=");
+            int perSecond = Integer.parseInt(parts[1].trim());
+            if (perSecond > 0) {
+                parsed.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), perSecond);
+            }
+        }
+        return parsed;
+    }
+
+    static void prepareDatabase(String dbUrl, PixKeyDataset dataset) throws Exception {
+        String user = System.getProperty("loadtest.db-username", "postgres");
+        String password = System.getProperty("loadtest.db-password", "postgres");
+        Flyway.configure().dataSource(dbUrl, user, password).baselineOnMigrate(true)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false")).load().migrate();
+        try (Connection connection = DriverManager.getConnection(dbUrl, user, password)) {
+            dataset.seed(connection);
+        }
+    }
+
+    static Process startApplication(String dbUrl, int port, Path log) throws IOException {
+        if (log.getParent() != null) {
+            Files.createDirectories(log.getParent());
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String jvmArg : System.getProperty("loadtest.app-jvm-args", "-Xmx1g").trim().split("\\s+")) {
+            if (!jvmArg.isEmpty()) {
+                command.add(jvmArg);
+            }
+        }
+        // devtools is on the exec classpath; its restart class loader has no place in a capacity run
+        command.addAll(List.of("-Dspring.devtools.restart.enabled=false", "-cp", System.getProperty("java.class.path"), MAIN_CLASS,
+                "--server.port=" + port, "--management.server.port="));
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        Map<String, String> environment = processBuilder.environment();
+        environment.put("DB_URL", dbUrl);
+        environment.put("R2DBC_URL", dbUrl.replaceFirst("^jdbc:", "r2dbc:"));
+        environment.put("DB_USERNAME", System.getProperty("loadtest.db-username", "postgres"));
+        environment.put("DB_PASSWORD", System.getProperty("loadtest.db-password", "postgres"));
+
+        System.out.printf("Starting application on port %d, log in %s%n", port, log);
+        return processBuilder.start();
+    }
+
+    static void awaitReady(HttpClient httpClient, String baseUrl, Process application) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(3);
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + application.exitValue());
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application did not become healthy");
+    }
+
+    private static final class Workload {
+
+        private final HttpClient httpClient;
+        private final String baseUrl;
+        private final PixKeyDataset dataset;
+        private final int maxInFlight;
+        private final Semaphore inFlight;
+        private final String runId = Long.toString(System.currentTimeMillis(), 36);
+        private final AtomicLong registrations = new AtomicLong();
+        private final AtomicLong nextDelete;
+        private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+        private Workload(HttpClient httpClient, String baseUrl, PixKeyDataset dataset, int maxInFlight) {
+            this.httpClient = httpClient;
+            this.baseUrl = baseUrl;
+            this.dataset = dataset;
+            this.maxInFlight = maxInFlight;
+            this.inFlight = new Semaphore(maxInFlight);
+            this.nextDelete = new AtomicLong(dataset.rows() - 1);
+            reset();
+        }
+
+        private void reset() {
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new Stats());
+            }
+        }
+
+        private void run(Map<Operation, Integer> rates, Duration duration) throws InterruptedException {
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            List<Thread> dispatchers = new ArrayList<>();
+            rates.forEach((operation, perSecond) -> {
+                Thread dispatcher = new Thread(() -> dispatch(operation, 1_000_000_000L / perSecond, start, end),
+                        "dispatch-" + operation.name().toLowerCase(Locale.ROOT));
+                dispatcher.start();
+                dispatchers.add(dispatcher);
+            });
+            for (Thread dispatcher : dispatchers) {
+                dispatcher.join();
+            }
+
+            // wait for the requests still in flight before the stats are read or reset
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+
+        private void dispatch(Operation operation, long intervalNanos, long start, long end) {
+            Stats operationStats = stats.get(operation);
+            for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    operationStats.dropped.incrementAndGet();
+                    continue;
+                }
+
+                long intendedStart = scheduled;
+                httpClient.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            inFlight.release();
+                            operationStats.record(System.nanoTime() - intendedStart, failure == null ? response.statusCode() : -1);
+                        });
+            }
+        }
+
+        private HttpRequest request(Operation operation) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return switch (operation) {
+                case REGISTER -> {
+                    long sequence = registrations.getAndIncrement();
+                    String body = REGISTER_BODY.formatted("carga." + runId + "." + sequence + "@teste.com",
+                            sequence % 9_999 + 1, 99_000_000L + sequence / 9_999);
+                    yield json(URI.create(baseUrl + "/v1")).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+                }
+                case LOOKUP -> {
+                    String keyValue = dataset.row(random.nextLong(dataset.rows())).keyValue();
+                    yield HttpRequest.newBuilder(URI.create(baseUrl + "/v1/key/"
+                            + URLEncoder.encode(keyValue, StandardCharsets.UTF_8))).GET().build();
+                }
+                case FILTER -> {
+                    PixKeyDataset.Row row = dataset.row(random.nextLong(dataset.rows()));
+                    yield HttpRequest.newBuilder(URI.create(baseUrl + "/v1/filter?numeroAgencia=" + row.agencyNumber()
+                            + "&numeroConta=" + row.accountNumber() + "&limite=20")).GET().build();
+                }
+                case UPDATE -> {
+                    long index = random.nextLong(dataset.rows());
+                    PixKeyDataset.Row row = dataset.row(index);
+                    while (row.isRandomKey()) {
+                        index = (index + 1) % dataset.rows();
+                        row = dataset.row(index);
+                    }
+                    String body = UPDATE_BODY.formatted(row.id(), row.accountType().getValue(), row.agencyNumber(), row.accountNumber(),
+                            row.accountHolderFirstName());
+                    yield json(URI.create(baseUrl + "/v1")).method("PATCH", HttpRequest.BodyPublishers.ofString(body)).build();
+                }
+                case DELETE -> {
+                    long index = Math.floorMod(nextDelete.getAndDecrement(), dataset.rows());
+                    yield HttpRequest.newBuilder(URI.create(baseUrl + "/v1/" + dataset.row(index).id())).DELETE().build();
+                }
+            };
+        }
+
+        private HttpRequest.Builder json(URI uri) {
+            return HttpRequest.newBuilder(uri).header("Content-Type", "application/json");
+        }
+
+        private void report(String label, Map<Operation, Integer> rates, Duration duration, Path results) throws IOException {
+            Path histograms = results.resolveSibling("mixed-workload-histograms");
+            Files.createDirectories(histograms);
+
+            List<String> lines = new ArrayList<>();
+            System.out.println(HEADER);
+            for (Map.Entry<Operation, Integer> entry : rates.entrySet()) {
+                String operation = entry.getKey().name().toLowerCase(Locale.ROOT);
+                Stats operationStats = stats.get(entry.getKey());
+                Histogram histogram = operationStats.latencies;
+                String line = String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f", label, operation,
+                        entry.getValue(), histogram.getTotalCount(), histogram.getTotalCount() / (double) duration.toSeconds(),
+                        operationStats.ok.get(), operationStats.clientErrors.get(), operationStats.errors.get(),
+                        operationStats.dropped.get(), millis(histogram, 50), millis(histogram, 90), millis(histogram, 99),
+                        millis(histogram, 99.9), histogram.getMaxValue() / 1_000_000.0);
+                System.out.println(line);
+                lines.add(line);
+
+                try (PrintStream output = new PrintStream(histograms.resolve(label + "-" + operation + ".hgrm").toFile(),
+                        StandardCharsets.UTF_8)) {
+                    histogram.outputPercentileDistribution(output, 1_000_000.0);
+                }
+            }
+
+            if (results.getParent() != null) {
+                Files.createDirectories(results.getParent());
+            }
+            if (Files.notExists(results)) {
+                Files.writeString(results, HEADER + "\n");
+            }
+            Files.write(results, lines, StandardOpenOption.APPEND);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+    }
+
+    private static final class Stats {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong ok = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        private void record(long latencyNanos, int status) {
+            latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (status >= 200 && status < 400) {
+                ok.incrementAndGet();
+            } else if (status >= 400 && status < 500) {
+                clientErrors.incrementAndGet();
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic {@code pix_key_register} rows: row {@code i} only depends on the seed and on {@code i}, so the
+ * workload can pick any seeded key, id or account without keeping the dataset in memory, and two runs with the same
+ * seed and size load the same table. The key type mix follows the share of each type in the national directory,
+ * random keys first; about three keys share an account and 2% of the keys are inactive.
+ */
+final class PixKeyDataset {
+
+    private static final PixKeyType[] KEY_TYPES = {PixKeyType.RANDOM_KEY, PixKeyType.CPF, PixKeyType.CELLPHONE,
+            PixKeyType.EMAIL, PixKeyType.CNPJ};
+    private static final int[] KEY_TYPE_WEIGHTS = {35, 25, 25, 12, 3};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br"};
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fabio", "Gabriela", "Heitor",
+            "Isabela", "Joao", "Larissa", "Marcos", "Natalia", "Otavio", "Paula", "Rafael"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Pereira", "Lima", "Costa", "Almeida"};
+    private static final int KEYS_PER_ACCOUNT = 3;
+    private static final int AGENCIES = 9_999;
+    private static final LocalDateTime FIRST_REGISTRATION = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final long REGISTRATION_SPAN_SECONDS = 3L * 365 * 24 * 60 * 60;
+    private static final int COPY_CHUNK = 10_000;
+
+    private final long seed;
+    private final long rows;
+
+    PixKeyDataset(long seed, long rows) {
+        this.seed = seed;
+        this.rows = rows;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    Row row(long index) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        UUID id = randomUuid(random);
+        PixKeyType keyType = keyType(random.nextInt(100));
+        long account = index / KEYS_PER_ACCOUNT;
+
+        return new Row(id, keyType, keyValue(keyType, index, random),
+                random.nextInt(10) < 7 ? AccountType.CHECKING : AccountType.SAVINGS,
+                (int) (account % AGENCIES) + 1,
+                account / AGENCIES + 1,
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                FIRST_REGISTRATION.plusSeconds(index * REGISTRATION_SPAN_SECONDS / Math.max(rows, 1)),
+                random.nextInt(100) < 2);
+    }
+
+    /**
+     * Replaces whatever the table holds with the dataset, so every run starts from the same rows even when the
+     * database is reused. The account key counts are rebuilt from the copied rows.
+     */
+    void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE pix_key_register");
+        }
+
+        long start = System.nanoTime();
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("""
+                COPY pix_key_register (id, key_type, key_value, account_type, agency_number, account_number,
+                account_holder_first_name, account_holder_last_name, key_registration_date, key_inactivation_date)
+                FROM STDIN (FORMAT csv)""");
+        try {
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK * 160);
+            for (long index = 0; index < rows; index++) {
+                row(index).appendCsv(chunk);
+                if ((index + 1) % COPY_CHUNK == 0 || index + 1 == rows) {
+                    byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    chunk.setLength(0);
+                }
+                if ((index + 1) % 1_000_000 == 0) {
+                    System.out.printf("Seeded %d rows%n", index + 1);
+                }
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE pix_key_register");
+            statement.execute("TRUNCATE key_count");
+            statement.execute("""
+                    INSERT INTO key_count (agency_number, account_number, key_type, active_keys)
+                    SELECT agency_number, account_number, key_type, count(*)
+                    FROM pix_key_register
+                    WHERE key_inactivation_date IS NULL
+                    GROUP BY agency_number, account_number, key_type""");
+            statement.execute("ANALYZE key_count");
+        }
+        System.out.printf("Seeded %d rows in %ds%n", rows, (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private static PixKeyType keyType(int percentile) {
+        int cumulative = 0;
+        for (int i = 0; i < KEY_TYPES.length; i++) {
+            cumulative += KEY_TYPE_WEIGHTS[i];
+            if (percentile < cumulative) {
+                return KEY_TYPES[i];
+            }
+        }
+        return KEY_TYPES[0];
+    }
+
+    private static String keyValue(PixKeyType keyType, long index, SplittableRandom random) {
+        return switch (keyType) {
+            case CPF -> cpf(index);
+            case CNPJ -> cnpj(index);
+            case CELLPHONE -> String.format("+550%02d9%08d", 11 + index / 100_000_000L, index % 100_000_000L);
+            case EMAIL -> "cliente" + index + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+            case RANDOM_KEY -> randomUuid(random).toString();
+        };
+    }
+
+    private static String cpf(long index) {
+        int[] digits = new int[11];
+        fillDigits(digits, 9, index);
+        digits[9] = checkDigit(digits, 9, 10);
+        digits[10] = checkDigit(digits, 10, 11);
+        return toText(digits);
+    }
+
+    private static String cnpj(long index) {
+        int[] digits = new int[14];
+        fillDigits(digits, 8, index);
+        digits[11] = 1;
+        digits[12] = cnpjCheckDigit(digits, 12);
+        digits[13] = cnpjCheckDigit(digits, 13);
+        return toText(digits);
+    }
+
+    private static void fillDigits(int[] digits, int length, long value) {
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = (int) (value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int checkDigit(int[] digits, int length, int firstWeight) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (firstWeight - i);
+        }
+        int rest = sum * 10 % 11;
+        return rest == 10 ? 0 : rest;
+    }
+
+    private static int cnpjCheckDigit(int[] digits, int length) {
+        int sum = 0;
+        int weight = length - 7;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * weight;
+            weight = weight == 2 ? 9 : weight - 1;
+        }
+        int rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+
+    private static String toText(int[] digits) {
+        char[] text = new char[digits.length];
+        for (int i = 0; i < digits.length; i++) {
+            text[i] = (char) ('0' + digits[i]);
+        }
+        return new String(text);
+    }
+
+    private static UUID randomUuid(SplittableRandom random) {
+        long most = random.nextLong() & 0xFFFFFFFFFFFF0FFFL | 0x0000000000004000L;
+        long least = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    record Row(UUID id, PixKeyType keyType, String keyValue, AccountType accountType, int agencyNumber, long accountNumber,
+               String accountHolderFirstName, String accountHolderLastName, LocalDateTime keyRegistrationDate,
+               boolean inactive) {
+
+        boolean isRandomKey() {
+            return keyType == PixKeyType.RANDOM_KEY;
+        }
+
+        private void appendCsv(StringBuilder csv) {
+            csv.append(id).append(',').append(keyType.getCode()).append(',').append(keyValue).append(',').append(accountType.getCode())
+                    .append(',').append(agencyNumber).append(',').append(accountNumber).append(',')
+                    .append(accountHolderFirstName).append(',').append(accountHolderLastName).append(',')
+                    .append(keyRegistrationDate).append(',');
+            if (inactive) {
+                csv.append(keyRegistrationDate.plusDays(1));
+            }
+            csv.append('\n');
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load against a running instance: every client registers an email key and resolves it back, over and
+ * over, until the duration ends. Run it once against an instance started with {@code VIRTUAL_THREADS_ENABLED=false}
+ * and once with {@code true}; each run appends a line to the results file so the two can be compared.
+ */
+public class PixKeyLoadTest {
+
+    private static final String REGISTER_BODY = """
+            {"tipoChave":"EMAIL","valorChave":"%s","tipoConta":"CORRENTE","numeroAgencia":%d,"numeroConta":%d,\
+            "nomeCorrentista":"Carga","sobrenomeCorrentista":"Teste"}""";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.url", "http://localhost:8080/pixkeymanagement");
+        int clients = Integer.getInteger("loadtest.clients", 2_000);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60L));
+        String label = System.getProperty("loadtest.label", "run");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/loadtest-results.csv"));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[clients][];
+        CountDownLatch done = new CountDownLatch(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        System.out.printf("Running %s: %d clients for %ds against %s%n", label, clients, duration.toSeconds(), baseUrl);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        for (int client = 0; client < clients; client++) {
+            int clientId = client;
+            executor.execute(() -> {
+                try {
+                    latencies[clientId] = runClient(httpClient, baseUrl, runId, clientId, deadline, errors);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = all.length / (double) duration.toSeconds();
+        String summary = String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%d", label, clients, all.length, throughput,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), errors.get());
+
+        System.out.println("label,clients,requests,requests_per_second,p50_ms,p99_ms,p999_ms,errors");
+        System.out.println(summary);
+        writeResult(results, summary);
+    }
+
+    private static long[] runClient(HttpClient httpClient, String baseUrl, String runId, int clientId, long deadline,
+                                    AtomicLong errors) {
+        long[] latencies = new long[1_024];
+        int count = 0;
+
+        for (int iteration = 0; System.nanoTime() < deadline; iteration++) {
+            String email = "carga." + runId + "." + clientId + "." + iteration + "@teste.com";
+            HttpRequest register = HttpRequest.newBuilder(URI.create(baseUrl + "/v1"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(REGISTER_BODY.formatted(email, clientId % 9_000 + 1, iteration + 1L)))
+                    .build();
+            HttpRequest resolve = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/key/" + URLEncoder.encode(email, StandardCharsets.UTF_8)))
+                    .GET()
+                    .build();
+
+            for (HttpRequest request : new HttpRequest[]{register, resolve}) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = send(httpClient, request, errors);
+            }
+        }
+
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static long send(HttpClient httpClient, HttpRequest request, AtomicLong errors) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.incrementAndGet();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static void writeResult(Path results, String summary) throws IOException {
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        if (Files.notExists(results)) {
+            Files.writeString(results, "label,clients,requests,requests_per_second,p50_ms,p99_ms,p999_ms,errors\n");
+        }
+        Files.writeString(results, summary + "\n", StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,246 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import com.candidate.pixkeymanagement.PixKeyManagementApplication;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.model.id.UuidV7;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.candidate.pixkeymanagement.service.SearchKeyByFilterService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Reads one filter result of {@code loadtest.filter-rows} keys (10k by default) the way the filter search did before
+ * projections, as managed {@link PixKeyRegister} entities inside a read-write transaction, and the way it does now, as
+ * {@link PixKeyView} records inside a read-only one. Both runs go through the application context against the same
+ * database and convert every row to {@link PixKeyResponseDTO} with the same code, so they only differ in how rows are
+ * read. Runs alternate, {@code loadtest.rounds} of each after as many warm-up runs, and the report has the latency
+ * percentiles and the bytes the reading thread allocated per row. The seeded keys are deleted at the end.
+ */
+public class ReadProjectionBenchmark {
+
+    private static final String HEADER = "label,mode,rows,rounds,p50_ms,p99_ms,max_ms,allocated_bytes_per_row";
+    private static final String FIRST_NAME = "Projecao";
+    private static final String INSERT = """
+            INSERT INTO pix_key_register (id, key_type, key_value, account_type, agency_number, account_number,
+            account_holder_first_name, account_holder_last_name, key_registration_date, key_inactivation_date)
+            VALUES (?, 2, ?, 1, ?, ?, ?, 'Benchmark', ?, null)""";
+
+    public static void main(String[] args) throws Exception {
+        int filterRows = Integer.getInteger("loadtest.filter-rows", 10_000);
+        int rounds = Integer.getInteger("loadtest.rounds", 10);
+        String label = System.getProperty("loadtest.label", "run");
+        String dbUrl = System.getProperty("loadtest.db-url", "");
+        String user = System.getProperty("loadtest.db-username", "postgres");
+        String password = System.getProperty("loadtest.db-password", "postgres");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/read-projection-results.csv"));
+
+        EmbeddedPostgres embeddedPostgres = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            if (dbUrl.isBlank()) {
+                System.out.println("Starting embedded PostgreSQL");
+                embeddedPostgres = EmbeddedPostgres.builder().start();
+                dbUrl = "jdbc:postgresql://localhost:" + embeddedPostgres.getPort() + "/postgres";
+            }
+
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            context = new SpringApplicationBuilder(PixKeyManagementApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=" + dbUrl, "--spring.datasource.username=" + user,
+                            "--spring.datasource.password=" + password);
+
+            try (Connection connection = DriverManager.getConnection(dbUrl, user, password)) {
+                seed(connection, filterRows);
+            }
+
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            SearchKeyByFilterService searchKeyByFilterService = context.getBean(SearchKeyByFilterService.class);
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            Supplier<List<PixKeyResponseDTO>> entities = () -> readWrite.execute(status ->
+                    findEntities(entityManager, filterRows).stream().map(ReadProjectionBenchmark::convert).toList());
+            Supplier<List<PixKeyResponseDTO>> views = () -> readOnly.execute(status ->
+                    searchKeyByFilterService.findRegisterByFilters(null, null, null, FIRST_NAME, null, filterRows)
+                            .stream().map(ReadProjectionBenchmark::convert).toList());
+
+            for (int round = 0; round < rounds; round++) {
+                measure(entities, filterRows);
+                measure(views, filterRows);
+            }
+
+            long[][] entityRuns = new long[2][rounds];
+            long[][] viewRuns = new long[2][rounds];
+            for (int round = 0; round < rounds; round++) {
+                record(entityRuns, round, measure(entities, filterRows));
+                record(viewRuns, round, measure(views, filterRows));
+            }
+
+            try (Connection connection = DriverManager.getConnection(dbUrl, user, password)) {
+                deleteSeeded(connection);
+            }
+
+            String entityResult = result(label, "entity", filterRows, entityRuns);
+            String viewResult = result(label, "view", filterRows, viewRuns);
+            System.out.println(HEADER);
+            System.out.println(entityResult);
+            System.out.println(viewResult);
+            writeResult(results, entityResult);
+            writeResult(results, viewResult);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    /**
+     * The filter search query as it was before projections: the whole entity, in the same order.
+     */
+    private static List<PixKeyRegister> findEntities(EntityManager entityManager, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PixKeyRegister> query = criteriaBuilder.createQuery(PixKeyRegister.class);
+        Root<PixKeyRegister> root = query.from(PixKeyRegister.class);
+        query.select(root)
+                .where(criteriaBuilder.equal(root.get("accountHolderFirstName"), FIRST_NAME))
+                .orderBy(criteriaBuilder.asc(root.get("keyRegistrationDate")), criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static void seed(Connection connection, int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        deleteSeeded(connection);
+
+        LocalDateTime firstRegistration = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (int row = 0; row < rows; row++) {
+                insert.setObject(1, UuidV7.next());
+                insert.setString(2, "projecao." + row + "@benchmark.com.br");
+                insert.setInt(3, 1 + row % 9_999);
+                insert.setLong(4, 90_000_000L + row);
+                insert.setString(5, FIRST_NAME);
+                insert.setTimestamp(6, Timestamp.valueOf(firstRegistration.plusSeconds(row)));
+                insert.addBatch();
+                if (row % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        System.out.printf("Seeded %d keys named %s%n", rows, FIRST_NAME);
+    }
+
+    private static void deleteSeeded(Connection connection) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM pix_key_register WHERE account_holder_first_name = ?")) {
+            delete.setString(1, FIRST_NAME);
+            delete.executeUpdate();
+        }
+    }
+
+    private static long[] measure(Supplier<List<PixKeyResponseDTO>> read, int expectedRows) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        List<PixKeyResponseDTO> keys = read.get();
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        if (keys.size() != expectedRows) {
+            throw new IllegalStateException("Expected " + expectedRows + " keys, read " + keys.size());
+        }
+        return new long[]{elapsed, allocated};
+    }
+
+    private static void record(long[][] runs, int round, long[] run) {
+        runs[0][round] = run[0];
+        runs[1][round] = run[1];
+    }
+
+    private static PixKeyResponseDTO convert(PixKeyRegister pixKeyRegister) {
+        return response(pixKeyRegister.getId(), pixKeyRegister.getKeyType(), pixKeyRegister.getKeyValue(),
+                pixKeyRegister.getAccountType(), pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(),
+                pixKeyRegister.getAccountHolderFirstName(), pixKeyRegister.getAccountHolderLastName(),
+                pixKeyRegister.getKeyRegistrationDate(), pixKeyRegister.getKeyInactivationDate());
+    }
+
+    private static PixKeyResponseDTO convert(PixKeyView pixKeyView) {
+        return response(pixKeyView.id(), pixKeyView.keyType(), pixKeyView.keyValue(), pixKeyView.accountType(),
+                pixKeyView.agencyNumber(), pixKeyView.accountNumber(), pixKeyView.accountHolderFirstName(),
+                pixKeyView.accountHolderLastName(), pixKeyView.keyRegistrationDate(), pixKeyView.keyInactivationDate());
+    }
+
+    private static PixKeyResponseDTO response(UUID id, PixKeyType keyType, String keyValue, AccountType accountType,
+                                              Integer agencyNumber, Long accountNumber, String firstName, String lastName,
+                                              LocalDateTime keyRegistrationDate, LocalDateTime keyInactivationDate) {
+        return PixKeyResponseDTO.builder()
+                .id(id)
+                .keyType(keyType)
+                .keyValue(keyValue)
+                .accountType(accountType)
+                .agencyNumber(agencyNumber)
+                .accountNumber(accountNumber)
+                .accountHolderFirstName(firstName)
+                .accountHolderLastName(lastName)
+                .keyRegistrationDate(keyRegistrationDate)
+                .keyInactivationDate(keyInactivationDate)
+                .build();
+    }
+
+    private static String result(String label, String mode, int rows, long[][] runs) {
+        long[] nanos = runs[0].clone();
+        Arrays.sort(nanos);
+        double allocatedPerRow = Arrays.stream(runs[1]).average().orElse(0) / rows;
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.2f,%.2f,%.2f,%.0f", label, mode, rows, nanos.length,
+                millis(nanos, 0.50), millis(nanos, 0.99), nanos[nanos.length - 1] / 1e6, allocatedPerRow);
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static void writeResult(Path results, String summary) throws IOException {
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        if (Files.notExists(results)) {
+            Files.writeString(results, HEADER + "\n");
+        }
+        Files.writeString(results, summary + "\n", StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,218 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Opens many connections that upload a registration body a few bytes at a time, stretched over the whole duration,
+ * and samples the server while they are open: live threads, heap used and open file descriptors from the actuator
+ * metrics on the management port, plus the latency of a key lookup sent to the application port. The servlet build
+ * parks a worker thread on every slow body; the reactive build only keeps the connection. Each run appends a line to
+ * the results file.
+ */
+public class SlowClientLoadTest {
+
+    private static final String REGISTER_BODY = """
+            {"tipoChave":"EMAIL","valorChave":"%s","tipoConta":"CORRENTE","numeroAgencia":%d,"numeroConta":%d,\
+            "nomeCorrentista":"Lento","sobrenomeCorrentista":"Teste"}""";
+    private static final String HEADER = "label,clients,open_connections,completed,errors,peak_server_threads,"
+            + "peak_heap_mb,peak_open_files,probe_p50_ms,probe_max_ms,probe_failures";
+    private static final String PROBE_PATH = "/v1/key/sonda@teste.com";
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.url", "http://localhost:8080/pixkeymanagement");
+        String managementUrl = System.getProperty("loadtest.management-url", "http://localhost:8081");
+        int clients = Integer.getInteger("loadtest.clients", 10_000);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60L));
+        String label = System.getProperty("loadtest.label", "run");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/slow-client-results.csv"));
+
+        HttpClient slowClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpClient probeClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peakOpen = new AtomicInteger();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        System.out.printf("Running %s: %d slow clients for %ds against %s%n", label, clients, duration.toSeconds(), baseUrl);
+        List<CompletableFuture<?>> requests = new ArrayList<>(clients);
+        for (int client = 0; client < clients; client++) {
+            String email = "lento." + runId + "." + client + "@teste.com";
+            byte[] body = REGISTER_BODY.formatted(email, client % 9_000 + 1, client + 1L).getBytes(StandardCharsets.UTF_8);
+            long interval = Math.max(duration.toMillis() / body.length, 1);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1"))
+                    .header("Content-Type", "application/json")
+                    .timeout(duration.plusSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.fromPublisher(new SlowBody(body, interval, scheduler), body.length))
+                    .build();
+
+            peakOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            requests.add(slowClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                open.decrementAndGet();
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                } else {
+                    completed.incrementAndGet();
+                }
+            }));
+        }
+
+        Samples samples = new Samples();
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            samples.probe(probeClient, baseUrl);
+            samples.metric(probeClient, managementUrl, "jvm.threads.live", 1, samples.threads);
+            samples.metric(probeClient, managementUrl, "jvm.memory.used?tag=area:heap", 1024 * 1024, samples.heapMb);
+            samples.metric(probeClient, managementUrl, "process.files.open", 1, samples.openFiles);
+            System.out.printf("open=%d completed=%d errors=%d threads=%.0f heapMb=%.0f files=%.0f%n", open.get(), completed.get(),
+                    errors.get(), samples.last(samples.threads), samples.last(samples.heapMb), samples.last(samples.openFiles));
+            Thread.sleep(1_000);
+        }
+
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join();
+        scheduler.shutdownNow();
+
+        String summary = String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.0f,%.1f,%.0f,%.2f,%.2f,%d", label, clients, peakOpen.get(),
+                completed.get(), errors.get(), samples.max(samples.threads), samples.max(samples.heapMb),
+                samples.max(samples.openFiles), samples.probeMedian(), samples.max(samples.probeMs), samples.probeFailures);
+        System.out.println(HEADER);
+        System.out.println(summary);
+        writeResult(results, summary);
+    }
+
+    private static void writeResult(Path results, String summary) throws IOException {
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        if (Files.notExists(results)) {
+            Files.writeString(results, HEADER + "\n");
+        }
+        Files.writeString(results, summary + "\n", StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Hands the body to the client one byte per interval, whatever the demand, so the upload spans the whole run.
+     */
+    private record SlowBody(byte[] body, long intervalMillis, ScheduledExecutorService scheduler) implements Flow.Publisher<ByteBuffer> {
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            AtomicLong demand = new AtomicLong();
+            AtomicInteger offset = new AtomicInteger();
+            ScheduledFuture<?>[] task = new ScheduledFuture<?>[1];
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                }
+
+                @Override
+                public void cancel() {
+                    if (task[0] != null) {
+                        task[0].cancel(false);
+                    }
+                }
+            });
+
+            task[0] = scheduler.scheduleAtFixedRate(() -> {
+                if (demand.get() == 0) {
+                    return;
+                }
+                int next = offset.getAndIncrement();
+                if (next < body.length) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(ByteBuffer.wrap(body, next, 1));
+                }
+                if (next == body.length - 1) {
+                    task[0].cancel(false);
+                    subscriber.onComplete();
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static final class Samples {
+
+        private final List<Double> threads = new ArrayList<>();
+        private final List<Double> heapMb = new ArrayList<>();
+        private final List<Double> openFiles = new ArrayList<>();
+        private final List<Double> probeMs = new ArrayList<>();
+        private int probeFailures;
+
+        private void probe(HttpClient httpClient, String baseUrl) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + PROBE_PATH))
+                        .timeout(Duration.ofSeconds(5)).GET().build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 500) {
+                    probeFailures++;
+                }
+                probeMs.add((System.nanoTime() - start) / 1_000_000.0);
+            } catch (IOException e) {
+                probeFailures++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                probeFailures++;
+            }
+        }
+
+        private void metric(HttpClient httpClient, String managementUrl, String metric, double divisor, List<Double> values) {
+            try {
+                HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/metrics/" + metric))
+                        .timeout(Duration.ofSeconds(5)).GET().build(), HttpResponse.BodyHandlers.ofString());
+                Matcher matcher = METRIC_VALUE.matcher(response.body());
+                if (response.statusCode() == 200 && matcher.find()) {
+                    values.add(Double.parseDouble(matcher.group(1)) / divisor);
+                }
+            } catch (IOException e) {
+                // the probe already records that the server stopped answering
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private double last(List<Double> values) {
+            return values.isEmpty() ? Double.NaN : values.get(values.size() - 1);
+        }
+
+        private double max(List<Double> values) {
+            return values.stream().mapToDouble(Double::doubleValue).max().orElse(Double.NaN);
+        }
+
+        private double probeMedian() {
+            return probeMs.stream().mapToDouble(Double::doubleValue).sorted().skip(probeMs.size() / 2).findFirst().orElse(Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.candidate.pixkeymanagement.loadtest;
+
+import com.candidate.pixkeymanagement.model.id.UuidV7;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Inserts the same {@link PixKeyDataset} rows into two copies of {@code pix_key_register}, indexes included, once
+ * with random ids ({@code UUID.randomUUID()}, what {@code @GeneratedValue} used) and once with {@link UuidV7}. Rows
+ * go in JDBC batches the size of the Hibernate batch, one transaction per batch. Throughput is reported for every
+ * tenth of the run, since random ids only start to hurt once the primary key index outgrows the buffer cache, and the
+ * sizes of the primary key, of all indexes and of the table are read at the end.
+ */
+public class UuidInsertBenchmark {
+
+    private static final String HEADER = "label,generator,rows,seconds,rows_per_second,last_tenth_rows_per_second,"
+            + "pkey_mb,indexes_mb,table_mb";
+    private static final String INSERT = """
+            INSERT INTO %s (id, key_type, key_value, account_type, agency_number, account_number,
+            account_holder_first_name, account_holder_last_name, key_registration_date, key_inactivation_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final int BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("loadtest.rows", 10_000_000L);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        String label = System.getProperty("loadtest.label", "run");
+        String dbUrl = System.getProperty("loadtest.db-url", "");
+        String user = System.getProperty("loadtest.db-username", "postgres");
+        String password = System.getProperty("loadtest.db-password", "postgres");
+        Path results = Path.of(System.getProperty("loadtest.results", "target/uuid-insert-results.csv"));
+
+        PixKeyDataset dataset = new PixKeyDataset(seed, rows);
+        EmbeddedPostgres embeddedPostgres = null;
+        try {
+            if (dbUrl.isBlank()) {
+                System.out.println("Starting embedded PostgreSQL");
+                embeddedPostgres = EmbeddedPostgres.builder().start();
+                dbUrl = "jdbc:postgresql://localhost:" + embeddedPostgres.getPort() + "/postgres";
+            }
+            Flyway.configure().dataSource(dbUrl, user, password).baselineOnMigrate(true)
+                    .configuration(Map.of("flyway.postgresql.transactional.lock", "false")).load().migrate();
+
+            try (Connection connection = DriverManager.getConnection(dbUrl + separator(dbUrl) + "reWriteBatchedInserts=true",
+                    user, password)) {
+                String randomResult = run(connection, "uuid_insert_random", "random", UUID::randomUUID, dataset, label);
+                String v7Result = run(connection, "uuid_insert_v7", "v7", UuidV7::next, dataset, label);
+                System.out.println(HEADER);
+                System.out.println(randomResult);
+                System.out.println(v7Result);
+                writeResult(results, randomResult);
+                writeResult(results, v7Result);
+            }
+        } finally {
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static String run(Connection connection, String table, String generator, Supplier<UUID> ids,
+                              PixKeyDataset dataset, String label) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (LIKE pix_key_register INCLUDING ALL)");
+        }
+
+        connection.setAutoCommit(false);
+        long tenth = Math.max(dataset.rows() / 10, 1);
+        long start = System.nanoTime();
+        long tenthStart = start;
+        double lastTenthRate = 0;
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT.formatted(table))) {
+            for (long index = 0; index < dataset.rows(); index++) {
+                PixKeyDataset.Row row = dataset.row(index);
+                insert.setObject(1, ids.get());
+                insert.setShort(2, row.keyType().getCode());
+                insert.setString(3, row.keyValue());
+                insert.setShort(4, row.accountType().getCode());
+                insert.setInt(5, row.agencyNumber());
+                insert.setLong(6, row.accountNumber());
+                insert.setString(7, row.accountHolderFirstName());
+                insert.setString(8, row.accountHolderLastName());
+                insert.setTimestamp(9, Timestamp.valueOf(row.keyRegistrationDate()));
+                insert.setTimestamp(10, row.inactive() ? Timestamp.valueOf(row.keyRegistrationDate().plusDays(1)) : null);
+                insert.addBatch();
+
+                if ((index + 1) % BATCH_SIZE == 0 || index + 1 == dataset.rows()) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if ((index + 1) % tenth == 0) {
+                    long now = System.nanoTime();
+                    lastTenthRate = tenth / ((now - tenthStart) / 1e9);
+                    tenthStart = now;
+                    System.out.printf(Locale.ROOT, "%s: %d rows, %.0f rows/s over the last %d%n", generator, index + 1,
+                            lastTenthRate, tenth);
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + table);
+        }
+
+        return String.format(Locale.ROOT, "%s,%s,%d,%.1f,%.0f,%.0f,%.1f,%.1f,%.1f", label, generator, dataset.rows(), seconds,
+                dataset.rows() / seconds, lastTenthRate, megabytes(connection, "pg_relation_size('" + table + "_pkey')"),
+                megabytes(connection, "pg_indexes_size('" + table + "')"), megabytes(connection, "pg_table_size('" + table + "')"));
+    }
+
+    private static double megabytes(Connection connection, String sizeExpression) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT " + sizeExpression)) {
+            resultSet.next();
+            return resultSet.getLong(1) / (1024.0 * 1024.0);
+        }
+    }
+
+    private static String separator(String dbUrl) {
+        return dbUrl.contains("?") ? "&" : "?";
+    }
+
+    private static void writeResult(Path results, String summary) throws IOException {
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        if (Files.notExists(results)) {
+            Files.writeString(results, HEADER + "\n");
+        }
+        Files.writeString(results, summary + "\n", StandardOpenOption.APPEND);
+    }
+}
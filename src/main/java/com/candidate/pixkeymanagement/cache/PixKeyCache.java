@@ -0,0 +1,22 @@
+package com.candidate.pixkeymanagement.cache;
+
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@Profile("!reactive")
+public class PixKeyCache extends ReadThroughCache<UUID, PixKeyResponseDTO> {
+
+    public PixKeyCache(PixKeyCacheProperties properties, MeterRegistry meterRegistry) {
+        super("pixKeyById", properties.isEnabled(), properties.getById(), meterRegistry);
+    }
+
+    public void put(PixKeyResponseDTO pixKeyResponseDTO) {
+        putAfterCommit(pixKeyResponseDTO.getId(), pixKeyResponseDTO);
+    }
+}
@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.cache;
+
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!reactive")
+public class PixKeyResolveCache extends ReadThroughCache<String, PixKeyResolveResponseDTO> {
+
+    public PixKeyResolveCache(PixKeyCacheProperties properties, MeterRegistry meterRegistry) {
+        super("pixKeyByKeyValue", properties.isEnabled(), properties.getByKeyValue(), meterRegistry);
+    }
+}
@@ -0,0 +1,154 @@
+package com.candidate.pixkeymanagement.cache;
+
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Size and TTL bounded read-through cache. Misses are cached too, for a shorter TTL, so repeated lookups of deleted
+ * or unknown keys don't reach the database. Writes done inside a transaction are applied again after commit, so a
+ * concurrent read can't put back a value the transaction is replacing.
+ * <p>
+ * Concurrent misses on the same key share one load. The load runs on the calling thread but outside the cache's
+ * internal lock, so a virtual thread waiting on the database doesn't pin its carrier thread.
+ */
+@Slf4j
+public abstract class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final PixKeyCacheProperties.Spec spec;
+    private final AsyncCache<K, Entry<V>> cache;
+    private final Counter negativeHitCounter;
+
+    protected ReadThroughCache(String name, boolean enabled, PixKeyCacheProperties.Spec spec, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.spec = spec;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfter(new EntryExpiry<K, V>(spec))
+                .recordStats()
+                .buildAsync();
+        this.negativeHitCounter = meterRegistry.counter("pix.key.cache.negative.hits", "cache", name);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+
+        CompletableFuture<Entry<V>> pending = new CompletableFuture<>();
+        boolean[] loaded = {false};
+        CompletableFuture<Entry<V>> future = cache.get(key, (missingKey, executor) -> {
+            loaded[0] = true;
+            return pending;
+        });
+
+        if (loaded[0]) {
+            load(key, loader, pending);
+        }
+
+        Entry<V> entry = join(future);
+
+        if (entry.isAbsent() && !spec.isNegativeCaching()) {
+            cache.synchronous().invalidate(key);
+        } else if (entry.isAbsent() && !loaded[0]) {
+            negativeHitCounter.increment();
+        }
+
+        return Optional.ofNullable(entry.value());
+    }
+
+    public void evict(K key) {
+        if (!enabled) {
+            return;
+        }
+
+        log.debug("Evicting key from cache {}", name);
+        cache.synchronous().invalidate(key);
+        runAfterCommit(() -> cache.synchronous().invalidate(key));
+    }
+
+    protected void putAfterCommit(K key, V value) {
+        if (!enabled) {
+            return;
+        }
+
+        Entry<V> entry = new Entry<>(value);
+        runAfterCommit(() -> cache.synchronous().put(key, entry));
+    }
+
+    private void load(K key, Function<K, Optional<V>> loader, CompletableFuture<Entry<V>> pending) {
+        try {
+            pending.complete(new Entry<>(loader.apply(key).orElse(null)));
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Entry<V> join(CompletableFuture<Entry<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry<V>(V value) {
+
+        boolean isAbsent() {
+            return Objects.isNull(value);
+        }
+    }
+
+    private record EntryExpiry<K, V>(PixKeyCacheProperties.Spec spec) implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            return (entry.isAbsent() ? spec.getNegativeTtl() : spec.getTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
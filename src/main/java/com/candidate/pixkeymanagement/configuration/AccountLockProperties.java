@@ -0,0 +1,21 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.account-lock")
+public class AccountLockProperties {
+
+    private Mode mode = Mode.LOCAL;
+    private int stripes = 1024;
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public enum Mode {
+        NONE, LOCAL, ADVISORY
+    }
+}
@@ -1,23 +1,28 @@
 package com.candidate.pixkeymanagement.configuration;
 
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 public class ApplicationConfig {
 
+    private static final String MESSAGES_BASENAME = "messages";
+
     @Bean(name = "messageSource")
     public MessageSource messageSource() {
         ReloadableResourceBundleMessageSource reloadableResourceBundleMessageSource = new ReloadableResourceBundleMessageSource();
-        reloadableResourceBundleMessageSource.setBasename("classpath:messages");
+        reloadableResourceBundleMessageSource.setBasename("classpath:" + MESSAGES_BASENAME);
         reloadableResourceBundleMessageSource.setDefaultEncoding("UTF-8");
         return reloadableResourceBundleMessageSource;
     }
 
-    public String getMessageSource(String code, Object... args) {
-        return this.messageSource().getMessage(code, args, LocaleContextHolder.getLocale());
+    @Bean
+    public ErrorMessageCatalog errorMessageCatalog() {
+        return ErrorMessageCatalog.load(MESSAGES_BASENAME);
     }
 }
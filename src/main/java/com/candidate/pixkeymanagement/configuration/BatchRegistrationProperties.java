@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.batch-registration")
+public class BatchRegistrationProperties {
+
+    private int maxItems = 5_000;
+    private int lookupChunkSize = 1_000;
+    private int flushChunkSize = 500;
+
+}
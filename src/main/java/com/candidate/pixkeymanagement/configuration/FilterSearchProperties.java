@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.filter-search")
+public class FilterSearchProperties {
+
+    private int defaultPageSize = 100;
+    private int maxPageSize = 1_000;
+    private int streamFetchSize = 500;
+
+}
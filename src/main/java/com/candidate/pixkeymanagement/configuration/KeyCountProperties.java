@@ -0,0 +1,17 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.key-count")
+public class KeyCountProperties {
+
+    private boolean enabled = true;
+    private int expectedAccounts = 1_000_000;
+    private int segments = 64;
+    private String reconcileCron = "0 0 3 * * *";
+
+}
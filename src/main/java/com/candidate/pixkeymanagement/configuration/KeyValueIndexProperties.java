@@ -0,0 +1,17 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.key-value-index")
+public class KeyValueIndexProperties {
+
+    private boolean enabled = true;
+    private long expectedInsertions = 10_000_000L;
+    private double falsePositiveProbability = 0.01;
+    private boolean consistencyCheck = false;
+
+}
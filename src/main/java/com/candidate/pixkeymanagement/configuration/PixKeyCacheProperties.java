@@ -0,0 +1,28 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.key-cache")
+public class PixKeyCacheProperties {
+
+    private boolean enabled = true;
+    private Spec byId = new Spec();
+    private Spec byKeyValue = new Spec();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private long maximumSize = 100_000L;
+        private Duration ttl = Duration.ofMinutes(10);
+        private boolean negativeCaching = true;
+        private Duration negativeTtl = Duration.ofSeconds(5);
+
+    }
+}
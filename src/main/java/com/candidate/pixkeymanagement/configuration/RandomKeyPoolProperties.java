@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.random-key-pool")
+public class RandomKeyPoolProperties {
+
+    private int capacity = 1_024;
+    private int refillThreshold = 256;
+    private int checkBatchSize = 256;
+
+}
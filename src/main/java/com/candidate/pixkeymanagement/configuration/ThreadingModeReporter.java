@@ -0,0 +1,37 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Boot silently falls back to platform threads when {@code spring.threads.virtual.enabled} is set on a JVM
+ * older than 21, so the mode actually in use is logged at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThreadingModeReporter {
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Requests are running on virtual threads");
+            return;
+        }
+
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("Virtual threads requested but not available on Java {}, requests are running on platform threads",
+                    Runtime.version().feature());
+            return;
+        }
+
+        log.info("Requests are running on platform threads");
+    }
+}
@@ -0,0 +1,18 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pix.validation")
+public class ValidationProperties {
+
+    private boolean failFast = true;
+
+    private boolean metricsEnabled = true;
+
+    private int metricsSampleEvery = 8;
+
+}
@@ -1,28 +1,41 @@
 package com.candidate.pixkeymanagement.controller;
 
+import com.candidate.pixkeymanagement.dto.PixKeyBatchResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyPageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
 import com.candidate.pixkeymanagement.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1")
 public class PixKeyManagementController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Proximo-Cursor";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final RegisterKeyService registerKeyService;
+    private final RegisterKeyBatchService registerKeyBatchService;
     private final UpdateKeyService updateKeyService;
     private final SearchKeyByIdService searchKeyByIdService;
+    private final ResolveKeyService resolveKeyService;
     private final SearchKeyByFilterService searchKeyByFilterService;
     private final DeleteKeyService deleteKeyService;
 
@@ -35,6 +48,16 @@ public class PixKeyManagementController {
         return ResponseEntity.status(HttpStatus.CREATED).body(pixKeyResponseDTO);
     }
 
+    @PostMapping("/batch")
+    private ResponseEntity<PixKeyBatchResponseDTO> createPixKeyBatch(@RequestBody List<PixKeyRequestDTO> pixKeyRequestDTOList) {
+        log.debug("Started POST/batch pix keys");
+        PixKeyBatchResponseDTO pixKeyBatchResponseDTO = registerKeyBatchService.process(pixKeyRequestDTOList);
+
+        log.debug("Finished POST/batch pix keys. Registered: {}, rejected: {}", pixKeyBatchResponseDTO.getRegistered(), pixKeyBatchResponseDTO.getRejected());
+        HttpStatus status = pixKeyBatchResponseDTO.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(pixKeyBatchResponseDTO);
+    }
+
     @PatchMapping
     private ResponseEntity<PixKeyResponseDTO> updatePixKey(@Valid @RequestBody PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO) {
         log.debug("Started PATCH/ pix key: {}", pixKeyUpdateRequestDTO);
@@ -53,16 +76,43 @@ public class PixKeyManagementController {
         return ResponseEntity.status(HttpStatus.OK).body(pixKeyResponseDTO);
     }
 
+    @GetMapping("/key/{valorChave}")
+    private ResponseEntity<PixKeyResolveResponseDTO> resolvePixKey(@PathVariable("valorChave") String keyValue) {
+        log.debug("Started GET/key/{valorChave} pix key");
+        PixKeyResolveResponseDTO pixKeyResolveResponseDTO = resolveKeyService.process(keyValue);
+
+        log.debug("Finished GET/key/{valorChave} pix key");
+        return ResponseEntity.status(HttpStatus.OK).body(pixKeyResolveResponseDTO);
+    }
+
     @GetMapping("/filter")
     private ResponseEntity<List<PixKeyResponseDTO>> getPixKeyByFilter(@RequestParam(value = "tipoChave", required = false) String keyType,
                                                                       @RequestParam(value = "numeroAgencia", required = false) String agencyNumber,
                                                                       @RequestParam(value = "numeroConta", required = false) String accountNumber,
-                                                                      @RequestParam(value = "nomeCorrentista", required = false) String accountHolderFirstName) {
+                                                                      @RequestParam(value = "nomeCorrentista", required = false) String accountHolderFirstName,
+                                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                                      @RequestParam(value = "limite", required = false) Integer limit) {
         log.debug("Started GET/filter pix key");
-        List<PixKeyResponseDTO> pixKeyResponseDTO = searchKeyByFilterService.process(keyType, agencyNumber, accountNumber, accountHolderFirstName);
+        PixKeyPageDTO pixKeyPageDTO = searchKeyByFilterService.process(keyType, agencyNumber, accountNumber, accountHolderFirstName, cursor, limit);
 
         log.debug("Finished GET/filter pix key");
-        return ResponseEntity.status(HttpStatus.OK).body(pixKeyResponseDTO);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (Objects.nonNull(pixKeyPageDTO.getNextCursor())) {
+            response.header(NEXT_CURSOR_HEADER, pixKeyPageDTO.getNextCursor());
+        }
+        return response.body(pixKeyPageDTO.getKeys());
+    }
+
+    @GetMapping(value = "/filter/stream", produces = NDJSON_MEDIA_TYPE)
+    private ResponseEntity<StreamingResponseBody> streamPixKeyByFilter(@RequestParam(value = "tipoChave", required = false) String keyType,
+                                                                       @RequestParam(value = "numeroAgencia", required = false) String agencyNumber,
+                                                                       @RequestParam(value = "numeroConta", required = false) String accountNumber,
+                                                                       @RequestParam(value = "nomeCorrentista", required = false) String accountHolderFirstName) {
+        log.debug("Started GET/filter/stream pix key");
+        StreamingResponseBody body = outputStream ->
+                searchKeyByFilterService.stream(keyType, agencyNumber, accountNumber, accountHolderFirstName, outputStream);
+
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE)).body(body);
     }
 
     @DeleteMapping("/{id}")
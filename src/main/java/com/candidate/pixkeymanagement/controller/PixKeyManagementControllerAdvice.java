@@ -5,11 +5,13 @@ import com.candidate.pixkeymanagement.exception.BadRequestException;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
 import com.candidate.pixkeymanagement.exception.UnexpectedException;
 import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -35,8 +37,11 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 @Slf4j
 @RequiredArgsConstructor
 @RestControllerAdvice
+@Profile("!reactive")
 public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHandler {
 
+    private final ErrorMessageCatalog errorMessageCatalog;
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
                                                                   HttpHeaders headers,
@@ -59,7 +64,7 @@ public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHan
                     .map(JsonMappingException.Reference::getFieldName)
                     .filter(StringUtils::isNotBlank)
                     .collect(Collectors.joining("."));
-            return handleExceptionInternal(ex, new ErrorMessageDTO(FIELD_INVALID, field), headers, HttpStatus.BAD_REQUEST, request);
+            return handleExceptionInternal(ex, errorMessageCatalog.error(FIELD_INVALID, field), headers, HttpStatus.BAD_REQUEST, request);
         }
         return handleExceptionInternal(ex, null, headers, HttpStatus.BAD_REQUEST, request);
     }
@@ -70,7 +75,7 @@ public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHan
                                                                           HttpStatusCode status,
                                                                           WebRequest request) {
         log.debug("MissingServletRequestParameterException", ex);
-        ErrorMessageDTO error = new ErrorMessageDTO(FIELD_REQUIRED, ex.getParameterName());
+        ErrorMessageDTO error = errorMessageCatalog.error(FIELD_REQUIRED, ex.getParameterName());
         return handleExceptionInternal(ex, error, headers, HttpStatus.BAD_REQUEST, request);
     }
 
@@ -78,7 +83,7 @@ public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHan
     protected ResponseEntity<Object> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex, WebRequest request) {
         log.debug("MethodArgumentTypeMismatchException", ex);
         List<ErrorMessageDTO> errors = new ArrayList<>();
-        errors.add(new ErrorMessageDTO(FIELD_INVALID, ex.getParameter().getParameterName()));
+        errors.add(errorMessageCatalog.error(FIELD_INVALID, ex.getParameter().getParameterName()));
         return handleExceptionInternal(ex, errors, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
     }
 
@@ -97,19 +102,19 @@ public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHan
     @ExceptionHandler(value = NotFoundException.class)
     protected ResponseEntity<Object> handleNotFoundException(NotFoundException ex, WebRequest request) {
         log.debug("NotFoundException", ex);
-        return handleExceptionInternal(ex, new ErrorMessageDTO(NOT_FOUND_KEY_PIX), new HttpHeaders(), HttpStatus.NOT_FOUND, request);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(NOT_FOUND_KEY_PIX), new HttpHeaders(), HttpStatus.NOT_FOUND, request);
     }
 
     @ExceptionHandler(value = UnexpectedException.class)
     protected ResponseEntity<Object> handleUnexpectedException(UnexpectedException ex, WebRequest request) {
         log.debug("UnexpectedException", ex);
-        return handleExceptionInternal(ex, new ErrorMessageDTO(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
     }
 
     @ExceptionHandler(value = Exception.class)
     protected ResponseEntity<Object> handleGenericException(Exception ex, WebRequest request) {
         log.error("Generic unhandled exception", ex);
-        return handleExceptionInternal(ex, new ErrorMessageDTO(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
     }
 
     private ErrorMessageDTO createError(ObjectError error, Class<?> dtoClass) {
@@ -129,7 +134,7 @@ public class PixKeyManagementControllerAdvice extends ResponseEntityExceptionHan
             }
         }
 
-        return new ErrorMessageDTO(error.getDefaultMessage(), field);
+        return errorMessageCatalog.error(error.getDefaultMessage(), field);
     }
 
 }
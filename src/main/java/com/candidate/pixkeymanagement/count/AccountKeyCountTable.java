@@ -0,0 +1,159 @@
+package com.candidate.pixkeymanagement.count;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+import java.util.Arrays;
+
+/**
+ * Active key counts per account and key type. Agency and account are packed into one {@code long} and the table is
+ * split into segments, each an open-addressing hash table over a {@code long[]} of accounts and an {@code int[]} of
+ * counts (one slot per key type), guarded by its own lock. Nothing is boxed and a lookup is a hash, a short probe
+ * and a copy of five ints.
+ */
+class AccountKeyCountTable {
+
+    static final int KEY_TYPES = PixKeyType.values().length;
+
+    private static final long EMPTY = -1L;
+    private static final long MAX_ACCOUNT_NUMBER = 0xFFFF_FFFFL;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    AccountKeyCountTable(int expectedAccounts, int segmentCount) {
+        int segmentsPowerOfTwo = powerOfTwoAtLeast(segmentCount);
+        this.segments = new Segment[segmentsPowerOfTwo];
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentsPowerOfTwo);
+
+        int expectedPerSegment = Math.max(1, expectedAccounts / segmentsPowerOfTwo);
+        for (int i = 0; i < segmentsPowerOfTwo; i++) {
+            segments[i] = new Segment(expectedPerSegment);
+        }
+    }
+
+    /**
+     * Whether the account fits the packed key: agency up to 31 bits and account number up to 32 bits, far beyond the
+     * 4 and 8 digits the API accepts.
+     */
+    static boolean isPackable(Integer agencyNumber, Long accountNumber) {
+        return agencyNumber != null && accountNumber != null && agencyNumber >= 0
+                && accountNumber >= 0 && accountNumber <= MAX_ACCOUNT_NUMBER;
+    }
+
+    static long pack(int agencyNumber, long accountNumber) {
+        return (long) agencyNumber << Integer.SIZE | accountNumber;
+    }
+
+    void add(long account, int keyType, int delta) {
+        int hash = hash(account);
+        segmentFor(hash).add(account, hash, keyType, delta);
+    }
+
+    /**
+     * Copies the account's counts, indexed by key type ordinal, into {@code target}; an unknown account reads as zeros.
+     */
+    void read(long account, int[] target) {
+        int hash = hash(account);
+        segmentFor(hash).read(account, hash, target);
+    }
+
+    int accounts() {
+        int accounts = 0;
+        for (Segment segment : segments) {
+            accounts += segment.size();
+        }
+        return accounts;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static int hash(long account) {
+        long hash = account * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private static final class Segment {
+
+        private long[] accounts;
+        private int[] counts;
+        private int size;
+        private int threshold;
+
+        Segment(int expectedAccounts) {
+            allocate(powerOfTwoAtLeast(Math.max(2, expectedAccounts / 3 * 4)));
+        }
+
+        synchronized void add(long account, int hash, int keyType, int delta) {
+            int slot = find(account, hash);
+
+            if (accounts[slot] == EMPTY) {
+                if (size >= threshold) {
+                    resize();
+                    slot = find(account, hash);
+                }
+                accounts[slot] = account;
+                size++;
+            }
+
+            counts[slot * KEY_TYPES + keyType] += delta;
+        }
+
+        synchronized void read(long account, int hash, int[] target) {
+            int slot = find(account, hash);
+
+            if (accounts[slot] == EMPTY) {
+                Arrays.fill(target, 0, KEY_TYPES, 0);
+                return;
+            }
+
+            System.arraycopy(counts, slot * KEY_TYPES, target, 0, KEY_TYPES);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Slot holding the account, or the empty slot where it would go.
+         */
+        private int find(long account, int hash) {
+            int mask = accounts.length - 1;
+            int slot = hash & mask;
+
+            while (accounts[slot] != EMPTY && accounts[slot] != account) {
+                slot = (slot + 1) & mask;
+            }
+
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldAccounts = accounts;
+            int[] oldCounts = counts;
+            allocate(oldAccounts.length << 1);
+
+            for (int oldSlot = 0; oldSlot < oldAccounts.length; oldSlot++) {
+                long account = oldAccounts[oldSlot];
+
+                if (account != EMPTY) {
+                    int slot = find(account, hash(account));
+                    accounts[slot] = account;
+                    System.arraycopy(oldCounts, oldSlot * KEY_TYPES, counts, slot * KEY_TYPES, KEY_TYPES);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            accounts = new long[capacity];
+            Arrays.fill(accounts, EMPTY);
+            counts = new int[capacity * KEY_TYPES];
+            threshold = capacity / 4 * 3;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.candidate.pixkeymanagement.count;
+
+import com.candidate.pixkeymanagement.configuration.KeyCountProperties;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.KeyCountBatchRepository.Delta;
+import com.candidate.pixkeymanagement.repository.KeyCountRepository;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static com.candidate.pixkeymanagement.count.AccountKeyCountTable.isPackable;
+import static com.candidate.pixkeymanagement.count.AccountKeyCountTable.pack;
+
+/**
+ * Active keys per account kept in memory for the key limit checks. Every change is added to the {@code key_count}
+ * table inside the transaction that registers, moves or inactivates the key, and to memory once it commits; a
+ * scheduled job recounts {@code pix_key_register} and corrects both when they drift. Changes made by another
+ * instance never reach this memory, so the counts are only valid with a single instance; with cluster-wide
+ * ({@code advisory}) account locks the key limit checks bypass them and count in the database.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class AccountKeyCounter implements SmartInitializingSingleton {
+
+    private static final PixKeyType[] KEY_TYPES = PixKeyType.values();
+    private static final Comparator<Delta> LOCK_ORDER = Comparator.comparing(Delta::agencyNumber)
+            .thenComparing(Delta::accountNumber)
+            .thenComparing(Delta::keyType);
+
+    private final KeyCountRepository keyCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final KeyCountProperties properties;
+    private final AccountKeyCountTable table;
+    private final Counter reconciledCounter;
+    private volatile boolean warmedUp;
+
+    public AccountKeyCounter(KeyCountRepository keyCountRepository,
+                             TransactionTemplate transactionTemplate,
+                             KeyCountProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.keyCountRepository = keyCountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.table = new AccountKeyCountTable(properties.isEnabled() ? properties.getExpectedAccounts() : 0,
+                properties.getSegments());
+        this.reconciledCounter = meterRegistry.counter("pix.key.count.reconciled");
+        Gauge.builder("pix.key.count.accounts", table, AccountKeyCountTable::accounts).register(meterRegistry);
+    }
+
+    /**
+     * Loads the counts before the web server takes requests: a change committed while the table is still being
+     * read would otherwise be counted twice, once from {@code key_count} and once after its commit.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            log.info("Account key counts disabled, key limits will query the database");
+            return;
+        }
+
+        log.info("Warming up account key counts");
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<KeyCountRow> keyCountRows = keyCountRepository.streamAllCounts()) {
+                keyCountRows.forEach(this::apply);
+            }
+        });
+
+        warmedUp = true;
+        log.info("Account key counts ready. Accounts: {}", table.accounts());
+    }
+
+    /**
+     * Active keys per type of the account, or empty when the caller has to count them in the database.
+     */
+    public Optional<Map<PixKeyType, Integer>> find(Integer agencyNumber, Long accountNumber) {
+        if (!warmedUp || !isPackable(agencyNumber, accountNumber)) {
+            return Optional.empty();
+        }
+
+        int[] counts = new int[KEY_TYPES.length];
+        table.read(pack(agencyNumber, accountNumber), counts);
+
+        Map<PixKeyType, Integer> activeKeysByType = new EnumMap<>(PixKeyType.class);
+        for (PixKeyType keyType : KEY_TYPES) {
+            if (counts[keyType.ordinal()] > 0) {
+                activeKeysByType.put(keyType, counts[keyType.ordinal()]);
+            }
+        }
+
+        return Optional.of(activeKeysByType);
+    }
+
+    public void registered(PixKeyRegister pixKeyRegister) {
+        addAll(List.of(delta(pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(), pixKeyRegister.getKeyType(), 1)));
+    }
+
+    public void registered(Collection<PixKeyRegister> pixKeyRegisters) {
+        Map<AccountKeyType, Integer> registeredByAccount = new HashMap<>();
+        pixKeyRegisters.forEach(pixKeyRegister -> registeredByAccount.merge(
+                new AccountKeyType(pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(), pixKeyRegister.getKeyType()),
+                1, Integer::sum));
+
+        addAll(registeredByAccount.entrySet().stream()
+                .map(entry -> delta(entry.getKey().agencyNumber(), entry.getKey().accountNumber(),
+                        entry.getKey().keyType(), entry.getValue()))
+                .toList());
+    }
+
+    public void moved(PixKeyRegister pixKeyRegister, Integer previousAgencyNumber, Long previousAccountNumber) {
+        if (Objects.equals(previousAgencyNumber, pixKeyRegister.getAgencyNumber())
+                && Objects.equals(previousAccountNumber, pixKeyRegister.getAccountNumber())) {
+            return;
+        }
+
+        addAll(List.of(
+                delta(previousAgencyNumber, previousAccountNumber, pixKeyRegister.getKeyType(), -1),
+                delta(pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(), pixKeyRegister.getKeyType(), 1)));
+    }
+
+    public void inactivated(PixKeyRegister pixKeyRegister) {
+        addAll(List.of(delta(pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(), pixKeyRegister.getKeyType(), -1)));
+    }
+
+    /**
+     * Recounts the active keys of every account and adds whatever drifted to {@code key_count} and to memory. The
+     * correction is added, not assigned, so a single instance runs it at a time: the others skip their run instead of
+     * adding the same drift again.
+     */
+    @Transactional
+    @Scheduled(cron = "${pix.key-count.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        if (!keyCountRepository.tryLockReconcile()) {
+            log.info("Account key counts being reconciled by another instance, skipping");
+            return;
+        }
+
+        log.info("Reconciling account key counts");
+        List<KeyCountRow> drifted = keyCountRepository.reconcile();
+        reconciledCounter.increment(drifted.size());
+
+        if (!drifted.isEmpty()) {
+            log.warn("Account key counts drifted. Corrected rows: {}", drifted.size());
+        }
+
+        if (warmedUp) {
+            runAfterCommit(() -> drifted.forEach(this::apply));
+        }
+    }
+
+    /**
+     * Rows are upserted in one global order so two transactions touching the same accounts can't deadlock.
+     */
+    private void addAll(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Delta> ordered = deltas.size() > 1 ? deltas.stream().sorted(LOCK_ORDER).toList() : deltas;
+
+        if (ordered.size() == 1) {
+            Delta delta = ordered.get(0);
+            keyCountRepository.add(delta.agencyNumber(), delta.accountNumber(), delta.keyType().getCode(), delta.delta());
+        } else {
+            keyCountRepository.addAll(ordered);
+        }
+
+        if (warmedUp) {
+            runAfterCommit(() -> ordered.forEach(delta ->
+                    apply(delta.agencyNumber(), delta.accountNumber(), delta.keyType(), delta.delta())));
+        }
+    }
+
+    private void apply(KeyCountRow keyCountRow) {
+        PixKeyType.fromCode(keyCountRow.getKeyTypeCode()).ifPresent(keyType -> apply(keyCountRow.getAgencyNumber(),
+                keyCountRow.getAccountNumber(), keyType, keyCountRow.getActiveKeys().intValue()));
+    }
+
+    private void apply(Integer agencyNumber, Long accountNumber, PixKeyType keyType, int delta) {
+        if (!isPackable(agencyNumber, accountNumber)) {
+            return;
+        }
+
+        table.add(pack(agencyNumber, accountNumber), keyType.ordinal(), delta);
+    }
+
+    private static Delta delta(Integer agencyNumber, Long accountNumber, PixKeyType keyType, int delta) {
+        return new Delta(agencyNumber, accountNumber, keyType, delta);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record AccountKeyType(Integer agencyNumber, Long accountNumber, PixKeyType keyType) {
+    }
+}
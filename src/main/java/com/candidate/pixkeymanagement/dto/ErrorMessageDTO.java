@@ -1,15 +1,14 @@
 package com.candidate.pixkeymanagement.dto;
 
-import com.candidate.pixkeymanagement.configuration.ApplicationConfig;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
+@ToString
 public class ErrorMessageDTO {
     private String message;
-
-    public ErrorMessageDTO(String code, Object... args) {
-        this.message = new ApplicationConfig().getMessageSource(code, args);
-    }
 }
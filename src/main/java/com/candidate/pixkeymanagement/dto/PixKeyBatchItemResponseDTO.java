@@ -0,0 +1,32 @@
+package com.candidate.pixkeymanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PixKeyBatchItemResponseDTO {
+
+    @JsonProperty("indice")
+    private Integer index;
+
+    @JsonProperty("status")
+    private Integer status;
+
+    @JsonProperty("id")
+    private UUID id;
+
+    @JsonProperty("valorChave")
+    private String keyValue;
+
+    @JsonProperty("erros")
+    private List<ErrorMessageDTO> errors;
+}
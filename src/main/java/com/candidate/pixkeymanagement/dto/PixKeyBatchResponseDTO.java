@@ -0,0 +1,26 @@
+package com.candidate.pixkeymanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PixKeyBatchResponseDTO {
+
+    @JsonProperty("mensagem")
+    private String message;
+
+    @JsonProperty("cadastradas")
+    private Integer registered;
+
+    @JsonProperty("rejeitadas")
+    private Integer rejected;
+
+    @JsonProperty("resultados")
+    private List<PixKeyBatchItemResponseDTO> results;
+}
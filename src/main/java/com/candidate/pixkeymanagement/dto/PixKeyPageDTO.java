@@ -0,0 +1,17 @@
+package com.candidate.pixkeymanagement.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PixKeyPageDTO {
+
+    private List<PixKeyResponseDTO> keys;
+
+    private String nextCursor;
+}
@@ -1,7 +1,9 @@
 package com.candidate.pixkeymanagement.dto;
 
+import com.candidate.pixkeymanagement.dto.constraint.KeyValuePresence;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.util.PiiMasker;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -17,15 +19,17 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
+@KeyValuePresence
 public class PixKeyRequestDTO {
 
     @NotNull(message = FIELD_REQUIRED)
     @JsonProperty("tipoChave")
     private PixKeyType keyType;
 
-    @NotBlank(message = FIELD_REQUIRED)
     @JsonProperty("valorChave")
     @Length(min = 1, max = 70, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private String keyValue;
 
     @NotNull(message = FIELD_REQUIRED)
@@ -42,15 +46,37 @@ public class PixKeyRequestDTO {
     @JsonProperty("numeroConta")
     @Min(value = 1L, message = FIELD_MIN_LENGTH)
     @Max(value = 99999999L, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private Long accountNumber;
 
     @NotBlank(message = FIELD_REQUIRED)
     @JsonProperty("nomeCorrentista")
     @Length(min = 1, max = 30, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private String accountHolderFirstName;
 
     @JsonProperty("sobrenomeCorrentista")
     @Length(max = 45, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private String accountHolderLastName;
 
-}
\ No newline at end of file
+    @ToString.Include(name = "keyValue")
+    private String maskedKeyValue() {
+        return PiiMasker.maskKeyValue(keyType, keyValue);
+    }
+
+    @ToString.Include(name = "accountNumber")
+    private String maskedAccountNumber() {
+        return PiiMasker.maskAccountNumber(accountNumber);
+    }
+
+    @ToString.Include(name = "accountHolderFirstName")
+    private String maskedAccountHolderFirstName() {
+        return PiiMasker.maskName(accountHolderFirstName);
+    }
+
+    @ToString.Include(name = "accountHolderLastName")
+    private String maskedAccountHolderLastName() {
+        return PiiMasker.maskName(accountHolderLastName);
+    }
+}
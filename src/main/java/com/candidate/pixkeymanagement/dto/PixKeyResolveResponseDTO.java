@@ -0,0 +1,37 @@
+package com.candidate.pixkeymanagement.dto;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PixKeyResolveResponseDTO {
+
+    @JsonProperty("tipoChave")
+    private PixKeyType keyType;
+
+    @JsonProperty("valorChave")
+    private String keyValue;
+
+    @JsonProperty("tipoConta")
+    private AccountType accountType;
+
+    @JsonProperty("numeroAgencia")
+    private Integer agencyNumber;
+
+    @JsonProperty("numeroConta")
+    private Long accountNumber;
+
+    @JsonProperty("nomeCorrentista")
+    private String accountHolderFirstName;
+
+    @JsonProperty("sobrenomeCorrentista")
+    private String accountHolderLastName;
+}
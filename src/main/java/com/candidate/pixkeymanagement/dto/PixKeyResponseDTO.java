@@ -2,6 +2,7 @@ package com.candidate.pixkeymanagement.dto;
 
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.util.PiiMasker;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -15,6 +16,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class PixKeyResponseDTO {
 
@@ -28,6 +30,7 @@ public class PixKeyResponseDTO {
     private PixKeyType keyType;
 
     @JsonProperty("valorChave")
+    @ToString.Exclude
     private String keyValue;
 
     @JsonProperty("tipoConta")
@@ -37,12 +40,15 @@ public class PixKeyResponseDTO {
     private Integer agencyNumber;
 
     @JsonProperty("numeroConta")
+    @ToString.Exclude
     private Long accountNumber;
 
     @JsonProperty("nomeCorrentista")
+    @ToString.Exclude
     private String accountHolderFirstName;
 
     @JsonProperty("sobrenomeCorrentista")
+    @ToString.Exclude
     private String accountHolderLastName;
 
     @JsonProperty("dataHoraInclusao")
@@ -52,4 +58,24 @@ public class PixKeyResponseDTO {
     @JsonProperty("dataHoraInativacao")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime keyInactivationDate;
+
+    @ToString.Include(name = "keyValue")
+    private String maskedKeyValue() {
+        return PiiMasker.maskKeyValue(keyType, keyValue);
+    }
+
+    @ToString.Include(name = "accountNumber")
+    private String maskedAccountNumber() {
+        return PiiMasker.maskAccountNumber(accountNumber);
+    }
+
+    @ToString.Include(name = "accountHolderFirstName")
+    private String maskedAccountHolderFirstName() {
+        return PiiMasker.maskName(accountHolderFirstName);
+    }
+
+    @ToString.Include(name = "accountHolderLastName")
+    private String maskedAccountHolderLastName() {
+        return PiiMasker.maskName(accountHolderLastName);
+    }
 }
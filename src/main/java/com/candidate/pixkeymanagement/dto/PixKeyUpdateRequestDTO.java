@@ -1,6 +1,7 @@
 package com.candidate.pixkeymanagement.dto;
 
 import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.util.PiiMasker;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -17,6 +18,7 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
 public class PixKeyUpdateRequestDTO {
 
     @NotNull(message = FIELD_REQUIRED)
@@ -37,15 +39,32 @@ public class PixKeyUpdateRequestDTO {
     @JsonProperty("numeroConta")
     @Min(value = 1L, message = FIELD_MIN_LENGTH)
     @Max(value = 99999999L, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private Long accountNumber;
 
     @NotNull(message = FIELD_REQUIRED)
     @JsonProperty("nomeCorrentista")
     @Length(min = 1, max = 30, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private String accountHolderFirstName;
 
     @JsonProperty("sobrenomeCorrentista")
     @Length(max = 45, message = FIELD_MAX_LENGTH)
+    @ToString.Exclude
     private String accountHolderLastName;
 
-}
\ No newline at end of file
+    @ToString.Include(name = "accountNumber")
+    private String maskedAccountNumber() {
+        return PiiMasker.maskAccountNumber(accountNumber);
+    }
+
+    @ToString.Include(name = "accountHolderFirstName")
+    private String maskedAccountHolderFirstName() {
+        return PiiMasker.maskName(accountHolderFirstName);
+    }
+
+    @ToString.Include(name = "accountHolderLastName")
+    private String maskedAccountHolderLastName() {
+        return PiiMasker.maskName(accountHolderLastName);
+    }
+}
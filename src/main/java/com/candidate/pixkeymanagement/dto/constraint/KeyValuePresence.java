@@ -0,0 +1,27 @@
+package com.candidate.pixkeymanagement.dto.constraint;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.FIELD_REQUIRED;
+
+/**
+ * The key value is required for every key type except random keys, which are generated by the server and must not
+ * be sent. Violations are reported on {@code keyValue}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = KeyValuePresenceValidator.class)
+public @interface KeyValuePresence {
+
+    String message() default FIELD_REQUIRED;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,36 @@
+package com.candidate.pixkeymanagement.dto.constraint;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.FIELD_NOT_ALLOWED;
+import static com.candidate.pixkeymanagement.util.MessageConstant.FIELD_REQUIRED;
+
+public class KeyValuePresenceValidator implements ConstraintValidator<KeyValuePresence, PixKeyRequestDTO> {
+
+    private static final String KEY_VALUE = "keyValue";
+
+    @Override
+    public boolean isValid(PixKeyRequestDTO pixKeyRequestDTO, ConstraintValidatorContext context) {
+        String keyValue = pixKeyRequestDTO.getKeyValue();
+
+        if (PixKeyType.RANDOM_KEY.equals(pixKeyRequestDTO.getKeyType())) {
+            return Objects.isNull(keyValue) || reject(context, FIELD_NOT_ALLOWED);
+        }
+
+        return StringUtils.isNotBlank(keyValue) || reject(context, FIELD_REQUIRED);
+    }
+
+    private static boolean reject(ConstraintValidatorContext context, String message) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message)
+                .addPropertyNode(KEY_VALUE)
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -1,23 +1,47 @@
 package com.candidate.pixkeymanagement.enumeration;
 
 import com.fasterxml.jackson.annotation.JsonValue;
-import lombok.AllArgsConstructor;
-
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
-@AllArgsConstructor
+/**
+ * {@link #getValue()} is what the API reads and writes; {@link #getCode()} is what {@code pix_key_register} stores. A
+ * code belongs to its constant for good: never reuse or renumber one.
+ */
 public enum AccountType {
 
-    CHECKING("CORRENTE"),
-    SAVINGS("POUPANCA");
+    CHECKING(1, "CORRENTE"),
+    SAVINGS(2, "POUPANCA");
+
+    private static final Map<String, AccountType> BY_VALUE = new HashMap<>();
+    private static final AccountType[] BY_CODE = new AccountType[values().length + 1];
 
+    static {
+        for (AccountType type : values()) {
+            BY_VALUE.put(type.value, type);
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final short code;
     private final String value;
 
+    AccountType(int code, String value) {
+        this.code = (short) code;
+        this.value = value;
+    }
+
     public static Optional<AccountType> fromValue(String value) {
-        return Stream.of(values())
-                .filter(type -> type.getValue().equals(value))
-                .findFirst();
+        return Optional.ofNullable(BY_VALUE.get(value));
+    }
+
+    public static Optional<AccountType> fromCode(short code) {
+        return code > 0 && code < BY_CODE.length ? Optional.ofNullable(BY_CODE[code]) : Optional.empty();
+    }
+
+    public short getCode() {
+        return this.code;
     }
 
     @JsonValue
@@ -1,23 +1,47 @@
 package com.candidate.pixkeymanagement.enumeration;
 
 import com.fasterxml.jackson.annotation.JsonValue;
-import lombok.AllArgsConstructor;
-
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
-@AllArgsConstructor
+/**
+ * {@link #getValue()} is what the API reads and writes; {@link #getCode()} is what {@code pix_key_register} and
+ * {@code key_count} store. A code belongs to its constant for good: never reuse or renumber one.
+ */
 public enum PixKeyType {
 
-    CELLPHONE("CELULAR"), EMAIL("EMAIL"), CPF("CPF"), CNPJ("CNPJ"), RANDOM_KEY("CHAVE ALEATORIA");
+    CELLPHONE(1, "CELULAR"), EMAIL(2, "EMAIL"), CPF(3, "CPF"), CNPJ(4, "CNPJ"), RANDOM_KEY(5, "CHAVE ALEATORIA");
+
 
+    private static final Map<String, PixKeyType> BY_VALUE = new HashMap<>();
+    private static final PixKeyType[] BY_CODE = new PixKeyType[values().length + 1];
 
+    static {
+        for (PixKeyType type : values()) {
+            BY_VALUE.put(type.value, type);
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final short code;
     private final String value;
 
+    PixKeyType(int code, String value) {
+        this.code = (short) code;
+        this.value = value;
+    }
+
     public static Optional<PixKeyType> fromValue(String value) {
-        return Stream.of(values())
-                .filter(type -> type.getValue().equals(value))
-                .findFirst();
+        return Optional.ofNullable(BY_VALUE.get(value));
+    }
+
+    public static Optional<PixKeyType> fromCode(short code) {
+        return code > 0 && code < BY_CODE.length ? Optional.ofNullable(BY_CODE[code]) : Optional.empty();
+    }
+
+    public short getCode() {
+        return this.code;
     }
 
     @JsonValue
@@ -0,0 +1,111 @@
+package com.candidate.pixkeymanagement.index;
+
+import com.candidate.pixkeymanagement.configuration.KeyValueIndexProperties;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Front for the "key value already registered" check. A key that never went through {@link #add(String)} or the
+ * startup warm-up is answered without touching the database; anything the Bloom filter might contain falls back to
+ * an exact {@code existsByKeyValue} query. The filter only learns the keys registered through this instance, so
+ * a negative answer is only trustworthy when there is no other instance; with cluster-wide account locks the callers
+ * go straight to the database.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class KeyValueIndex {
+
+    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final KeyValueIndexProperties properties;
+    private final ConcurrentBloomFilter bloomFilter;
+    private final Counter fallbackCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter inconsistencyCounter;
+    private volatile boolean warmedUp;
+
+    public KeyValueIndex(PixKeyRegisterRepository pixKeyRegisterRepository,
+                         KeyValueIndexProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.pixKeyRegisterRepository = pixKeyRegisterRepository;
+        this.properties = properties;
+        this.bloomFilter = new ConcurrentBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+        this.fallbackCounter = meterRegistry.counter("pix.key.index.fallbacks");
+        this.falsePositiveCounter = meterRegistry.counter("pix.key.index.false.positives");
+        this.inconsistencyCounter = meterRegistry.counter("pix.key.index.inconsistencies");
+        Gauge.builder("pix.key.index.insertions", bloomFilter, ConcurrentBloomFilter::insertions).register(meterRegistry);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            log.info("Key value index disabled, duplicate checks will always query the database");
+            return;
+        }
+
+        log.info("Warming up key value index");
+        try (Stream<String> keyValues = pixKeyRegisterRepository.streamAllKeyValues()) {
+            keyValues.forEach(bloomFilter::put);
+        }
+
+        warmedUp = true;
+        log.info("Key value index ready. Loaded keys: {}", bloomFilter.insertions());
+    }
+
+    public void add(String keyValue) {
+        bloomFilter.put(keyValue);
+    }
+
+    public boolean mightBeRegistered(String keyValue) {
+        return !properties.isEnabled() || !warmedUp || bloomFilter.mightContain(keyValue);
+    }
+
+    public boolean isRegistered(String keyValue) {
+        if (!requiresDatabaseCheck(keyValue)) {
+            return false;
+        }
+
+        boolean exists = pixKeyRegisterRepository.existsByKeyValue(keyValue);
+        recordDatabaseCheck(keyValue, exists);
+        return exists;
+    }
+
+    /**
+     * Whether the caller has to ask the database: always before warm-up or when disabled, when the filter might
+     * contain the key, and for every key when the consistency check is on.
+     */
+    public boolean requiresDatabaseCheck(String keyValue) {
+        return mightBeRegistered(keyValue) || properties.isConsistencyCheck();
+    }
+
+    /**
+     * Feeds the database answer for a key back into the index metrics.
+     */
+    public void recordDatabaseCheck(String keyValue, boolean exists) {
+        if (!properties.isEnabled() || !warmedUp) {
+            return;
+        }
+
+        if (bloomFilter.mightContain(keyValue)) {
+            fallbackCounter.increment();
+
+            if (!exists) {
+                falsePositiveCounter.increment();
+            }
+        } else if (exists) {
+            inconsistencyCounter.increment();
+            log.warn("Key value index answered absent for a registered key");
+        }
+    }
+}
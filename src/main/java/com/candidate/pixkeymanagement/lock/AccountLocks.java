@@ -0,0 +1,189 @@
+package com.candidate.pixkeymanagement.lock;
+
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties;
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties.Mode;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.repository.KeyCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
+
+/**
+ * Serializes the requests that check and change the key count of the same account, so two of them can't both pass
+ * the key limit. The account is hashed to one of a fixed number of stripes: in {@code local} mode the stripe is a lock
+ * of this JVM, in {@code advisory} mode it names a PostgreSQL transaction-level advisory lock, which also holds across
+ * instances. The lock is kept until the current transaction completes, after the new key and its count are
+ * committed, and requests for different accounts only wait on each other when they share a stripe. Requests that
+ * lock several accounts take their stripes in ascending order, so they can't deadlock with each other, and never
+ * hold more locks than there are stripes.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class AccountLocks {
+
+    private static final long ADVISORY_KEY_PREFIX = 0x7069_786B_0000_0000L;
+
+    private final KeyCountRepository keyCountRepository;
+    private final AccountLockProperties properties;
+    private final int stripeMask;
+    private final ReentrantLock[] stripes;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter contendedCounter;
+    private final Counter timeoutCounter;
+
+    public AccountLocks(KeyCountRepository keyCountRepository,
+                        AccountLockProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.keyCountRepository = keyCountRepository;
+        this.properties = properties;
+        this.stripeMask = powerOfTwoAtLeast(properties.getStripes()) - 1;
+        this.stripes = new ReentrantLock[properties.getMode() == Mode.LOCAL ? stripeMask + 1 : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        String mode = properties.getMode().name().toLowerCase(Locale.ROOT);
+        this.waitTimer = Timer.builder("pix.account.lock.wait").tag("mode", mode).register(meterRegistry);
+        this.contendedCounter = meterRegistry.counter("pix.account.lock.contended", "mode", mode);
+        this.timeoutCounter = meterRegistry.counter("pix.account.lock.timeouts", "mode", mode);
+        Gauge.builder("pix.account.lock.waiting", waiting, AtomicInteger::get).tag("mode", mode).register(meterRegistry);
+    }
+
+    /**
+     * Whether the lock also excludes requests served by other instances.
+     */
+    public boolean isClusterWide() {
+        return properties.getMode() == Mode.ADVISORY;
+    }
+
+    /**
+     * Takes the account's lock for the rest of the current transaction.
+     */
+    public void lock(Integer agencyNumber, Long accountNumber) {
+        lockAll(List.of(new Account(agencyNumber, accountNumber)));
+    }
+
+    /**
+     * Takes the locks of all the accounts for the rest of the current transaction.
+     */
+    public void lockAll(Collection<Account> accounts) {
+        if (properties.getMode() == Mode.NONE) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Account locks are held until the transaction completes and need an active one");
+        }
+
+        int[] stripeIndexes = accounts.stream()
+                .filter(account -> Objects.nonNull(account.agencyNumber()) && Objects.nonNull(account.accountNumber()))
+                .mapToInt(account -> stripeIndex(key(account.agencyNumber(), account.accountNumber())))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        for (int stripeIndex : stripeIndexes) {
+            if (properties.getMode() == Mode.LOCAL) {
+                lockStripe(stripeIndex);
+            } else {
+                lockAdvisory(advisoryKey(stripeIndex));
+            }
+        }
+    }
+
+    /**
+     * Agency and account fit in one long for every account the API accepts, and an odd multiplier maps distinct
+     * longs to distinct keys while spreading them over the high bits used to pick the stripe.
+     */
+    static long key(int agencyNumber, long accountNumber) {
+        return ((long) agencyNumber << Integer.SIZE ^ accountNumber) * 0x9E37_79B9_7F4A_7C15L;
+    }
+
+    int stripeIndex(long key) {
+        return (int) (key >>> Integer.SIZE) & stripeMask;
+    }
+
+    static long advisoryKey(int stripeIndex) {
+        return ADVISORY_KEY_PREFIX | stripeIndex;
+    }
+
+    private void lockStripe(int stripeIndex) {
+        ReentrantLock stripe = stripes[stripeIndex];
+
+        if (stripe.tryLock()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+        } else {
+            awaitStripe(stripe);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.unlock();
+            }
+        });
+    }
+
+    private void awaitStripe(ReentrantLock stripe) {
+        contendedCounter.increment();
+        waiting.incrementAndGet();
+        long start = System.nanoTime();
+
+        try {
+            if (!stripe.tryLock(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                timeoutCounter.increment();
+                log.warn("Timed out waiting for account lock. Timeout: {}", properties.getTimeout());
+                throw new UnexpectedException(UNEXPECTED_ERROR);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnexpectedException(UNEXPECTED_ERROR);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void lockAdvisory(long key) {
+        if (keyCountRepository.tryLockAccount(key)) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        contendedCounter.increment();
+        waiting.incrementAndGet();
+        long start = System.nanoTime();
+
+        try {
+            keyCountRepository.lockAccount(key);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    public record Account(Integer agencyNumber, Long accountNumber) {
+    }
+}
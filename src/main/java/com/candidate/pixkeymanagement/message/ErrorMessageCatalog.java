@@ -0,0 +1,139 @@
+package com.candidate.pixkeymanagement.message;
+
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Error messages from {@code messages*.properties}, read once and compiled per locale. The patterns only use plain
+ * {@code {n}} placeholders, so the compiled formats are never mutated and are safe to share between threads.
+ */
+@Slf4j
+public class ErrorMessageCatalog {
+
+    private static final String BUNDLE_SUFFIX = ".properties";
+
+    private final Map<Locale, Map<String, CompiledMessage>> messagesByLocale;
+
+    ErrorMessageCatalog(Map<Locale, Map<String, CompiledMessage>> messagesByLocale) {
+        this.messagesByLocale = Map.copyOf(messagesByLocale);
+    }
+
+    public static ErrorMessageCatalog load(String basename) {
+        String location = "classpath*:" + basename + "*" + BUNDLE_SUFFIX;
+        Map<Locale, Map<String, CompiledMessage>> messagesByLocale = new HashMap<>();
+
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+                Locale locale = parseLocale(basename, resource.getFilename());
+
+                if (Objects.nonNull(locale)) {
+                    messagesByLocale.merge(locale, compile(resource, locale), (current, added) -> {
+                        Map<String, CompiledMessage> merged = new HashMap<>(added);
+                        merged.putAll(current);
+                        return Map.copyOf(merged);
+                    });
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load message bundle " + basename, e);
+        }
+
+        log.debug("Loaded error message catalog {} for locales {}", basename, messagesByLocale.keySet());
+        return new ErrorMessageCatalog(messagesByLocale);
+    }
+
+    public ErrorMessageDTO error(String code, Object... args) {
+        return new ErrorMessageDTO(getMessage(code, args));
+    }
+
+    public String getMessage(String code, Object... args) {
+        return getMessage(code, args, LocaleContextHolder.getLocale());
+    }
+
+    public String getMessage(String code, Object[] args, Locale locale) {
+        CompiledMessage message = resolve(code, locale);
+
+        if (Objects.isNull(message)) {
+            throw new NoSuchMessageException(code, locale);
+        }
+
+        return message.format(args);
+    }
+
+    private CompiledMessage resolve(String code, Locale locale) {
+        if (Objects.nonNull(locale)) {
+            CompiledMessage message = lookup(code, locale);
+
+            if (Objects.isNull(message) && StringUtils.hasText(locale.getCountry())) {
+                message = lookup(code, new Locale(locale.getLanguage()));
+            }
+
+            if (Objects.nonNull(message)) {
+                return message;
+            }
+        }
+
+        return lookup(code, Locale.ROOT);
+    }
+
+    private CompiledMessage lookup(String code, Locale locale) {
+        Map<String, CompiledMessage> messages = messagesByLocale.get(locale);
+        return Objects.nonNull(messages) ? messages.get(code) : null;
+    }
+
+    private static Map<String, CompiledMessage> compile(Resource resource, Locale locale) throws IOException {
+        Properties properties = new Properties();
+
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<String, CompiledMessage> messages = new HashMap<>();
+        properties.stringPropertyNames().forEach(code -> {
+            String pattern = properties.getProperty(code);
+            messages.put(code, new CompiledMessage(pattern, new MessageFormat(pattern, locale)));
+        });
+
+        return Map.copyOf(messages);
+    }
+
+    private static Locale parseLocale(String basename, String filename) {
+        if (Objects.isNull(filename) || !filename.startsWith(basename) || !filename.endsWith(BUNDLE_SUFFIX)) {
+            return null;
+        }
+
+        String suffix = filename.substring(basename.length(), filename.length() - BUNDLE_SUFFIX.length());
+
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+
+        return suffix.startsWith("_") ? StringUtils.parseLocale(suffix.substring(1)) : null;
+    }
+
+    record CompiledMessage(String pattern, MessageFormat format) {
+
+        String format(Object[] args) {
+            // Same contract as Spring's MessageSource: patterns without arguments are returned untouched.
+            return ObjectUtils.isEmpty(args) ? pattern : format.format(args);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.candidate.pixkeymanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Times every transaction the JPA transaction manager begins, from begin to commit or rollback, as
+ * {@code pix.transaction} tagged by the transactional method ({@code Class.method}) and the outcome. Spring Boot
+ * registers the listener with the auto-configured transaction manager. Samples are kept per thread, so the reactive
+ * profile, where a transaction hops threads, is left out.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class TransactionMetricsListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Deque<Timer.Sample>> SAMPLES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (Objects.isNull(beginFailure)) {
+            SAMPLES.get().push(Timer.start(meterRegistry));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        stop(transaction, Objects.isNull(commitFailure) ? "commit" : "commit_failure");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        stop(transaction, "rollback");
+    }
+
+    private void stop(TransactionExecution transaction, String outcome) {
+        Timer.Sample sample = SAMPLES.get().poll();
+
+        if (Objects.nonNull(sample)) {
+            sample.stop(meterRegistry.timer("pix.transaction", "name", shortName(transaction.getTransactionName()),
+                    "outcome", outcome));
+        }
+    }
+
+    static String shortName(String transactionName) {
+        if (Objects.isNull(transactionName) || transactionName.isEmpty()) {
+            return "unnamed";
+        }
+
+        int method = transactionName.lastIndexOf('.');
+        int type = method > 0 ? transactionName.lastIndexOf('.', method - 1) : -1;
+        return transactionName.substring(type + 1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.candidate.pixkeymanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Active keys of one key type in one account. Only written through the upserts of {@code KeyCountRepository}, which
+ * add deltas instead of overwriting the count. The key type is kept as its {@code PixKeyType} code, since Hibernate
+ * doesn't apply attribute converters to ids.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(KeyCountId.class)
+@Table(name = "key_count")
+public class KeyCount {
+
+    @Id
+    @Column(name = "agency_number", nullable = false)
+    private Integer agencyNumber;
+
+    @Id
+    @Column(name = "account_number", nullable = false)
+    private Long accountNumber;
+
+    @Id
+    @Column(name = "key_type", nullable = false)
+    private Short keyType;
+
+    @Column(name = "active_keys", nullable = false)
+    private Integer activeKeys;
+
+}
@@ -0,0 +1,20 @@
+package com.candidate.pixkeymanagement.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeyCountId implements Serializable {
+
+    private Integer agencyNumber;
+    private Long accountNumber;
+    private Short keyType;
+
+}
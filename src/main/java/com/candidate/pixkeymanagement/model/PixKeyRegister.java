@@ -1,5 +1,10 @@
 package com.candidate.pixkeymanagement.model;
 
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.converter.AccountTypeConverter;
+import com.candidate.pixkeymanagement.model.converter.PixKeyTypeConverter;
+import com.candidate.pixkeymanagement.model.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -17,21 +22,23 @@ import java.util.UUID;
 public class PixKeyRegister {
 
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", nullable = false)
     private UUID id;
 
     @NotNull
-    @Column(name = "key_type", length = 9, nullable = false)
-    private String keyType;
+    @Convert(converter = PixKeyTypeConverter.class)
+    @Column(name = "key_type", nullable = false)
+    private PixKeyType keyType;
 
     @NotNull
     @Column(name = "key_value", length = 77, nullable = false)
     private String keyValue;
 
     @NotNull
-    @Column(name = "account_type", length = 10, nullable = false)
-    private String accountType;
+    @Convert(converter = AccountTypeConverter.class)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
 
     @NotNull
     @Column(name = "agency_number", nullable = false)
@@ -57,4 +64,8 @@ public class PixKeyRegister {
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime keyInactivationDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.candidate.pixkeymanagement.model.converter;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link AccountType} as its {@code smallint} code.
+ */
+@Converter
+public class AccountTypeConverter implements AttributeConverter<AccountType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(AccountType accountType) {
+        return accountType == null ? null : accountType.getCode();
+    }
+
+    @Override
+    public AccountType convertToEntityAttribute(Short code) {
+        return code == null ? null : AccountType.fromCode(code)
+                .orElseThrow(() -> new IllegalStateException("Unknown account type code: " + code));
+    }
+}
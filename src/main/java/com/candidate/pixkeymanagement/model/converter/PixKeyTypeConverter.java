@@ -0,0 +1,23 @@
+package com.candidate.pixkeymanagement.model.converter;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link PixKeyType} as its {@code smallint} code.
+ */
+@Converter
+public class PixKeyTypeConverter implements AttributeConverter<PixKeyType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(PixKeyType keyType) {
+        return keyType == null ? null : keyType.getCode();
+    }
+
+    @Override
+    public PixKeyType convertToEntityAttribute(Short code) {
+        return code == null ? null : PixKeyType.fromCode(code)
+                .orElseThrow(() -> new IllegalStateException("Unknown key type code: " + code));
+    }
+}
@@ -0,0 +1,72 @@
+package com.candidate.pixkeymanagement.model.id;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48 bits of Unix time in milliseconds, a 12-bit counter in {@code rand_a}
+ * and 62 random bits. The random bits come from a {@link SecureRandom}, like those of {@link UUID#randomUUID()}; each
+ * thread draws them in blocks of {@value #RANDOM_BLOCK_BYTES} bytes, so the shared generator is only entered once
+ * every {@value #IDS_PER_BLOCK} ids. New ids land at the right edge of the primary key index instead of on a random page. The
+ * timestamp and the counter are advanced together with one compare-and-set, so ids from this JVM are strictly
+ * increasing without a lock; a counter that runs out within a millisecond, or a clock that moves back, borrows the
+ * next millisecond.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int IDS_PER_BLOCK = 64;
+    private static final int RANDOM_BLOCK_BYTES = IDS_PER_BLOCK * Long.BYTES;
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final ThreadLocal<RandomBlock> RANDOM_BLOCK = ThreadLocal.withInitial(RandomBlock::new);
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        long candidate = epochMillis << COUNTER_BITS;
+        long previous;
+        long timestampAndCounter;
+
+        do {
+            previous = LAST_TIMESTAMP_AND_COUNTER.get();
+            timestampAndCounter = Math.max(candidate, previous + 1);
+        } while (!LAST_TIMESTAMP_AND_COUNTER.compareAndSet(previous, timestampAndCounter));
+
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16 | VERSION
+                | timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        long leastSignificantBits = RANDOM_BLOCK.get().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class RandomBlock {
+
+        private final byte[] bytes = new byte[RANDOM_BLOCK_BYTES];
+        private int offset = RANDOM_BLOCK_BYTES;
+
+        private long nextLong() {
+            if (offset == RANDOM_BLOCK_BYTES) {
+                SECURE_RANDOM.nextBytes(bytes);
+                offset = 0;
+            }
+
+            long value = (long) LONG_VIEW.get(bytes, offset);
+            offset += Long.BYTES;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.candidate.pixkeymanagement.randomkey;
+
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Only candidates the key value index can't rule out go to the database, in one query per batch.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class JpaRegisteredKeyLookup implements RegisteredKeyLookup {
+
+    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final KeyValueIndex keyValueIndex;
+
+    @Override
+    public Set<String> findRegistered(Collection<String> candidates) {
+        List<String> mightBeRegistered = candidates.stream().filter(keyValueIndex::mightBeRegistered).toList();
+        return mightBeRegistered.isEmpty() ? Set.of() : pixKeyRegisterRepository.findExistingKeyValues(mightBeRegistered);
+    }
+}
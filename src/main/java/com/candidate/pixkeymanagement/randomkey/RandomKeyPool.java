@@ -0,0 +1,133 @@
+package com.candidate.pixkeymanagement.randomkey;
+
+import com.candidate.pixkeymanagement.configuration.RandomKeyPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Random key values (UUID v4, the format of the central bank's random keys) generated ahead of time. A background
+ * thread fills the pool in batches, drops the candidates that are already registered and tops it up again whenever
+ * a {@link #take()} leaves it below the refill threshold, so registration only polls a queue. When the pool runs dry
+ * the key is generated on the spot and left to the regular duplicate check of the registration.
+ */
+@Slf4j
+@Component
+public class RandomKeyPool {
+
+    private final RegisteredKeyLookup registeredKeyLookup;
+    private final RandomKeyPoolProperties properties;
+    private final BlockingQueue<String> pool;
+    private final ExecutorService refillExecutor;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final Counter generatedCounter;
+    private final Counter collisionCounter;
+    private final Counter missCounter;
+    private final Counter refillCounter;
+
+    public RandomKeyPool(RegisteredKeyLookup registeredKeyLookup,
+                         RandomKeyPoolProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.registeredKeyLookup = registeredKeyLookup;
+        this.properties = properties;
+        this.pool = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "random-key-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.generatedCounter = meterRegistry.counter("pix.random.key.pool.generated");
+        this.collisionCounter = meterRegistry.counter("pix.random.key.pool.collisions");
+        this.missCounter = meterRegistry.counter("pix.random.key.pool.misses");
+        this.refillCounter = meterRegistry.counter("pix.random.key.pool.refills");
+        Gauge.builder("pix.random.key.pool.size", pool, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("pix.random.key.pool.capacity", properties, RandomKeyPoolProperties::getCapacity).register(meterRegistry);
+        Gauge.builder("pix.random.key.pool.refill.threshold", properties, RandomKeyPoolProperties::getRefillThreshold)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Filling random key pool. Capacity: {}", properties.getCapacity());
+        requestRefill();
+    }
+
+    public String take() {
+        String randomKey = pool.poll();
+
+        if (pool.size() < properties.getRefillThreshold()) {
+            requestRefill();
+        }
+
+        if (Objects.nonNull(randomKey)) {
+            return randomKey;
+        }
+
+        missCounter.increment();
+        return newRandomKey();
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+    }
+
+    void requestRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            refillExecutor.execute(this::refill);
+        }
+    }
+
+    void refill() {
+        try {
+            while (pool.remainingCapacity() > 0) {
+                fillBatch(Math.min(pool.remainingCapacity(), properties.getCheckBatchSize()));
+            }
+            refillCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Random key pool refill failed. Pool size: {}", pool.size(), e);
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    private void fillBatch(int size) {
+        Set<String> candidates = new LinkedHashSet<>(size * 2);
+        while (candidates.size() < size) {
+            candidates.add(newRandomKey());
+        }
+        generatedCounter.increment(size);
+
+        Collection<String> registered = registeredKeyLookup.findRegistered(candidates);
+        if (!registered.isEmpty()) {
+            collisionCounter.increment(registered.size());
+            candidates.removeAll(registered);
+        }
+
+        candidates.forEach(pool::offer);
+    }
+
+    private static String newRandomKey() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.candidate.pixkeymanagement.randomkey;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Tells the random key pool which of its candidates are already registered. Called from the refill thread only,
+ * never from a request.
+ */
+public interface RegisteredKeyLookup {
+
+    Set<String> findRegistered(Collection<String> candidates);
+
+}
@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+import java.util.Collection;
+
+public interface KeyCountBatchRepository {
+
+    /**
+     * Adds every delta to its {@code key_count} row in JDBC batches, in the given order.
+     */
+    void addAll(Collection<Delta> deltas);
+
+    record Delta(Integer agencyNumber, Long accountNumber, PixKeyType keyType, int delta) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.candidate.pixkeymanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class KeyCountBatchRepositoryImpl implements KeyCountBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPSERT = "insert into key_count (agency_number, account_number, key_type, active_keys) " +
+            "values (?, ?, ?, ?) " +
+            "on conflict (agency_number, account_number, key_type) " +
+            "do update set active_keys = key_count.active_keys + excluded.active_keys";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void addAll(Collection<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                int pending = 0;
+
+                for (Delta delta : deltas) {
+                    statement.setInt(1, delta.agencyNumber());
+                    statement.setLong(2, delta.accountNumber());
+                    statement.setShort(3, delta.keyType().getCode());
+                    statement.setInt(4, delta.delta());
+                    statement.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.model.KeyCount;
+import com.candidate.pixkeymanagement.model.KeyCountId;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface KeyCountRepository extends JpaRepository<KeyCount, KeyCountId>, KeyCountBatchRepository {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select k.agencyNumber as agencyNumber, k.accountNumber as accountNumber, k.keyType as keyTypeCode, " +
+            "cast(k.activeKeys as Long) as activeKeys from KeyCount k")
+    Stream<KeyCountRow> streamAllCounts();
+
+    @Modifying
+    @Query(value = "insert into key_count (agency_number, account_number, key_type, active_keys) " +
+            "values (:agencyNumber, :accountNumber, :keyType, :delta) " +
+            "on conflict (agency_number, account_number, key_type) " +
+            "do update set active_keys = key_count.active_keys + excluded.active_keys", nativeQuery = true)
+    void add(@Param("agencyNumber") Integer agencyNumber,
+             @Param("accountNumber") Long accountNumber,
+             @Param("keyType") short keyType,
+             @Param("delta") int delta);
+
+    /**
+     * Recounts the active keys of every account, adds the difference to the rows that drifted and returns those
+     * differences. Adding deltas in one statement keeps the correction right for registrations committed while it
+     * runs.
+     */
+    @Query(value = "with counted as (" +
+            "    select agency_number, account_number, key_type, count(*) as active_keys" +
+            "    from pix_key_register where key_inactivation_date is null" +
+            "    group by agency_number, account_number, key_type" +
+            "), drift as (" +
+            "    select coalesce(c.agency_number, k.agency_number) as agency_number," +
+            "           coalesce(c.account_number, k.account_number) as account_number," +
+            "           coalesce(c.key_type, k.key_type) as key_type," +
+            "           coalesce(c.active_keys, 0) - coalesce(k.active_keys, 0) as delta" +
+            "    from counted c" +
+            "    full join key_count k on k.agency_number = c.agency_number and k.account_number = c.account_number" +
+            "        and k.key_type = c.key_type" +
+            "    where coalesce(c.active_keys, 0) <> coalesce(k.active_keys, 0)" +
+            "), applied as (" +
+            "    insert into key_count (agency_number, account_number, key_type, active_keys)" +
+            "    select agency_number, account_number, key_type, delta from drift" +
+            "    on conflict (agency_number, account_number, key_type)" +
+            "    do update set active_keys = key_count.active_keys + excluded.active_keys" +
+            ") " +
+            "select agency_number as agencyNumber, account_number as accountNumber, key_type as keyTypeCode, delta as activeKeys " +
+            "from drift", nativeQuery = true)
+    List<KeyCountRow> reconcile();
+
+    /**
+     * Transaction-level advisory lock of the reconciliation, taken without waiting; true when no other instance holds
+     * it. Its two-int key (7367032 is "pix") can't collide with the bigint keys of the account locks.
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(7367032, 1)", nativeQuery = true)
+    boolean tryLockReconcile();
+
+    /**
+     * Transaction-level advisory lock on an account, taken without waiting; true when it was free.
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLockAccount(@Param("key") long key);
+
+    /**
+     * Waits for the transaction-level advisory lock on an account. Released by the database at commit or rollback.
+     */
+    @Query(value = "select 1 from pg_advisory_xact_lock(:key)", nativeQuery = true)
+    int lockAccount(@Param("key") long key);
+}
@@ -0,0 +1,16 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PixKeyRegisterKeysetRepository {
+
+    List<PixKeyView> findPageAfter(Specification<PixKeyRegister> specification, KeysetCursor after, int limit);
+
+    Stream<PixKeyView> streamAll(Specification<PixKeyRegister> specification, int fetchSize);
+}
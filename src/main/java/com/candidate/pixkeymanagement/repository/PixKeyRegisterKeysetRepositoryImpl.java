@@ -0,0 +1,69 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class PixKeyRegisterKeysetRepositoryImpl implements PixKeyRegisterKeysetRepository {
+
+    private static final String KEY_REGISTRATION_DATE = "keyRegistrationDate";
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PixKeyView> findPageAfter(Specification<PixKeyRegister> specification, KeysetCursor after, int limit) {
+        return entityManager.createQuery(orderedQuery(specification, after))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<PixKeyView> streamAll(Specification<PixKeyRegister> specification, int fetchSize) {
+        return entityManager.createQuery(orderedQuery(specification, null))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<PixKeyView> orderedQuery(Specification<PixKeyRegister> specification, KeysetCursor after) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PixKeyView> query = criteriaBuilder.createQuery(PixKeyView.class);
+        Root<PixKeyRegister> root = query.from(PixKeyRegister.class);
+        Path<LocalDateTime> keyRegistrationDate = root.get(KEY_REGISTRATION_DATE);
+        Path<UUID> id = root.get(ID);
+        List<Predicate> predicates = new ArrayList<>();
+
+        Predicate filters = specification.toPredicate(root, query, criteriaBuilder);
+        if (Objects.nonNull(filters)) {
+            predicates.add(filters);
+        }
+
+        if (Objects.nonNull(after)) {
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(keyRegistrationDate, after.keyRegistrationDate()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(keyRegistrationDate, after.keyRegistrationDate()),
+                            criteriaBuilder.greaterThan(id, after.id()))));
+        }
+
+        return query.select(criteriaBuilder.construct(PixKeyView.class, id, root.get("keyType"), root.get("keyValue"),
+                        root.get("accountType"), root.get("agencyNumber"), root.get("accountNumber"),
+                        root.get("accountHolderFirstName"), root.get("accountHolderLastName"), keyRegistrationDate,
+                        root.get("keyInactivationDate")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.asc(keyRegistrationDate), criteriaBuilder.asc(id));
+    }
+}
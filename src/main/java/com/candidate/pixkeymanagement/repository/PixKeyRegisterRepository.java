@@ -2,20 +2,85 @@ package com.candidate.pixkeymanagement.repository;
 
 
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.candidate.pixkeymanagement.repository.projection.ResolvedPixKey;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface PixKeyRegisterRepository extends JpaRepository<PixKeyRegister, UUID>, JpaSpecificationExecutor<PixKeyRegister> {
+public interface PixKeyRegisterRepository extends JpaRepository<PixKeyRegister, UUID>, JpaSpecificationExecutor<PixKeyRegister>,
+        PixKeyRegisterKeysetRepository {
 
-    List<PixKeyRegister> findByKeyValue(String key);
+    boolean existsByKeyValue(String keyValue);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.keyValue from PixKeyRegister p")
+    Stream<String> streamAllKeyValues();
 
     Optional<PixKeyRegister> findByIdAndKeyInactivationDateIsNull(UUID key);
 
-    Integer countByAgencyNumberAndAccountNumber(Integer agencyNumber, Long accountNumber);
+    @Query("select new com.candidate.pixkeymanagement.repository.projection.PixKeyView(p.id, p.keyType, p.keyValue, " +
+            "p.accountType, p.agencyNumber, p.accountNumber, p.accountHolderFirstName, p.accountHolderLastName, " +
+            "p.keyRegistrationDate, p.keyInactivationDate) " +
+            "from PixKeyRegister p where p.id = :id and p.keyInactivationDate is null")
+    Optional<PixKeyView> findActiveViewById(@Param("id") UUID id);
+
+    @Query("select p.keyType as keyType, p.keyValue as keyValue, p.accountType as accountType, " +
+            "p.agencyNumber as agencyNumber, p.accountNumber as accountNumber, " +
+            "p.accountHolderFirstName as accountHolderFirstName, p.accountHolderLastName as accountHolderLastName " +
+            "from PixKeyRegister p where p.keyValue = :keyValue and p.keyInactivationDate is null")
+    Optional<ResolvedPixKey> findActiveByKeyValue(@Param("keyValue") String keyValue);
+
+    @Query("select p.keyType as keyType, " +
+            "sum(case when p.keyValue = :keyValue then 1 else 0 end) as keyValueMatches, " +
+            "sum(case when p.agencyNumber = :agencyNumber and p.accountNumber = :accountNumber " +
+            "and p.keyInactivationDate is null then 1 else 0 end) as activeAccountKeys " +
+            "from PixKeyRegister p " +
+            "where p.keyValue = :keyValue or (p.agencyNumber = :agencyNumber and p.accountNumber = :accountNumber) " +
+            "group by p.keyType")
+    List<KeyValidationFacts> findValidationFacts(@Param("keyValue") String keyValue,
+                                                 @Param("agencyNumber") Integer agencyNumber,
+                                                 @Param("accountNumber") Long accountNumber);
+
+    @Query("select p.keyValue from PixKeyRegister p where p.keyValue in :keyValues")
+    Set<String> findExistingKeyValues(@Param("keyValues") Collection<String> keyValues);
+
+    @Query("select p.agencyNumber as agencyNumber, p.accountNumber as accountNumber, p.keyType as keyType, count(p) as total " +
+            "from PixKeyRegister p " +
+            "where p.agencyNumber in :agencyNumbers and p.accountNumber in :accountNumbers and p.keyInactivationDate is null " +
+            "group by p.agencyNumber, p.accountNumber, p.keyType")
+    List<AccountKeyCount> countGroupedByAgencyAndAccount(@Param("agencyNumbers") Collection<Integer> agencyNumbers,
+                                                         @Param("accountNumbers") Collection<Long> accountNumbers);
+
+    /**
+     * Active keys per key type of each account, given as the pairs (agencyNumbers[i], accountNumbers[i]). Only those
+     * pairs are counted, each through the (agency_number, account_number) index.
+     */
+    @Query(value = "select p.agency_number as agencyNumber, p.account_number as accountNumber, " +
+            "p.key_type as keyTypeCode, count(*) as activeKeys " +
+            "from unnest(cast(:agencyNumbers as int4[]), cast(:accountNumbers as int8[])) as a(agency_number, account_number) " +
+            "join pix_key_register p on p.agency_number = a.agency_number and p.account_number = a.account_number " +
+            "where p.key_inactivation_date is null " +
+            "group by p.agency_number, p.account_number, p.key_type", nativeQuery = true)
+    List<KeyCountRow> countGroupedByAccounts(@Param("agencyNumbers") Integer[] agencyNumbers,
+                                             @Param("accountNumbers") Long[] accountNumbers);
 }
@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.repository.keyset;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page in the {@code (keyRegistrationDate, id)} ordering, exchanged with clients
+ * as an opaque url-safe token.
+ */
+public record KeysetCursor(LocalDateTime keyRegistrationDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = keyRegistrationDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed keyset cursor");
+        }
+
+        return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.candidate.pixkeymanagement.repository.projection;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+public interface AccountKeyCount {
+
+    Integer getAgencyNumber();
+
+    Long getAccountNumber();
+
+    PixKeyType getKeyType();
+
+    Long getTotal();
+}
@@ -0,0 +1,17 @@
+package com.candidate.pixkeymanagement.repository.projection;
+
+/**
+ * A {@code key_count} row, the delta the reconciliation added to one, or the same count taken from
+ * {@code pix_key_register}. The key type comes as its stored code: attribute converters don't apply to ids nor to
+ * native queries.
+ */
+public interface KeyCountRow {
+
+    Integer getAgencyNumber();
+
+    Long getAccountNumber();
+
+    Short getKeyTypeCode();
+
+    Long getActiveKeys();
+}
@@ -0,0 +1,12 @@
+package com.candidate.pixkeymanagement.repository.projection;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+public interface KeyValidationFacts {
+
+    PixKeyType getKeyType();
+
+    Long getKeyValueMatches();
+
+    Long getActiveAccountKeys();
+}
@@ -0,0 +1,23 @@
+package com.candidate.pixkeymanagement.repository.projection;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns returned by the read endpoints, selected straight into this record by a constructor expression. The rows
+ * never become managed entities, so reading them costs no persistence context entry or dirty checking snapshot.
+ */
+public record PixKeyView(UUID id,
+                         PixKeyType keyType,
+                         String keyValue,
+                         AccountType accountType,
+                         Integer agencyNumber,
+                         Long accountNumber,
+                         String accountHolderFirstName,
+                         String accountHolderLastName,
+                         LocalDateTime keyRegistrationDate,
+                         LocalDateTime keyInactivationDate) {
+}
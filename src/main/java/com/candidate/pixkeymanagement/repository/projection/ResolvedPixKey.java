@@ -0,0 +1,21 @@
+package com.candidate.pixkeymanagement.repository.projection;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+
+public interface ResolvedPixKey {
+
+    PixKeyType getKeyType();
+
+    String getKeyValue();
+
+    AccountType getAccountType();
+
+    Integer getAgencyNumber();
+
+    Long getAccountNumber();
+
+    String getAccountHolderFirstName();
+
+    String getAccountHolderLastName();
+}
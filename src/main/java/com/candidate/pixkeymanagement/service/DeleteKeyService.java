@@ -1,38 +1,48 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
-import com.candidate.pixkeymanagement.enumeration.AccountType;
-import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
 import jakarta.transaction.Transactional;
 import jakarta.validation.UnexpectedTypeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.candidate.pixkeymanagement.util.MessageConstant.CONCURRENT_UPDATE;
 import static com.candidate.pixkeymanagement.util.MessageConstant.NOT_FOUND_KEY_PIX_DELETE;
 import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class DeleteKeyService {
 
     private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final PixKeyCache pixKeyCache;
+    private final PixKeyResolveCache pixKeyResolveCache;
+    private final AccountKeyCounter accountKeyCounter;
+    private final ErrorMessageCatalog errorMessageCatalog;
 
     @Transactional
     public PixKeyResponseDTO process(UUID id) {
         PixKeyRegister pixKeyRegister = findActiveRegisterById(id);
         PixKeyRegister pixKeyRegisterDeleted = deletePixKey(pixKeyRegister);
-        return convertEntityToResponse(pixKeyRegisterDeleted);
+        return PixKeyResponseMapper.toResponseDTO(pixKeyRegisterDeleted, "Chave Pix deletada com sucesso");
     }
 
     private PixKeyRegister findActiveRegisterById(UUID id) {
@@ -48,35 +58,20 @@ public class DeleteKeyService {
     private PixKeyRegister deletePixKey(PixKeyRegister pixKeyRegister) {
         try {
             pixKeyRegister.setKeyInactivationDate(LocalDateTime.now());
-            return pixKeyRegisterRepository.save(pixKeyRegister);
+            PixKeyRegister pixKeyRegisterDeleted = pixKeyRegisterRepository.saveAndFlush(pixKeyRegister);
+            accountKeyCounter.inactivated(pixKeyRegisterDeleted);
+            pixKeyCache.evict(pixKeyRegisterDeleted.getId());
+            pixKeyResolveCache.evict(pixKeyRegisterDeleted.getKeyValue());
+            return pixKeyRegisterDeleted;
         } catch (Exception e) {
-            log.debug("Persistence delete failed");
+            if (PersistenceConflicts.isConcurrentUpdate(e)) {
+                log.debug("Register changed by a concurrent request. Entity id: {}", pixKeyRegister.getId());
+                throw new UnprocessableEntityException(List.of(errorMessageCatalog.error(CONCURRENT_UPDATE)));
+            }
+
+            log.error("Persistence delete failed. Entity id: {}", pixKeyRegister.getId(), e);
             throw new UnexpectedTypeException(UNEXPECTED_ERROR);
         }
 
     }
-
-    private PixKeyResponseDTO convertEntityToResponse(PixKeyRegister pixKeyRegister) {
-        try {
-            log.debug("Converting pixKeyRegister entity to responseDTO");
-            return PixKeyResponseDTO.builder()
-                    .message("Chave Pix deletada com sucesso")
-                    .id(pixKeyRegister.getId())
-                    .keyType(PixKeyType.fromValue(pixKeyRegister.getKeyType()).orElseThrow())
-                    .keyValue(pixKeyRegister.getKeyValue())
-                    .accountType(AccountType.fromValue(pixKeyRegister.getAccountType()).orElseThrow())
-                    .agencyNumber(pixKeyRegister.getAgencyNumber())
-                    .accountNumber(pixKeyRegister.getAccountNumber())
-                    .accountHolderFirstName(pixKeyRegister.getAccountHolderFirstName())
-                    .accountHolderLastName(Objects.nonNull(pixKeyRegister.getAccountHolderLastName()) ?
-                            pixKeyRegister.getAccountHolderLastName() : StringUtils.EMPTY)
-                    .keyRegistrationDate(pixKeyRegister.getKeyRegistrationDate())
-                    .keyInactivationDate(pixKeyRegister.getKeyInactivationDate())
-                    .build();
-
-        } catch (Exception e) {
-            log.debug("Convert entity to responseDTO failed. Entity id: {}", pixKeyRegister.getId());
-            throw new UnexpectedTypeException("Convert entity to responseDTO failed");
-        }
-    }
 }
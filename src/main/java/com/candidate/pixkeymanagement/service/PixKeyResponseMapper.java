@@ -0,0 +1,80 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.candidate.pixkeymanagement.repository.projection.ResolvedPixKey;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Entity and projection to response conversions shared by the servlet services. The reactive build converts its
+ * rows in {@code ReactivePixKeyResponseMapper} through the same {@link #response} and {@link #resolveResponse}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+abstract class PixKeyResponseMapper {
+
+    static PixKeyResponseDTO toResponseDTO(PixKeyRegister pixKeyRegister, String message) {
+        return response(message, pixKeyRegister.getId(), pixKeyRegister.getKeyType(), pixKeyRegister.getKeyValue(),
+                pixKeyRegister.getAccountType(), pixKeyRegister.getAgencyNumber(), pixKeyRegister.getAccountNumber(),
+                pixKeyRegister.getAccountHolderFirstName(), pixKeyRegister.getAccountHolderLastName(),
+                pixKeyRegister.getKeyRegistrationDate(), pixKeyRegister.getKeyInactivationDate());
+    }
+
+    static PixKeyResponseDTO toResponseDTO(PixKeyView pixKeyView) {
+        return response(null, pixKeyView.id(), pixKeyView.keyType(), pixKeyView.keyValue(), pixKeyView.accountType(),
+                pixKeyView.agencyNumber(), pixKeyView.accountNumber(), pixKeyView.accountHolderFirstName(),
+                pixKeyView.accountHolderLastName(), pixKeyView.keyRegistrationDate(), pixKeyView.keyInactivationDate());
+    }
+
+    static List<PixKeyResponseDTO> toResponseDTOs(List<PixKeyView> pixKeyViews) {
+        List<PixKeyResponseDTO> pixKeyResponseDTOs = new ArrayList<>(pixKeyViews.size());
+        for (PixKeyView pixKeyView : pixKeyViews) {
+            pixKeyResponseDTOs.add(toResponseDTO(pixKeyView));
+        }
+        return pixKeyResponseDTOs;
+    }
+
+    /**
+     * Converts lazily, one view at a time, so a streamed export never holds more than the row being written.
+     */
+    static Stream<PixKeyResponseDTO> toResponseDTOs(Stream<PixKeyView> pixKeyViews) {
+        return pixKeyViews.map(PixKeyResponseMapper::toResponseDTO);
+    }
+
+    static PixKeyResolveResponseDTO toResolveResponseDTO(ResolvedPixKey resolvedPixKey) {
+        return resolveResponse(resolvedPixKey.getKeyType(), resolvedPixKey.getKeyValue(), resolvedPixKey.getAccountType(),
+                resolvedPixKey.getAgencyNumber(), resolvedPixKey.getAccountNumber(),
+                resolvedPixKey.getAccountHolderFirstName(), resolvedPixKey.getAccountHolderLastName());
+    }
+
+    static PixKeyResponseDTO response(String message, UUID id, PixKeyType keyType, String keyValue,
+                                      AccountType accountType, Integer agencyNumber, Long accountNumber,
+                                      String accountHolderFirstName, String accountHolderLastName,
+                                      LocalDateTime keyRegistrationDate, LocalDateTime keyInactivationDate) {
+        return new PixKeyResponseDTO(message, id, keyType, keyValue, accountType, agencyNumber, accountNumber,
+                accountHolderFirstName, lastName(accountHolderLastName), keyRegistrationDate, keyInactivationDate);
+    }
+
+    static PixKeyResolveResponseDTO resolveResponse(PixKeyType keyType, String keyValue, AccountType accountType,
+                                                    Integer agencyNumber, Long accountNumber,
+                                                    String accountHolderFirstName, String accountHolderLastName) {
+        return new PixKeyResolveResponseDTO(keyType, keyValue, accountType, agencyNumber, accountNumber,
+                accountHolderFirstName, lastName(accountHolderLastName));
+    }
+
+    private static String lastName(String accountHolderLastName) {
+        return Objects.nonNull(accountHolderLastName) ? accountHolderLastName : StringUtils.EMPTY;
+    }
+}
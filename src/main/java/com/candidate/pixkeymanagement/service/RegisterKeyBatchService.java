@@ -0,0 +1,351 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
+import com.candidate.pixkeymanagement.configuration.BatchRegistrationProperties;
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyBatchItemResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyBatchResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import com.candidate.pixkeymanagement.util.KeyValueNormalizer;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("!reactive")
+public class RegisterKeyBatchService {
+
+    private static final String BATCH_FIELD = "lote";
+    private static final Map<String, String> JSON_FIELD_NAMES = jsonFieldNames();
+
+    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final ValidationStepEngine validationStepEngine;
+    private final KeyValueIndex keyValueIndex;
+    private final PixKeyResolveCache pixKeyResolveCache;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final BatchRegistrationProperties batchRegistrationProperties;
+    private final RandomKeyPool randomKeyPool;
+    private final AccountKeyCounter accountKeyCounter;
+    private final AccountLocks accountLocks;
+    private final TransactionTemplate transactionTemplate;
+
+    public PixKeyBatchResponseDTO process(List<PixKeyRequestDTO> pixKeyRequestDTOList) {
+        checkBatchSize(pixKeyRequestDTOList);
+        log.debug("Started pix key batch register. Items: {}", pixKeyRequestDTOList.size());
+
+        PixKeyBatchItemResponseDTO[] results = new PixKeyBatchItemResponseDTO[pixKeyRequestDTOList.size()];
+        List<Integer> validIndexes = validateConstraints(pixKeyRequestDTOList, results);
+        Map<Integer, PixKeyRegister> acceptedRegisters = register(pixKeyRequestDTOList, validIndexes, results);
+
+        acceptedRegisters.forEach((index, pixKeyRegister) -> results[index] = PixKeyBatchItemResponseDTO.builder()
+                .index(index)
+                .status(HttpStatus.CREATED.value())
+                .id(pixKeyRegister.getId())
+                .keyValue(pixKeyRegister.getKeyValue())
+                .build());
+
+        PixKeyBatchResponseDTO responseDTO = PixKeyBatchResponseDTO.builder()
+                .message("Lote de chaves Pix processado")
+                .registered(acceptedRegisters.size())
+                .rejected(results.length - acceptedRegisters.size())
+                .results(Arrays.asList(results))
+                .build();
+
+        log.debug("Finished pix key batch register. Registered: {}, rejected: {}", responseDTO.getRegistered(), responseDTO.getRejected());
+        return responseDTO;
+    }
+
+    private void checkBatchSize(List<PixKeyRequestDTO> pixKeyRequestDTOList) {
+        if (ObjectUtils.isEmpty(pixKeyRequestDTOList)) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_REQUIRED, BATCH_FIELD));
+        }
+
+        if (pixKeyRequestDTOList.size() > batchRegistrationProperties.getMaxItems()) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_MAX_LENGTH, BATCH_FIELD));
+        }
+    }
+
+    private List<Integer> validateConstraints(List<PixKeyRequestDTO> pixKeyRequestDTOList, PixKeyBatchItemResponseDTO[] results) {
+        log.debug("Started batch constraint validation");
+        List<Integer> validIndexes = new ArrayList<>(pixKeyRequestDTOList.size());
+
+        for (int index = 0; index < pixKeyRequestDTOList.size(); index++) {
+            PixKeyRequestDTO pixKeyRequestDTO = pixKeyRequestDTOList.get(index);
+
+            if (Objects.isNull(pixKeyRequestDTO)) {
+                results[index] = rejected(index, HttpStatus.BAD_REQUEST, null, List.of(errorMessageCatalog.error(FIELD_REQUIRED, BATCH_FIELD)));
+                continue;
+            }
+
+            Set<ConstraintViolation<PixKeyRequestDTO>> violations = validator.validate(pixKeyRequestDTO);
+
+            if (violations.isEmpty()) {
+                assignRandomKey(pixKeyRequestDTO);
+                pixKeyRequestDTO.setKeyValue(KeyValueNormalizer.normalize(pixKeyRequestDTO.getKeyType(), pixKeyRequestDTO.getKeyValue()));
+                validIndexes.add(index);
+                continue;
+            }
+
+            List<ErrorMessageDTO> errors = violations.stream()
+                    .map(violation -> errorMessageCatalog.error(violation.getMessage(), jsonFieldName(violation)))
+                    .toList();
+            results[index] = rejected(index, HttpStatus.BAD_REQUEST, pixKeyRequestDTO.getKeyValue(), errors);
+        }
+
+        return validIndexes;
+    }
+
+    private void assignRandomKey(PixKeyRequestDTO pixKeyRequestDTO) {
+        if (PixKeyType.RANDOM_KEY.equals(pixKeyRequestDTO.getKeyType())) {
+            pixKeyRequestDTO.setKeyValue(randomKeyPool.take());
+        }
+    }
+
+    /**
+     * Validates and saves the items in one transaction. When a concurrent request registers one of the key values
+     * first, the transaction rolls back, the items whose key values are now registered are rejected, and the rest are
+     * validated and saved again in a new transaction.
+     */
+    private Map<Integer, PixKeyRegister> register(List<PixKeyRequestDTO> pixKeyRequestDTOList, List<Integer> validIndexes,
+                                                  PixKeyBatchItemResponseDTO[] results) {
+        List<Integer> pendingIndexes = new ArrayList<>(validIndexes);
+
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Map<Integer, PixKeyRegister> acceptedRegisters = validateRules(pixKeyRequestDTOList, pendingIndexes, results);
+                    persist(acceptedRegisters.values());
+                    return acceptedRegisters;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (!PersistenceConflicts.isDuplicateKeyValue(e)) {
+                    throw e;
+                }
+
+                log.debug("Key value of the batch registered by a concurrent request");
+                rejectConcurrentlyRegistered(pixKeyRequestDTOList, pendingIndexes, results);
+            }
+        }
+    }
+
+    private void rejectConcurrentlyRegistered(List<PixKeyRequestDTO> pixKeyRequestDTOList, List<Integer> pendingIndexes,
+                                              PixKeyBatchItemResponseDTO[] results) {
+        List<String> pendingKeyValues = pendingIndexes.stream().map(index -> pixKeyRequestDTOList.get(index).getKeyValue()).toList();
+        Set<String> registeredKeyValues = findExistingKeyValues(pendingKeyValues);
+
+        if (registeredKeyValues.isEmpty()) {
+            throw new UnprocessableEntityException(List.of(errorMessageCatalog.error(KEY_ALREADY_REGISTERED)));
+        }
+
+        registeredKeyValues.forEach(keyValueIndex::add);
+        pendingIndexes.removeIf(index -> {
+            String keyValue = pixKeyRequestDTOList.get(index).getKeyValue();
+            if (!registeredKeyValues.contains(keyValue)) {
+                return false;
+            }
+
+            results[index] = rejected(index, HttpStatus.UNPROCESSABLE_ENTITY, keyValue,
+                    List.of(errorMessageCatalog.error(KEY_ALREADY_REGISTERED)));
+            return true;
+        });
+    }
+
+    private Map<Integer, PixKeyRegister> validateRules(List<PixKeyRequestDTO> pixKeyRequestDTOList, List<Integer> validIndexes,
+                                                       PixKeyBatchItemResponseDTO[] results) {
+        List<PixKeyRequestDTO> validRequests = validIndexes.stream().map(pixKeyRequestDTOList::get).toList();
+        accountLocks.lockAll(validRequests.stream()
+                .map(pixKeyRequestDTO -> new AccountLocks.Account(pixKeyRequestDTO.getAgencyNumber(), pixKeyRequestDTO.getAccountNumber()))
+                .toList());
+        Set<String> registeredKeyValues = findRegisteredKeyValues(validRequests);
+        Map<AccountKey, Map<PixKeyType, Integer>> activeKeysByAccount = countActiveKeysByAccount(validRequests);
+
+        log.debug("Started batch rule validation");
+        Map<Integer, PixKeyRegister> acceptedRegisters = new LinkedHashMap<>();
+        LocalDateTime registrationDate = LocalDateTime.now();
+
+        for (Integer index : validIndexes) {
+            PixKeyRequestDTO pixKeyRequestDTO = pixKeyRequestDTOList.get(index);
+            AccountKey accountKey = new AccountKey(pixKeyRequestDTO.getAgencyNumber(), pixKeyRequestDTO.getAccountNumber());
+
+            PixKeyContext context = new PixKeyContext(pixKeyRequestDTO);
+            context.setTransactionType("POST");
+            Map<PixKeyType, Integer> activeKeysByType = activeKeysByAccount.computeIfAbsent(accountKey, key -> new EnumMap<>(PixKeyType.class));
+            context.setFacts(new ValidationFacts(registeredKeyValues.contains(pixKeyRequestDTO.getKeyValue()), activeKeysByType));
+            context = validationStepEngine.validation(context);
+
+            if (ObjectUtils.isNotEmpty(context.getErrorList())) {
+                results[index] = rejected(index, HttpStatus.UNPROCESSABLE_ENTITY, pixKeyRequestDTO.getKeyValue(), context.getErrorList());
+                continue;
+            }
+
+            registeredKeyValues.add(pixKeyRequestDTO.getKeyValue());
+            activeKeysByType.merge(pixKeyRequestDTO.getKeyType(), 1, Integer::sum);
+            acceptedRegisters.put(index, buildEntity(pixKeyRequestDTO, registrationDate));
+        }
+
+        return acceptedRegisters;
+    }
+
+    private Set<String> findRegisteredKeyValues(List<PixKeyRequestDTO> pixKeyRequestDTOList) {
+        List<String> candidates = pixKeyRequestDTOList.stream()
+                .map(PixKeyRequestDTO::getKeyValue)
+                .filter(keyValueIndex::mightBeRegistered)
+                .toList();
+
+        return findExistingKeyValues(candidates);
+    }
+
+    private Set<String> findExistingKeyValues(List<String> keyValues) {
+        List<String> candidates = keyValues.stream().distinct().toList();
+        log.debug("Searching for already registered key values. Candidates: {}", candidates.size());
+        Set<String> registeredKeyValues = new HashSet<>();
+        int chunkSize = batchRegistrationProperties.getLookupChunkSize();
+
+        for (int start = 0; start < candidates.size(); start += chunkSize) {
+            List<String> chunk = candidates.subList(start, Math.min(start + chunkSize, candidates.size()));
+            registeredKeyValues.addAll(pixKeyRegisterRepository.findExistingKeyValues(chunk));
+        }
+
+        return registeredKeyValues;
+    }
+
+    private Map<AccountKey, Map<PixKeyType, Integer>> countActiveKeysByAccount(List<PixKeyRequestDTO> pixKeyRequestDTOList) {
+        Map<AccountKey, Map<PixKeyType, Integer>> activeKeysByAccount = new HashMap<>();
+        Set<AccountKey> uncountedAccounts = new LinkedHashSet<>();
+
+        for (PixKeyRequestDTO pixKeyRequestDTO : pixKeyRequestDTOList) {
+            AccountKey accountKey = new AccountKey(pixKeyRequestDTO.getAgencyNumber(), pixKeyRequestDTO.getAccountNumber());
+            if (activeKeysByAccount.containsKey(accountKey) || uncountedAccounts.contains(accountKey)) {
+                continue;
+            }
+
+            Optional<Map<PixKeyType, Integer>> activeKeysByType = accountLocks.isClusterWide() ? Optional.empty()
+                    : accountKeyCounter.find(accountKey.agencyNumber(), accountKey.accountNumber());
+            activeKeysByType.ifPresentOrElse(
+                    activeKeys -> activeKeysByAccount.put(accountKey, new EnumMap<>(activeKeys)),
+                    () -> uncountedAccounts.add(accountKey));
+        }
+
+        if (uncountedAccounts.isEmpty()) {
+            return activeKeysByAccount;
+        }
+
+        log.debug("Counting active keys by account. Accounts: {}", uncountedAccounts.size());
+        Integer[] agencyNumbers = uncountedAccounts.stream().map(AccountKey::agencyNumber).toArray(Integer[]::new);
+        Long[] accountNumbers = uncountedAccounts.stream().map(AccountKey::accountNumber).toArray(Long[]::new);
+        for (KeyCountRow keyCountRow : pixKeyRegisterRepository.countGroupedByAccounts(agencyNumbers, accountNumbers)) {
+            AccountKey accountKey = new AccountKey(keyCountRow.getAgencyNumber(), keyCountRow.getAccountNumber());
+            PixKeyType.fromCode(keyCountRow.getKeyTypeCode()).ifPresent(keyType -> activeKeysByAccount
+                    .computeIfAbsent(accountKey, key -> new EnumMap<>(PixKeyType.class))
+                    .put(keyType, keyCountRow.getActiveKeys().intValue()));
+        }
+
+        return activeKeysByAccount;
+    }
+
+    private PixKeyRegister buildEntity(PixKeyRequestDTO pixKeyRequestDTO, LocalDateTime registrationDate) {
+        return PixKeyRegister.builder()
+                .keyType(pixKeyRequestDTO.getKeyType())
+                .keyValue(pixKeyRequestDTO.getKeyValue())
+                .accountType(pixKeyRequestDTO.getAccountType())
+                .agencyNumber(pixKeyRequestDTO.getAgencyNumber())
+                .accountNumber(pixKeyRequestDTO.getAccountNumber())
+                .accountHolderFirstName(pixKeyRequestDTO.getAccountHolderFirstName())
+                .accountHolderLastName(pixKeyRequestDTO.getAccountHolderLastName())
+                .keyRegistrationDate(registrationDate)
+                .build();
+    }
+
+    private void persist(Collection<PixKeyRegister> pixKeyRegisters) {
+        List<PixKeyRegister> pixKeyRegisterList = List.copyOf(pixKeyRegisters);
+        int chunkSize = batchRegistrationProperties.getFlushChunkSize();
+
+        try {
+            log.debug("Saving pixKeyRegister entities in batch. Items: {}", pixKeyRegisterList.size());
+            for (int start = 0; start < pixKeyRegisterList.size(); start += chunkSize) {
+                pixKeyRegisterRepository.saveAll(pixKeyRegisterList.subList(start, Math.min(start + chunkSize, pixKeyRegisterList.size())));
+                pixKeyRegisterRepository.flush();
+                entityManager.clear();
+            }
+            accountKeyCounter.registered(pixKeyRegisterList);
+        } catch (Exception e) {
+            if (PersistenceConflicts.isDuplicateKeyValue(e)) {
+                throw e;
+            }
+
+            log.error("Persistence of pixKeyRegister batch failed", e);
+            throw new UnexpectedException(UNEXPECTED_ERROR);
+        }
+
+        pixKeyRegisterList.forEach(pixKeyRegister -> {
+            keyValueIndex.add(pixKeyRegister.getKeyValue());
+            pixKeyResolveCache.evict(pixKeyRegister.getKeyValue());
+        });
+    }
+
+    private PixKeyBatchItemResponseDTO rejected(int index, HttpStatus status, String keyValue, List<ErrorMessageDTO> errors) {
+        return PixKeyBatchItemResponseDTO.builder()
+                .index(index)
+                .status(status.value())
+                .keyValue(keyValue)
+                .errors(errors)
+                .build();
+    }
+
+    private String jsonFieldName(ConstraintViolation<PixKeyRequestDTO> violation) {
+        String field = violation.getPropertyPath().toString();
+        return JSON_FIELD_NAMES.getOrDefault(field, field);
+    }
+
+    private static Map<String, String> jsonFieldNames() {
+        Map<String, String> jsonFieldNames = new HashMap<>();
+
+        for (Field field : PixKeyRequestDTO.class.getDeclaredFields()) {
+            JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+
+            if (Objects.nonNull(jsonProperty)) {
+                jsonFieldNames.put(field.getName(), jsonProperty.value());
+            }
+        }
+
+        return Map.copyOf(jsonFieldNames);
+    }
+
+    private record AccountKey(Integer agencyNumber, Long accountNumber) {
+    }
+}
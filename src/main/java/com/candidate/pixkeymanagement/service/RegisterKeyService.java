@@ -1,35 +1,59 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.UnexpectedException;
 import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.KeyValueNormalizer;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
 import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
 import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class RegisterKeyService {
 
     private final PixKeyRegisterRepository pixKeyRegisterRepository;
     private final ValidationStepEngine validationStepEngine;
+    private final KeyValueIndex keyValueIndex;
+    private final PixKeyCache pixKeyCache;
+    private final PixKeyResolveCache pixKeyResolveCache;
+    private final RandomKeyPool randomKeyPool;
+    private final AccountKeyCounter accountKeyCounter;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final AccountLocks accountLocks;
 
     @Transactional
     public PixKeyResponseDTO process(PixKeyRequestDTO pixKeyRequestDTO) {
         log.debug("Started pix key register. Request: {}", pixKeyRequestDTO);
+        assignRandomKey(pixKeyRequestDTO);
+        pixKeyRequestDTO.setKeyValue(KeyValueNormalizer.normalize(pixKeyRequestDTO.getKeyType(), pixKeyRequestDTO.getKeyValue()));
 
+        accountLocks.lock(pixKeyRequestDTO.getAgencyNumber(), pixKeyRequestDTO.getAccountNumber());
         validate(pixKeyRequestDTO);
         PixKeyRegister pixKeyRegister = persist(pixKeyRequestDTO);
         PixKeyResponseDTO responseDTO = convertEntityToResponse(pixKeyRegister);
@@ -38,6 +62,12 @@ public class RegisterKeyService {
         return responseDTO;
     }
 
+    private void assignRandomKey(PixKeyRequestDTO pixKeyRequestDTO) {
+        if (PixKeyType.RANDOM_KEY.equals(pixKeyRequestDTO.getKeyType())) {
+            pixKeyRequestDTO.setKeyValue(randomKeyPool.take());
+        }
+    }
+
     private void validate(PixKeyRequestDTO pixKeyRequestDTO) {
         log.debug("Started validation. Pix key type: {}", pixKeyRequestDTO.getKeyType().getValue());
         PixKeyContext context = new PixKeyContext(pixKeyRequestDTO);
@@ -45,7 +75,7 @@ public class RegisterKeyService {
         context = validationStepEngine.validation(context);
 
         if (ObjectUtils.isNotEmpty(context.getErrorList())) {
-            log.error("Validation errors: {}", context.getErrorList());
+            log.debug("Validation errors: {}", context.getErrorList());
             throw new UnprocessableEntityException(context.getErrorList());
         }
     }
@@ -54,9 +84,9 @@ public class RegisterKeyService {
         try {
             log.debug("Building pixKeyRegister entity");
             PixKeyRegister pixKeyRegister = PixKeyRegister.builder()
-                    .keyType(pixKeyRequestDTO.getKeyType().getValue())
+                    .keyType(pixKeyRequestDTO.getKeyType())
                     .keyValue(pixKeyRequestDTO.getKeyValue())
-                    .accountType(pixKeyRequestDTO.getAccountType().getValue())
+                    .accountType(pixKeyRequestDTO.getAccountType())
                     .agencyNumber(pixKeyRequestDTO.getAgencyNumber())
                     .accountNumber(pixKeyRequestDTO.getAccountNumber())
                     .accountHolderFirstName(pixKeyRequestDTO.getAccountHolderFirstName())
@@ -65,9 +95,19 @@ public class RegisterKeyService {
                     .build();
 
             log.debug("Saving pixKeyRegister entity");
-            return pixKeyRegisterRepository.save(pixKeyRegister);
+            PixKeyRegister pixKeyRegisterSaved = pixKeyRegisterRepository.saveAndFlush(pixKeyRegister);
+            accountKeyCounter.registered(pixKeyRegisterSaved);
+            keyValueIndex.add(pixKeyRegisterSaved.getKeyValue());
+            pixKeyCache.put(PixKeyResponseMapper.toResponseDTO(pixKeyRegisterSaved, null));
+            pixKeyResolveCache.evict(pixKeyRegisterSaved.getKeyValue());
+            return pixKeyRegisterSaved;
         } catch (Exception e) {
-            log.error("Persistence pixKeyRegister entity failed");
+            if (PersistenceConflicts.isDuplicateKeyValue(e)) {
+                log.debug("Key value registered by a concurrent request");
+                throw new UnprocessableEntityException(List.of(errorMessageCatalog.error(KEY_ALREADY_REGISTERED)));
+            }
+
+            log.error("Persistence pixKeyRegister entity failed", e);
             throw new UnexpectedException(UNEXPECTED_ERROR);
         }
 
@@ -75,6 +115,10 @@ public class RegisterKeyService {
 
     private PixKeyResponseDTO convertEntityToResponse(PixKeyRegister pixKeyRegister) {
         log.debug("Converting pixKeyRegister entity to responseDTO");
-        return PixKeyResponseDTO.builder().message("Chave Pix cadastrada com sucesso").id(pixKeyRegister.getId()).build();
+        return PixKeyResponseDTO.builder()
+                .message("Chave Pix cadastrada com sucesso")
+                .id(pixKeyRegister.getId())
+                .keyValue(PixKeyType.RANDOM_KEY == pixKeyRegister.getKeyType() ? pixKeyRegister.getKeyValue() : null)
+                .build();
     }
 }
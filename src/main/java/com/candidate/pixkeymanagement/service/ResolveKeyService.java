@@ -0,0 +1,63 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.KeyValueNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.NOT_FOUND_KEY_PIX;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("!reactive")
+public class ResolveKeyService {
+
+    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final PixKeyResolveCache pixKeyResolveCache;
+    private final KeyValueIndex keyValueIndex;
+    private final AccountLocks accountLocks;
+
+    public PixKeyResolveResponseDTO process(String keyValue) {
+        log.debug("Start GET/ by key value");
+        String normalizedKeyValue = KeyValueNormalizer.normalize(keyValue);
+
+        if (StringUtils.isBlank(normalizedKeyValue) || isRuledOutByIndex(normalizedKeyValue)) {
+            log.debug("Key value not present in key value index");
+            throw new NotFoundException(NOT_FOUND_KEY_PIX);
+        }
+
+        Optional<PixKeyResolveResponseDTO> pixKeyResolveResponseDTO = pixKeyResolveCache.get(normalizedKeyValue, this::findActiveByKeyValue);
+
+        if (pixKeyResolveResponseDTO.isEmpty()) {
+            log.debug("Not found active register by key value");
+            throw new NotFoundException(NOT_FOUND_KEY_PIX);
+        }
+
+        log.debug("Finish GET/ by key value");
+        return pixKeyResolveResponseDTO.get();
+    }
+
+    /**
+     * The index only holds the keys registered through this instance, so it rules a key out only when there is no
+     * other instance, that is, when the account locks are not cluster-wide.
+     */
+    private boolean isRuledOutByIndex(String keyValue) {
+        return !accountLocks.isClusterWide() && !keyValueIndex.mightBeRegistered(keyValue);
+    }
+
+    private Optional<PixKeyResolveResponseDTO> findActiveByKeyValue(String keyValue) {
+        log.debug("Searching for active register by key value");
+        return pixKeyRegisterRepository.findActiveByKeyValue(keyValue).map(PixKeyResponseMapper::toResolveResponseDTO);
+    }
+}
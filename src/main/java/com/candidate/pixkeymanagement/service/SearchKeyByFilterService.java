@@ -1,98 +1,163 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.configuration.FilterSearchProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyPageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
-import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.candidate.pixkeymanagement.util.PiiMasker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.transaction.Transactional;
-import jakarta.validation.UnexpectedTypeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
-import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class SearchKeyByFilterService {
 
+    private static final String NDJSON_SEPARATOR = "\n";
+
     private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final FilterSearchProperties filterSearchProperties;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final ObjectMapper objectMapper;
 
-    @Transactional
-    public List<PixKeyResponseDTO> process(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName) {
+    @Transactional(readOnly = true)
+    public PixKeyPageDTO process(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName,
+                                 String cursor, Integer limit) {
         log.debug("Start GET/ by filters");
+        int pageSize = resolvePageSize(limit);
+        KeysetCursor after = decodeCursor(cursor);
+
+        List<PixKeyView> pixKeyViewList = findRegisterByFilters(keyType, agencyNumber, accountNumber, accountHolderFirstName,
+                after, pageSize + 1);
+        boolean hasNext = pixKeyViewList.size() > pageSize;
+        List<PixKeyView> page = hasNext ? pixKeyViewList.subList(0, pageSize) : pixKeyViewList;
 
-        List<PixKeyRegister> pixKeyRegisterList = findRegisterByFilters(keyType, agencyNumber, accountNumber, accountHolderFirstName);
-        List<PixKeyResponseDTO> pixKeyResponseListDTO = convertEntityToResponseListDTO(pixKeyRegisterList);
+        PixKeyPageDTO pixKeyPageDTO = PixKeyPageDTO.builder()
+                .keys(PixKeyResponseMapper.toResponseDTOs(page))
+                .nextCursor(hasNext ? cursorOf(page.get(page.size() - 1)).encode() : null)
+                .build();
 
-        log.debug("Finish GET/ by filters. Response: {}", pixKeyResponseListDTO);
-        return pixKeyResponseListDTO;
+        log.debug("Finish GET/ by filters. Keys: {}, has next page: {}", pixKeyPageDTO.getKeys().size(), hasNext);
+        return pixKeyPageDTO;
     }
 
-    private List<PixKeyResponseDTO> convertEntityToResponseListDTO(List<PixKeyRegister> pixKeyRegisterList) {
-        try {
-            log.debug("Converting entityList to responseDTOList");
-            return pixKeyRegisterList.stream().map(this::convertEntityToResponseDTO).toList();
-        } catch (Exception e) {
-            log.error("Convert entity to responseDTO failed");
-            throw new UnexpectedTypeException(UNEXPECTED_ERROR);
+    @Transactional(readOnly = true)
+    public void stream(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName,
+                       OutputStream outputStream) {
+        log.debug("Start GET/ by filters stream");
+        long written = 0;
+
+        try (Stream<PixKeyResponseDTO> pixKeyResponseDTOs = PixKeyResponseMapper.toResponseDTOs(pixKeyRegisterRepository.streamAll(
+                buildSpecification(keyType, agencyNumber, accountNumber, accountHolderFirstName),
+                filterSearchProperties.getStreamFetchSize()));
+             SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator(NDJSON_SEPARATOR).writeValues(outputStream)) {
+
+            Iterator<PixKeyResponseDTO> iterator = pixKeyResponseDTOs.iterator();
+            while (iterator.hasNext()) {
+                sequenceWriter.write(iterator.next());
+                written++;
+            }
+        } catch (IOException e) {
+            log.error("Writing pix keys stream failed after {} keys", written);
+            throw new UnexpectedException(UNEXPECTED_ERROR);
         }
+
+        log.debug("Finish GET/ by filters stream. Keys: {}", written);
     }
 
-    private PixKeyResponseDTO convertEntityToResponseDTO(PixKeyRegister pixKeyRegisterUpdated) {
+    private int resolvePageSize(Integer limit) {
+        if (Objects.isNull(limit)) {
+            return filterSearchProperties.getDefaultPageSize();
+        }
+
+        if (limit < 1) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_MIN_LENGTH, "limite"));
+        }
+
+        if (limit > filterSearchProperties.getMaxPageSize()) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_MAX_LENGTH, "limite"));
+        }
+
+        return limit;
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+
         try {
-            log.debug("Converting pixKeyRegister entity to responseDTO");
-            return PixKeyResponseDTO.builder()
-                    .id(pixKeyRegisterUpdated.getId())
-                    .keyType(PixKeyType.fromValue(pixKeyRegisterUpdated.getKeyType()).orElseThrow())
-                    .keyValue(pixKeyRegisterUpdated.getKeyValue())
-                    .accountType(AccountType.fromValue(pixKeyRegisterUpdated.getAccountType()).orElseThrow())
-                    .agencyNumber(pixKeyRegisterUpdated.getAgencyNumber())
-                    .accountNumber(pixKeyRegisterUpdated.getAccountNumber())
-                    .accountHolderFirstName(pixKeyRegisterUpdated.getAccountHolderFirstName())
-                    .accountHolderLastName(Objects.nonNull(pixKeyRegisterUpdated.getAccountHolderLastName()) ?
-                            pixKeyRegisterUpdated.getAccountHolderLastName() : StringUtils.EMPTY)
-                    .keyRegistrationDate(pixKeyRegisterUpdated.getKeyRegistrationDate())
-                    .keyInactivationDate(pixKeyRegisterUpdated.getKeyInactivationDate())
-                    .build();
-
-        } catch (Exception e) {
-            log.debug("Convert entity to responseDTO failed. Entity id: {}", pixKeyRegisterUpdated.getId());
-            throw new UnexpectedTypeException(UNEXPECTED_ERROR);
+            return KeysetCursor.decode(cursor);
+        } catch (RuntimeException e) {
+            log.debug("Invalid keyset cursor received: {}", cursor);
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_INVALID, "cursor"));
         }
     }
 
-    public List<PixKeyRegister> findRegisterByFilters(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName) {
+    private KeysetCursor cursorOf(PixKeyView pixKeyView) {
+        return new KeysetCursor(pixKeyView.keyRegistrationDate(), pixKeyView.id());
+    }
+
+    public List<PixKeyView> findRegisterByFilters(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName,
+                                                  KeysetCursor after, int limit) {
         log.debug("Start findRegisterByFilters");
-        return pixKeyRegisterRepository.findAll((root, query, criteriaBuilder) -> {
+        return pixKeyRegisterRepository.findPageAfter(buildSpecification(keyType, agencyNumber, accountNumber, accountHolderFirstName),
+                after, limit);
+    }
+
+    private Specification<PixKeyRegister> buildSpecification(String keyType, String agencyNumber, String accountNumber,
+                                                             String accountHolderFirstName) {
+        return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (Objects.nonNull(keyType)) {
                 log.debug("Searching for key type {}", keyType);
-                predicates.add(criteriaBuilder.equal(root.get("keyType"), keyType));
+                predicates.add(PixKeyType.fromValue(keyType)
+                        .map(type -> criteriaBuilder.equal(root.get("keyType"), type))
+                        .orElseGet(criteriaBuilder::disjunction));
             }
             if (Objects.nonNull(agencyNumber)) {
                 log.debug("Searching for agency number {}", agencyNumber);
                 predicates.add(criteriaBuilder.equal(root.get("agencyNumber"), agencyNumber));
             }
             if (Objects.nonNull(accountNumber)) {
-                log.debug("Searching for accountNumber {}", accountNumber);
+                log.atDebug().setMessage("Searching for accountNumber {}")
+                        .addArgument(() -> PiiMasker.maskAccountNumber(accountNumber)).log();
                 predicates.add(criteriaBuilder.equal(root.get("accountNumber"), accountNumber));
             }
             if (Objects.nonNull(accountHolderFirstName)) {
-                log.debug("Searching for and accountHolderFirstName {}", accountHolderFirstName);
+                log.atDebug().setMessage("Searching for accountHolderFirstName {}")
+                        .addArgument(() -> PiiMasker.maskName(accountHolderFirstName)).log();
                 predicates.add(criteriaBuilder.equal(root.get("accountHolderFirstName"), accountHolderFirstName));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        });
+        };
     }
 }
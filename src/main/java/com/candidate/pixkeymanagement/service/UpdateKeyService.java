@@ -1,14 +1,18 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
-import com.candidate.pixkeymanagement.enumeration.AccountType;
-import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
 import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
 import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
 import jakarta.transaction.Transactional;
@@ -17,9 +21,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,10 +36,16 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class UpdateKeyService {
 
     private final PixKeyRegisterRepository pixKeyRegisterRepository;
     private final ValidationStepEngine validationStepEngine;
+    private final PixKeyCache pixKeyCache;
+    private final PixKeyResolveCache pixKeyResolveCache;
+    private final AccountKeyCounter accountKeyCounter;
+    private final ErrorMessageCatalog errorMessageCatalog;
+    private final AccountLocks accountLocks;
 
     @Transactional
     public PixKeyResponseDTO process(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO) {
@@ -41,11 +53,12 @@ public class UpdateKeyService {
 
         PixKeyRegister pixKeyRegister = findActiveRegisterById(pixKeyUpdateRequestDTO.getId());
         checkIfIsAvailableUpdate(pixKeyRegister);
+        accountLocks.lock(pixKeyUpdateRequestDTO.getAgencyNumber(), pixKeyUpdateRequestDTO.getAccountNumber());
         PixKeyRequestDTO pixKeyMergedRequestDTO = mergeEntityAndUpdateRequestDTO(pixKeyUpdateRequestDTO, pixKeyRegister);
         validateValuesToUpdate(pixKeyMergedRequestDTO);
         PixKeyRegister pixKeyRegisterUpdated = persistUpdate(pixKeyUpdateRequestDTO, pixKeyRegister);
 
-        PixKeyResponseDTO pixKeyResponseDTO = convertEntityToResponseDTO(pixKeyRegisterUpdated);
+        PixKeyResponseDTO pixKeyResponseDTO = PixKeyResponseMapper.toResponseDTO(pixKeyRegisterUpdated, "Chave Pix atualizada com sucesso");
 
         log.debug("Finish pix key update. Response: {}", pixKeyResponseDTO);
         return pixKeyResponseDTO;
@@ -59,7 +72,7 @@ public class UpdateKeyService {
         validationStepEngine.validation(context);
 
         if (ObjectUtils.isNotEmpty(context.getErrorList())) {
-            log.error("Validation errors: {}", context.getErrorList());
+            log.debug("Validation errors: {}", context.getErrorList());
             throw new UnprocessableEntityException(context.getErrorList());
         }
     }
@@ -67,8 +80,10 @@ public class UpdateKeyService {
     private PixKeyRegister persistUpdate(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO, PixKeyRegister pixKeyRegister) {
         try {
             log.debug("Building pixKeyRegister entity to update");
+            Integer previousAgencyNumber = pixKeyRegister.getAgencyNumber();
+            Long previousAccountNumber = pixKeyRegister.getAccountNumber();
             pixKeyRegister.setKeyRegistrationDate(LocalDateTime.now());
-            pixKeyRegister.setAccountType(pixKeyUpdateRequestDTO.getAccountType().getValue());
+            pixKeyRegister.setAccountType(pixKeyUpdateRequestDTO.getAccountType());
             pixKeyRegister.setAgencyNumber(pixKeyUpdateRequestDTO.getAgencyNumber());
             pixKeyRegister.setAccountNumber(pixKeyUpdateRequestDTO.getAccountNumber());
             pixKeyRegister.setAccountHolderFirstName(pixKeyUpdateRequestDTO.getAccountHolderFirstName());
@@ -78,9 +93,18 @@ public class UpdateKeyService {
             }
 
             log.debug("Updating pixKeyRegister in database");
-            return pixKeyRegisterRepository.save(pixKeyRegister);
+            PixKeyRegister pixKeyRegisterUpdated = pixKeyRegisterRepository.saveAndFlush(pixKeyRegister);
+            accountKeyCounter.moved(pixKeyRegisterUpdated, previousAgencyNumber, previousAccountNumber);
+            pixKeyCache.evict(pixKeyRegisterUpdated.getId());
+            pixKeyResolveCache.evict(pixKeyRegisterUpdated.getKeyValue());
+            return pixKeyRegisterUpdated;
         } catch (Exception e) {
-            log.debug("Persistence to update register failed. Entity id: {}", pixKeyRegister.getId());
+            if (PersistenceConflicts.isConcurrentUpdate(e)) {
+                log.debug("Register changed by a concurrent request. Entity id: {}", pixKeyRegister.getId());
+                throw new UnprocessableEntityException(List.of(errorMessageCatalog.error(CONCURRENT_UPDATE)));
+            }
+
+            log.error("Persistence to update register failed. Entity id: {}", pixKeyRegister.getId(), e);
             throw new UnexpectedTypeException(UNEXPECTED_ERROR);
         }
     }
@@ -99,52 +123,24 @@ public class UpdateKeyService {
 
     private void checkIfIsAvailableUpdate(PixKeyRegister pixKeyRegister) {
         log.debug("Checking if keyType is available for updating");
-        if (RANDOM_KEY.getValue().equals(pixKeyRegister.getKeyType())) {
+        if (RANDOM_KEY == pixKeyRegister.getKeyType()) {
             log.error("KeyType RANDOM_KEY is not available for updating");
             throw new UnexpectedTypeException(NOT_UPDATED_RANDOM_KEY);
         }
     }
 
     private PixKeyRequestDTO mergeEntityAndUpdateRequestDTO(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO, PixKeyRegister pixKeyRegister) {
-        try {
-            log.debug("Merging pixKeyRegister by database and new fields to update by pixKeyUpdateRequestDTO");
-            log.debug("Adapting request to chain of validation");
-            return PixKeyRequestDTO.builder()
-                    .keyType(PixKeyType.fromValue(pixKeyRegister.getKeyType()).orElseThrow())
-                    .keyValue(pixKeyRegister.getKeyValue())
-                    .accountType(AccountType.fromValue(pixKeyRegister.getAccountType()).orElseThrow())
-                    .agencyNumber(pixKeyUpdateRequestDTO.getAgencyNumber())
-                    .accountNumber(pixKeyUpdateRequestDTO.getAccountNumber())
-                    .accountHolderFirstName(pixKeyUpdateRequestDTO.getAccountHolderFirstName())
-                    .accountHolderLastName(Objects.nonNull(pixKeyUpdateRequestDTO.getAccountHolderLastName()) ?
-                            pixKeyUpdateRequestDTO.getAccountHolderLastName() : StringUtils.EMPTY)
-                    .build();
-        } catch (Exception e) {
-            log.debug("Convert request to update register failed. Entity id: {}", pixKeyRegister.getId());
-            throw new UnexpectedTypeException("Update converting failed");
-        }
-    }
-
-    private PixKeyResponseDTO convertEntityToResponseDTO(PixKeyRegister pixKeyRegisterUpdated) {
-        try {
-            log.debug("Converting pixKeyRegister entity to responseDTO");
-            return PixKeyResponseDTO.builder()
-                    .message("Chave Pix atualizada com sucesso")
-                    .id(pixKeyRegisterUpdated.getId())
-                    .keyType(PixKeyType.fromValue(pixKeyRegisterUpdated.getKeyType()).orElseThrow())
-                    .keyValue(pixKeyRegisterUpdated.getKeyValue())
-                    .accountType(AccountType.fromValue(pixKeyRegisterUpdated.getAccountType()).orElseThrow())
-                    .agencyNumber(pixKeyRegisterUpdated.getAgencyNumber())
-                    .accountNumber(pixKeyRegisterUpdated.getAccountNumber())
-                    .accountHolderFirstName(pixKeyRegisterUpdated.getAccountHolderFirstName())
-                    .accountHolderLastName(Objects.nonNull(pixKeyRegisterUpdated.getAccountHolderLastName()) ?
-                            pixKeyRegisterUpdated.getAccountHolderLastName() : StringUtils.EMPTY)
-                    .keyRegistrationDate(pixKeyRegisterUpdated.getKeyRegistrationDate())
-                    .build();
-
-        } catch (Exception e) {
-            log.debug("Convert entity to responseDTO failed. Entity id: {}", pixKeyRegisterUpdated.getId());
-            throw new UnexpectedTypeException("Convert entity to responseDTO failed");
-        }
+        log.debug("Merging pixKeyRegister by database and new fields to update by pixKeyUpdateRequestDTO");
+        log.debug("Adapting request to chain of validation");
+        return PixKeyRequestDTO.builder()
+                .keyType(pixKeyRegister.getKeyType())
+                .keyValue(pixKeyRegister.getKeyValue())
+                .accountType(pixKeyRegister.getAccountType())
+                .agencyNumber(pixKeyUpdateRequestDTO.getAgencyNumber())
+                .accountNumber(pixKeyUpdateRequestDTO.getAccountNumber())
+                .accountHolderFirstName(pixKeyUpdateRequestDTO.getAccountHolderFirstName())
+                .accountHolderLastName(Objects.nonNull(pixKeyUpdateRequestDTO.getAccountHolderLastName()) ?
+                        pixKeyUpdateRequestDTO.getAccountHolderLastName() : StringUtils.EMPTY)
+                .build();
     }
 }
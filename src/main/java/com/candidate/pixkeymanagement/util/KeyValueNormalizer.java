@@ -0,0 +1,100 @@
+package com.candidate.pixkeymanagement.util;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Canonical form of a key value, applied on registration and on lookup so both sides compare the same string:
+ * CPF/CNPJ punctuation is removed, the letters of alphanumeric CNPJs are upper-cased and emails are lower-cased.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class KeyValueNormalizer {
+
+    public static String normalize(PixKeyType keyType, String keyValue) {
+        if (Objects.isNull(keyValue)) {
+            return null;
+        }
+
+        String trimmed = keyValue.trim();
+
+        return switch (keyType) {
+            case CPF -> stripDocumentPunctuation(trimmed);
+            case CNPJ -> stripDocumentPunctuation(trimmed).toUpperCase(Locale.ROOT);
+            case EMAIL -> trimmed.toLowerCase(Locale.ROOT);
+            default -> trimmed;
+        };
+    }
+
+    /**
+     * Used when the key type is unknown, as in the resolve endpoint: emails contain '@' and documents are only
+     * recognized in their formatted shapes, {@code 000.000.000-00} for a CPF and {@code AA.AAA.AAA/AAAA-00} for a
+     * CNPJ. Unformatted documents are already canonical, and anything else, random keys included, is left as it is.
+     */
+    public static String normalize(String keyValue) {
+        if (Objects.isNull(keyValue)) {
+            return null;
+        }
+
+        String trimmed = keyValue.trim();
+
+        if (trimmed.indexOf('@') >= 0) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+
+        if (isFormattedCpf(trimmed)) {
+            return stripDocumentPunctuation(trimmed);
+        }
+
+        return isFormattedCnpj(trimmed) ? stripDocumentPunctuation(trimmed).toUpperCase(Locale.ROOT) : trimmed;
+    }
+
+    private static boolean isFormattedCpf(String value) {
+        return value.length() == 14 && matchesLayout(value, "000.000.000-00");
+    }
+
+    private static boolean isFormattedCnpj(String value) {
+        return value.length() == 18 && matchesLayout(value, "AA.AAA.AAA/AAAA-00");
+    }
+
+    /**
+     * In {@code layout}, '0' stands for a digit, 'A' for a digit or a letter and any other char for itself.
+     */
+    private static boolean matchesLayout(String value, String layout) {
+        for (int i = 0; i < layout.length(); i++) {
+            char c = value.charAt(i);
+            boolean matches = switch (layout.charAt(i)) {
+                case '0' -> c >= '0' && c <= '9';
+                case 'A' -> (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+                default -> c == layout.charAt(i);
+            };
+
+            if (!matches) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String stripDocumentPunctuation(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (!isDocumentPunctuation(c)) {
+                normalized.append(c);
+            }
+        }
+
+        return normalized.length() == value.length() ? value : normalized.toString();
+    }
+
+    private static boolean isDocumentPunctuation(char c) {
+        return c == '.' || c == '-' || c == '/' || c == ' ';
+    }
+}
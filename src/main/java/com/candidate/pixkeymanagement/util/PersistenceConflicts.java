@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Objects;
+
+/**
+ * Recognises the persistence errors that mean a concurrent request got there first: the unique index on active key
+ * values (a duplicate registration) and the {@code version} check (an update or inactivation based on a stale read).
+ * JDBC and R2DBC drivers both carry the constraint name in the message of the underlying error.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class PersistenceConflicts {
+
+    static final String ACTIVE_KEY_VALUE_CONSTRAINT = "ux_pix_key_register_key_value_active";
+
+    public static boolean isDuplicateKeyValue(Throwable throwable) {
+        return throwable instanceof DataIntegrityViolationException && ExceptionUtils.getThrowableList(throwable).stream()
+                .map(Throwable::getMessage)
+                .filter(Objects::nonNull)
+                .anyMatch(message -> message.contains(ACTIVE_KEY_VALUE_CONSTRAINT));
+    }
+
+    public static boolean isConcurrentUpdate(Throwable throwable) {
+        return throwable instanceof OptimisticLockingFailureException;
+    }
+}
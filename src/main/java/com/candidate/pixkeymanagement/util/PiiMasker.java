@@ -0,0 +1,87 @@
+package com.candidate.pixkeymanagement.util;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Masked forms of personal data for log messages. How much of each key type stays visible is fixed up front, so a
+ * value is masked in one pass: CPF keeps the first three and the last two digits, phone the country code and the last
+ * four digits and email the first character and the domain. CNPJ and random keys identify no person and are logged
+ * as they are.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class PiiMasker {
+
+    private static final char MASK = '*';
+    private static final String MASKED_NAME_SUFFIX = "***";
+    private static final Redaction UNKNOWN_TYPE = new Redaction(0, 2);
+    private static final Redaction ACCOUNT_NUMBER = new Redaction(0, 4);
+    private static final Map<PixKeyType, Redaction> REDACTIONS = new EnumMap<>(PixKeyType.class);
+
+    static {
+        REDACTIONS.put(PixKeyType.CPF, new Redaction(3, 2));
+        REDACTIONS.put(PixKeyType.CELLPHONE, new Redaction(3, 4));
+    }
+
+    public static String maskKeyValue(PixKeyType keyType, String keyValue) {
+        if (Objects.isNull(keyValue)) {
+            return null;
+        }
+
+        if (keyType == PixKeyType.EMAIL) {
+            return maskEmail(keyValue);
+        }
+
+        if (keyType == PixKeyType.CNPJ || keyType == PixKeyType.RANDOM_KEY) {
+            return keyValue;
+        }
+
+        return REDACTIONS.getOrDefault(keyType, UNKNOWN_TYPE).apply(keyValue);
+    }
+
+    public static String maskName(String name) {
+        if (Objects.isNull(name) || name.isEmpty()) {
+            return name;
+        }
+
+        return name.charAt(0) + MASKED_NAME_SUFFIX;
+    }
+
+    public static String maskAccountNumber(Long accountNumber) {
+        return Objects.isNull(accountNumber) ? null : ACCOUNT_NUMBER.apply(accountNumber.toString());
+    }
+
+    /**
+     * For account numbers still in request form, which may not be numeric yet.
+     */
+    public static String maskAccountNumber(String accountNumber) {
+        return Objects.isNull(accountNumber) ? null : ACCOUNT_NUMBER.apply(accountNumber);
+    }
+
+    private static String maskEmail(String email) {
+        int at = email.indexOf('@');
+        return at < 1 ? UNKNOWN_TYPE.apply(email) : new Redaction(1, email.length() - at).apply(email);
+    }
+
+    private record Redaction(int visiblePrefix, int visibleSuffix) {
+
+        String apply(String value) {
+            int length = value.length();
+            boolean tooShort = length <= visiblePrefix + visibleSuffix;
+            int maskFrom = tooShort ? 0 : visiblePrefix;
+            int maskTo = tooShort ? length : length - visibleSuffix;
+
+            char[] masked = value.toCharArray();
+            for (int i = maskFrom; i < maskTo; i++) {
+                masked[i] = MASK;
+            }
+
+            return new String(masked);
+        }
+    }
+}
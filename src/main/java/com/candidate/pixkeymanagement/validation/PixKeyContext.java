@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,11 +15,13 @@ import java.util.List;
 @Setter
 @Builder
 @AllArgsConstructor
+@ToString
 public class PixKeyContext {
 
     private PixKeyRequestDTO fields;
     private List<ErrorMessageDTO> errorList;
     private String transactionType;
+    private ValidationFacts facts;
 
     public PixKeyContext(PixKeyRequestDTO fields) {
         this.fields = fields;
@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.validation;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Database facts a request is validated against, loaded once before the steps run so the steps themselves never
+ * touch the database.
+ */
+@Getter
+@ToString
+public class ValidationFacts {
+
+    private final boolean keyAlreadyRegistered;
+    private final int activeKeys;
+    private final Map<PixKeyType, Integer> activeKeysByType;
+
+    public ValidationFacts(boolean keyAlreadyRegistered, Map<PixKeyType, Integer> activeKeysByType) {
+        this.keyAlreadyRegistered = keyAlreadyRegistered;
+        this.activeKeysByType = activeKeysByType.isEmpty() ? new EnumMap<>(PixKeyType.class) : new EnumMap<>(activeKeysByType);
+        this.activeKeys = this.activeKeysByType.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getActiveKeys(PixKeyType keyType) {
+        return activeKeysByType.getOrDefault(keyType, 0);
+    }
+}
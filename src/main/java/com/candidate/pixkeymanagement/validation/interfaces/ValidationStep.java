@@ -1,10 +1,28 @@
 package com.candidate.pixkeymanagement.validation.interfaces;
 
 
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
 
-public interface ValidationStep extends ChainElement<ValidationStep> {
+import java.util.EnumSet;
+import java.util.Set;
 
-    PixKeyContext validation(PixKeyContext context);
+public interface ValidationStep {
 
-}
\ No newline at end of file
+    void validate(PixKeyContext context);
+
+    /**
+     * Key types whose pipeline includes this step.
+     */
+    default Set<PixKeyType> keyTypes() {
+        return EnumSet.allOf(PixKeyType.class);
+    }
+
+    /**
+     * Steps reading {@link PixKeyContext#getFacts()} run after the format steps, once the facts are loaded.
+     */
+    default boolean requiresFacts() {
+        return false;
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.candidate.pixkeymanagement.validation.orchestrator;
+
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
+
+/**
+ * The steps of each {@link PixKeyType}, built once, format steps first and the steps that need database facts last.
+ * Running a pipeline stops where the facts are needed, so the blocking and the reactive engines only differ in how
+ * they load them. Each step of each pipeline gets its own timer and counters, tagged by step and key type, unless
+ * {@code pix.validation.metrics-enabled} is off. The counters see every run; the timers only one run in
+ * {@code pix.validation.metrics-sample-every}, which keeps the two clock reads and the histogram update per step off
+ * most validations.
+ */
+@Slf4j
+@Component
+public class ValidationPipelines {
+
+    private final Map<PixKeyType, ValidationStep[]> pipelines = new EnumMap<>(PixKeyType.class);
+    private final ValidationStep[] untypedPipeline;
+    private final Map<PixKeyType, StepMeters[]> meters = new EnumMap<>(PixKeyType.class);
+    private final StepMeters[] untypedMeters;
+    private final ValidationProperties validationProperties;
+
+    public ValidationPipelines(List<ValidationStep> steps, ValidationProperties validationProperties, MeterRegistry meterRegistry) {
+        List<ValidationStep> orderedSteps = steps.stream()
+                .sorted(Comparator.comparing(ValidationStep::requiresFacts))
+                .toList();
+
+        boolean metricsEnabled = validationProperties.isMetricsEnabled();
+
+        for (PixKeyType keyType : PixKeyType.values()) {
+            ValidationStep[] pipeline = orderedSteps.stream()
+                    .filter(step -> step.keyTypes().contains(keyType))
+                    .toArray(ValidationStep[]::new);
+            pipelines.put(keyType, pipeline);
+            log.atDebug().setMessage("Validation pipeline for {}: {}").addArgument(keyType)
+                    .addArgument(() -> Arrays.toString(pipeline)).log();
+
+            if (metricsEnabled) {
+                meters.put(keyType, stepMeters(pipeline, keyType.name(), meterRegistry));
+            }
+        }
+
+        this.untypedPipeline = orderedSteps.stream()
+                .filter(step -> step.keyTypes().containsAll(EnumSet.allOf(PixKeyType.class)))
+                .toArray(ValidationStep[]::new);
+        this.validationProperties = validationProperties;
+        this.untypedMeters = metricsEnabled ? stepMeters(untypedPipeline, "NONE", meterRegistry) : null;
+    }
+
+    public ValidationStep[] pipelineOf(PixKeyContext context) {
+        PixKeyType keyType = context.getFields().getKeyType();
+        return Objects.nonNull(keyType) ? pipelines.get(keyType) : untypedPipeline;
+    }
+
+    /**
+     * Runs the pipeline from {@code from} and returns the index of the first step waiting for facts the context does
+     * not have yet, or the pipeline length once it is done or stopped by fail-fast.
+     */
+    public int run(PixKeyContext context, ValidationStep[] pipeline, int from) {
+        boolean failFast = validationProperties.isFailFast();
+        PixKeyType keyType = context.getFields().getKeyType();
+        StepMeters[] pipelineMeters = Objects.nonNull(keyType) ? meters.get(keyType) : untypedMeters;
+        boolean timed = Objects.nonNull(pipelineMeters) && sampled();
+
+        for (int index = from; index < pipeline.length; index++) {
+            ValidationStep step = pipeline[index];
+
+            if (failFast && !context.getErrorList().isEmpty()) {
+                log.debug("Validation stopped before {}", step.getClass().getSimpleName());
+                return pipeline.length;
+            }
+
+            if (step.requiresFacts() && Objects.isNull(context.getFacts())) {
+                return index;
+            }
+
+            apply(step, context, Objects.nonNull(pipelineMeters) ? pipelineMeters[index] : null, timed);
+        }
+
+        return pipeline.length;
+    }
+
+    private boolean sampled() {
+        int sampleEvery = validationProperties.getMetricsSampleEvery();
+        return sampleEvery <= 1 || ThreadLocalRandom.current().nextInt(sampleEvery) == 0;
+    }
+
+    private void apply(ValidationStep step, PixKeyContext context, StepMeters stepMeters, boolean timed) {
+        if (Objects.isNull(stepMeters)) {
+            validate(step, context, null);
+            return;
+        }
+
+        int errors = context.getErrorList().size();
+
+        if (timed) {
+            long start = System.nanoTime();
+            try {
+                validate(step, context, stepMeters);
+            } finally {
+                stepMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            validate(step, context, stepMeters);
+        }
+
+        if (context.getErrorList().size() > errors) {
+            stepMeters.rejections().increment();
+        }
+    }
+
+    private void validate(ValidationStep step, PixKeyContext context, StepMeters stepMeters) {
+        try {
+            step.validate(context);
+        } catch (Exception e) {
+            if (Objects.nonNull(stepMeters)) {
+                stepMeters.failures().increment();
+            }
+            log.error("Unexpected error in {} validating {}", step.getClass().getSimpleName(), context.getFields(), e);
+            throw new UnexpectedException(UNEXPECTED_ERROR);
+        }
+    }
+
+    private static StepMeters[] stepMeters(ValidationStep[] pipeline, String keyType, MeterRegistry meterRegistry) {
+        StepMeters[] stepMeters = new StepMeters[pipeline.length];
+
+        for (int index = 0; index < pipeline.length; index++) {
+            String step = pipeline[index].getClass().getSimpleName();
+            stepMeters[index] = new StepMeters(
+                    Timer.builder("pix.validation.step").tag("step", step).tag("key.type", keyType).register(meterRegistry),
+                    meterRegistry.counter("pix.validation.step.rejections", "step", step, "key.type", keyType),
+                    meterRegistry.counter("pix.validation.step.failures", "step", step, "key.type", keyType));
+        }
+
+        return stepMeters;
+    }
+
+    /**
+     * Rejections are steps that added validation errors, failures are steps that threw.
+     */
+    private record StepMeters(Timer timer, Counter rejections, Counter failures) {
+    }
+}
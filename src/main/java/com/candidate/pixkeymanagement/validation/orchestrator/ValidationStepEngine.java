@@ -2,22 +2,38 @@ package com.candidate.pixkeymanagement.validation.orchestrator;
 
 
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
-import com.candidate.pixkeymanagement.validation.interfaces.ChainElement;
 import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import com.candidate.pixkeymanagement.validation.prefetch.ValidationFactsLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
+/**
+ * Runs the steps of the request key type. With fail-fast on, a malformed key never reaches the database because
+ * the facts are only loaded when the pipeline gets to a step that needs them.
+ */
+@Slf4j
 @Service
+@Profile("!reactive")
+@RequiredArgsConstructor
 public class ValidationStepEngine {
 
-    private final ValidationStep chainHead;
+    private final ValidationPipelines validationPipelines;
+    private final ValidationFactsLoader validationFactsLoader;
 
-    public ValidationStepEngine(List<ValidationStep> steps) {
-        this.chainHead = ChainElement.buildChain(steps, new NoOpValidationStep());
-    }
+    /**
+     * Facts already set by the caller (the batch registration computes them for the whole batch) are not reloaded.
+     */
+    public PixKeyContext validation(PixKeyContext context) {
+        ValidationStep[] pipeline = validationPipelines.pipelineOf(context);
+        int next = validationPipelines.run(context, pipeline, 0);
+
+        if (next < pipeline.length) {
+            context.setFacts(validationFactsLoader.load(context));
+            validationPipelines.run(context, pipeline, next);
+        }
 
-    public PixKeyContext validation(PixKeyContext message) {
-        return chainHead.validation(message);
+        return context;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.candidate.pixkeymanagement.validation.prefetch;
+
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Loads every database fact the validation steps need. Account key counts come from {@link AccountKeyCounter}
+ * whenever it holds them, leaving at most an exact key value lookup; otherwise everything is read with a single
+ * query. The key value is only looked up on a POST and only when the key value index can't rule it out. With
+ * cluster-wide account locks neither the counts nor the index are used, since both miss the keys registered by other
+ * instances: the key value and the counts are always read from the database.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ValidationFactsLoader {
+
+    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final KeyValueIndex keyValueIndex;
+    private final AccountKeyCounter accountKeyCounter;
+    private final AccountLocks accountLocks;
+
+    public ValidationFacts load(PixKeyContext context) {
+        PixKeyRequestDTO fields = context.getFields();
+        String keyValue = fields.getKeyValue();
+        boolean checksKeyValue = Objects.equals("POST", context.getTransactionType()) && Objects.nonNull(keyValue);
+
+        Optional<Map<PixKeyType, Integer>> activeKeysByType = accountLocks.isClusterWide() ? Optional.empty()
+                : accountKeyCounter.find(fields.getAgencyNumber(), fields.getAccountNumber());
+        if (activeKeysByType.isPresent()) {
+            log.debug("Account validation facts read from key counts");
+            return new ValidationFacts(checksKeyValue && keyValueIndex.isRegistered(keyValue), activeKeysByType.get());
+        }
+
+        if (checksKeyValue && accountLocks.isClusterWide()) {
+            log.debug("Loading key value and account validation facts");
+            return fromKeyValidationFacts(pixKeyRegisterRepository.findValidationFacts(keyValue, fields.getAgencyNumber(),
+                    fields.getAccountNumber()));
+        }
+
+        if (checksKeyValue && keyValueIndex.requiresDatabaseCheck(keyValue)) {
+            return loadWithKeyValue(keyValue, fields.getAgencyNumber(), fields.getAccountNumber());
+        }
+
+        log.debug("Loading account validation facts");
+        return fromAccountKeyCounts(pixKeyRegisterRepository.countGroupedByAgencyAndAccount(
+                Set.of(fields.getAgencyNumber()), Set.of(fields.getAccountNumber())));
+    }
+
+    private ValidationFacts loadWithKeyValue(String keyValue, Integer agencyNumber, Long accountNumber) {
+        log.debug("Loading key value and account validation facts");
+        ValidationFacts validationFacts = fromKeyValidationFacts(
+                pixKeyRegisterRepository.findValidationFacts(keyValue, agencyNumber, accountNumber));
+
+        keyValueIndex.recordDatabaseCheck(keyValue, validationFacts.isKeyAlreadyRegistered());
+        return validationFacts;
+    }
+
+    static ValidationFacts fromAccountKeyCounts(List<AccountKeyCount> accountKeyCounts) {
+        Map<PixKeyType, Integer> activeKeysByType = new EnumMap<>(PixKeyType.class);
+        accountKeyCounts.forEach(accountKeyCount ->
+                activeKeysByType.put(accountKeyCount.getKeyType(), accountKeyCount.getTotal().intValue()));
+
+        return new ValidationFacts(false, activeKeysByType);
+    }
+
+    static ValidationFacts fromKeyValidationFacts(List<KeyValidationFacts> keyValidationFacts) {
+        boolean keyAlreadyRegistered = false;
+        Map<PixKeyType, Integer> activeKeysByType = new EnumMap<>(PixKeyType.class);
+
+        for (KeyValidationFacts facts : keyValidationFacts) {
+            keyAlreadyRegistered |= facts.getKeyValueMatches() > 0;
+
+            if (facts.getActiveAccountKeys() > 0) {
+                activeKeysByType.put(facts.getKeyType(), facts.getActiveAccountKeys().intValue());
+            }
+        }
+
+        return new ValidationFacts(keyAlreadyRegistered, activeKeysByType);
+    }
+}
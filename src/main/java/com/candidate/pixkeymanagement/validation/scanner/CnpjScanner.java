@@ -0,0 +1,85 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.isDigit;
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.mod11CheckDigit;
+
+/**
+ * Validates a CNPJ in a single pass over the input, computing both check digits while reading it. Accepted formats
+ * are {@code 00000000000000} and {@code 00.000.000/0000-00}. The first 12 characters may also be upper-case letters
+ * (alphanumeric CNPJ), each worth its ASCII code minus 48 in the check digit sums; the check digits are always
+ * numeric.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class CnpjScanner {
+
+    private static final int DIGITS = 14;
+    private static final int FORMATTED_LENGTH = 18;
+
+    public static boolean isValid(CharSequence value) {
+        if (Objects.isNull(value)) {
+            return false;
+        }
+
+        int length = value.length();
+        if (length != DIGITS && length != FORMATTED_LENGTH) {
+            return false;
+        }
+
+        int digitIndex = 0;
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstCheckDigit = 0;
+        int secondCheckDigit = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            char separator = length == FORMATTED_LENGTH ? separatorAt(i) : 0;
+
+            if (separator != 0) {
+                if (c != separator) {
+                    return false;
+                }
+                continue;
+            }
+
+            if (digitIndex < 12) {
+                if (!isDigit(c) && !isUpperCaseLetter(c)) {
+                    return false;
+                }
+
+                int digit = c - '0';
+                firstSum += digit * (digitIndex < 4 ? 5 - digitIndex : 13 - digitIndex);
+                secondSum += digit * (digitIndex < 5 ? 6 - digitIndex : 14 - digitIndex);
+            } else if (!isDigit(c)) {
+                return false;
+            } else if (digitIndex == 12) {
+                firstCheckDigit = c - '0';
+            } else {
+                secondCheckDigit = c - '0';
+            }
+            digitIndex++;
+        }
+
+        int expectedFirstCheckDigit = mod11CheckDigit(firstSum);
+        return firstCheckDigit == expectedFirstCheckDigit
+                && secondCheckDigit == mod11CheckDigit(secondSum + expectedFirstCheckDigit * 2);
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static char separatorAt(int index) {
+        return switch (index) {
+            case 2, 6 -> '.';
+            case 10 -> '/';
+            case 15 -> '-';
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.isDigit;
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.mod11CheckDigit;
+
+/**
+ * Validates a CPF in a single pass over the input, computing both check digits while reading it. Accepted formats
+ * are {@code 00000000000}, {@code 000000000-00} and {@code 000.000.000-00}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class CpfScanner {
+
+    private static final int DIGITS = 11;
+
+    public static boolean isValid(CharSequence value) {
+        if (Objects.isNull(value)) {
+            return false;
+        }
+
+        int length = value.length();
+        if (length != DIGITS && length != 12 && length != 14) {
+            return false;
+        }
+
+        int digitIndex = 0;
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstCheckDigit = 0;
+        int secondCheckDigit = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            char separator = separatorAt(length, i);
+
+            if (separator != 0) {
+                if (c != separator) {
+                    return false;
+                }
+                continue;
+            }
+
+            if (!isDigit(c)) {
+                return false;
+            }
+
+            int digit = c - '0';
+            if (digitIndex < 9) {
+                firstSum += digit * (10 - digitIndex);
+                secondSum += digit * (11 - digitIndex);
+            } else if (digitIndex == 9) {
+                firstCheckDigit = digit;
+            } else {
+                secondCheckDigit = digit;
+            }
+            digitIndex++;
+        }
+
+        int expectedFirstCheckDigit = mod11CheckDigit(firstSum);
+        return firstCheckDigit == expectedFirstCheckDigit
+                && secondCheckDigit == mod11CheckDigit(secondSum + expectedFirstCheckDigit * 2);
+    }
+
+    private static char separatorAt(int length, int index) {
+        if (length == 14) {
+            return index == 3 || index == 7 ? '.' : index == 11 ? '-' : 0;
+        }
+
+        return length == 12 && index == 9 ? '-' : 0;
+    }
+}
@@ -0,0 +1,30 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+abstract class Digits {
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean allDigits(CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check digit of the modulo 11 scheme used by CPF and CNPJ: remainders 0 and 1 give 0.
+     */
+    static int mod11CheckDigit(int weightedSum) {
+        int remainder = weightedSum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
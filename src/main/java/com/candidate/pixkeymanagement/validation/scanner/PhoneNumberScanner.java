@@ -0,0 +1,64 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.allDigits;
+import static com.candidate.pixkeymanagement.validation.scanner.Digits.isDigit;
+
+/**
+ * Splits a phone key into country code ({@code +} and two digits), DDD and the nine digit number in place, without
+ * substrings. {@link #scan(CharSequence)} returns the failed parts as a bit mask, {@code 0} meaning valid.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class PhoneNumberScanner {
+
+    public static final int INVALID_COUNTRY_CODE = 1;
+    public static final int NON_NUMERIC_NUMBER = 1 << 1;
+    public static final int NON_NUMERIC_DDD = 1 << 2;
+    public static final int INVALID_DDD_LENGTH = 1 << 3;
+
+    private static final int COUNTRY_CODE_LENGTH = 3;
+    private static final int NUMBER_LENGTH = 9;
+
+    public static int scan(CharSequence key) {
+        int length = key.length();
+        int failures = 0;
+
+        if (length <= COUNTRY_CODE_LENGTH || key.charAt(0) != '+' || !isDigit(key.charAt(1)) || !isDigit(key.charAt(2))) {
+            failures |= INVALID_COUNTRY_CODE;
+        }
+
+        if (length <= NUMBER_LENGTH || !allDigits(key, length - NUMBER_LENGTH, length)) {
+            failures |= NON_NUMERIC_NUMBER;
+        }
+
+        // The DDD is whatever sits between the country code and the last nine characters, blanks around it ignored.
+        int start = Math.min(COUNTRY_CODE_LENGTH, length);
+        int end = length;
+        while (end > start && key.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        while (start < end && key.charAt(start) <= ' ') {
+            start++;
+        }
+
+        int dddEnd = Math.max(start, end - NUMBER_LENGTH);
+        while (dddEnd > start && key.charAt(dddEnd - 1) <= ' ') {
+            dddEnd--;
+        }
+
+        int dddLength = dddEnd - start;
+        boolean numericDdd = dddLength > 0 && allDigits(key, start, dddEnd);
+
+        if (!numericDdd) {
+            failures |= NON_NUMERIC_DDD;
+        }
+
+        if (!numericDdd || dddLength < 2 || dddLength > 3) {
+            failures |= INVALID_DDD_LENGTH;
+        }
+
+        return failures;
+    }
+}
@@ -0,0 +1,40 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * Validates a random key in its canonical form, the lower-case UUID generated by the random key pool:
+ * {@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class RandomKeyScanner {
+
+    private static final int LENGTH = 36;
+
+    public static boolean isValid(CharSequence value) {
+        if (Objects.isNull(value) || value.length() != LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isLowerHex(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLowerHex(char c) {
+        return Digits.isDigit(c) || (c >= 'a' && c <= 'f');
+    }
+}
@@ -2,41 +2,40 @@ package com.candidate.pixkeymanagement.validation.steps;
 
 
 import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
-import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
-import com.candidate.pixkeymanagement.validation.orchestrator.AbstractValidationStep;
-import com.candidate.pixkeymanagement.validation.strategy.RegexOnlyNumber;
-import com.candidate.pixkeymanagement.validation.strategy.ValidateRegexStrategy;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CELLPHONE;
 import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
-import static com.candidate.pixkeymanagement.util.RegexConstant.COUNTRY_CODE_REGEX;
-import static com.candidate.pixkeymanagement.util.RegexConstant.TWO_OR_THREE_DIGITS_REGEX;
+import static com.candidate.pixkeymanagement.validation.scanner.PhoneNumberScanner.*;
 
 @Service
 @RequiredArgsConstructor
 @Order(0)
 @Slf4j
-public class CellPhoneValidationStep extends AbstractValidationStep {
+public class CellPhoneValidationStep implements ValidationStep {
 
-    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final ErrorMessageCatalog errorMessageCatalog;
 
     @Override
-    protected Optional<PixKeyContext> validateAndApplyNext(PixKeyContext context) {
-        if (!CELLPHONE.equals(context.getFields().getKeyType())) {
-            return Optional.of(context);
-        }
-
+    public void validate(PixKeyContext context) {
         validateFields(context);
-        return Optional.of(context);
+    }
+
+    @Override
+    public Set<PixKeyType> keyTypes() {
+        return EnumSet.of(CELLPHONE);
     }
 
     private void validateFields(PixKeyContext context) {
@@ -47,10 +46,12 @@ public class CellPhoneValidationStep extends AbstractValidationStep {
             return;
         }
 
-        hasValidCountryCode(key, errorList);
-        hasOnlyNumberPhoneNumber(key, errorList);
-        hasOnlyNumbersDDD(key, errorList);
-        hasValidDDD(key, errorList);
+        int failures = scan(key);
+
+        addErrorIfFailed(failures, INVALID_COUNTRY_CODE, "Código de país inválido", errorList);
+        addErrorIfFailed(failures, NON_NUMERIC_NUMBER, "Número de telefone não pode conter letras", errorList);
+        addErrorIfFailed(failures, NON_NUMERIC_DDD, "DDD não pode conter letras", errorList);
+        addErrorIfFailed(failures, INVALID_DDD_LENGTH, "DDD não possui quantidade de dígitos necessárias", errorList);
     }
 
     private boolean checkMaxLengthRule(String key, List<ErrorMessageDTO> errorList) {
@@ -58,69 +59,16 @@ public class CellPhoneValidationStep extends AbstractValidationStep {
             return true;
         }
 
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, CELLPHONE.getValue(), "Campo valorChave excedeu tamanho máximo"));
-        return false;
-    }
-
-    private boolean hasValidCountryCode(String key, List<ErrorMessageDTO> errorList) {
-        String countryCode = extractCountryCode(key);
-
-        if (Objects.nonNull(countryCode) && countryCode.matches(COUNTRY_CODE_REGEX)) {
-            return true;
-        }
-
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, CELLPHONE.getValue(), "Código de país inválido"));
-
+        errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, CELLPHONE.getValue(), "Campo valorChave excedeu tamanho máximo"));
         return false;
     }
 
-    private boolean hasValidDDD(String key, List<ErrorMessageDTO> errorList) {
-        String ddd = extractDDD(key);
-
-        if ((ddd.matches(TWO_OR_THREE_DIGITS_REGEX))) {
-            return true;
-        }
-
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, CELLPHONE.getValue(), "DDD não possui quantidade de dígitos necessárias"));
-        return false;
-    }
-
-    private boolean hasOnlyNumbersDDD(String key, List<ErrorMessageDTO> errorList) {
-        ValidateRegexStrategy regexOnlyNumber = new RegexOnlyNumber();
-
-        String ddd = extractDDD(key);
-
-        if (regexOnlyNumber.validate(ddd)) {
-            return true;
-        }
-
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, CELLPHONE.getValue(), "DDD não pode conter letras"));
-        return false;
-    }
-
-    private boolean hasOnlyNumberPhoneNumber(String key, List<ErrorMessageDTO> errorList) {
-        ValidateRegexStrategy regexOnlyNumber = new RegexOnlyNumber();
-        String phoneNumber = extractPhoneNumber(key);
-
-        if (Objects.nonNull(phoneNumber) && regexOnlyNumber.validate(phoneNumber)) {
-            return true;
+    private void addErrorIfFailed(int failures, int check, String detail, List<ErrorMessageDTO> errorList) {
+        if ((failures & check) == 0) {
+            return;
         }
 
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, CELLPHONE.getValue(), "Número de telefone não pode conter letras"));
-        return false;
-    }
-
-    private String extractCountryCode(String key) {
-        return Objects.nonNull(key) && key.startsWith("+") && key.length() >= 4 ? key.substring(0, 3) : null;
-    }
-
-    private String extractDDD(String phoneNumber) {
-        String phoneNumberWithoutCountryCode = phoneNumber.substring(3).trim();
-        return phoneNumberWithoutCountryCode.substring(0, phoneNumberWithoutCountryCode.length() - 9).trim();
-    }
-
-    private String extractPhoneNumber(String key) {
-        return key.length() > 9 ? key.substring(key.length() - 9) : null;
+        errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, CELLPHONE.getValue(), detail));
     }
 
 //+55 19 954545467
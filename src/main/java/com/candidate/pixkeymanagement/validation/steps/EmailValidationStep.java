@@ -3,16 +3,18 @@ package com.candidate.pixkeymanagement.validation.steps;
 
 import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
-import com.candidate.pixkeymanagement.validation.orchestrator.AbstractValidationStep;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.EMAIL;
 import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
@@ -21,16 +23,18 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAI
 @RequiredArgsConstructor
 @Order(2)
 @Slf4j
-public class EmailValidationStep extends AbstractValidationStep {
+public class EmailValidationStep implements ValidationStep {
 
-    @Override
-    protected Optional<PixKeyContext> validateAndApplyNext(PixKeyContext context) {
-        if (!PixKeyType.EMAIL.equals(context.getFields().getKeyType())) {
-            return Optional.of(context);
-        }
+    private final ErrorMessageCatalog errorMessageCatalog;
 
+    @Override
+    public void validate(PixKeyContext context) {
         validateFields(context);
-        return Optional.of(context);
+    }
+
+    @Override
+    public Set<PixKeyType> keyTypes() {
+        return EnumSet.of(EMAIL);
     }
 
     private void validateFields(PixKeyContext context) {
@@ -38,7 +42,7 @@ public class EmailValidationStep extends AbstractValidationStep {
         String key = context.getFields().getKeyValue();
 
         if (Objects.isNull(key)) {
-            errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, EMAIL.getValue(), "Email inválido"));
+            errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, EMAIL.getValue(), "Email inválido"));
             return;
         }
 
@@ -51,7 +55,7 @@ public class EmailValidationStep extends AbstractValidationStep {
             return;
         }
 
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, EMAIL.getValue(), "Email inválido"));
+        errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, EMAIL.getValue(), "Email inválido"));
     }
 
     private void validateMaxLength(String email, List<ErrorMessageDTO> errorList) {
@@ -59,7 +63,7 @@ public class EmailValidationStep extends AbstractValidationStep {
             return;
         }
 
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, EMAIL.getValue(), "Campo valorChave excedeu tamanho máximo"));
+        errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, EMAIL.getValue(), "Campo valorChave excedeu tamanho máximo"));
     }
 
 }
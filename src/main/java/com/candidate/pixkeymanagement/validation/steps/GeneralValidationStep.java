@@ -4,18 +4,17 @@ package com.candidate.pixkeymanagement.validation.steps;
 import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
-import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
-import com.candidate.pixkeymanagement.validation.orchestrator.AbstractValidationStep;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CNPJ;
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CPF;
@@ -25,17 +24,17 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.*;
 @RequiredArgsConstructor
 @Order(3)
 @Slf4j
-public class GeneralValidationStep extends AbstractValidationStep {
+public class GeneralValidationStep implements ValidationStep {
 
-    private final PixKeyRegisterRepository pixKeyRegisterRepository;
+    private final ErrorMessageCatalog errorMessageCatalog;
 
     @Override
-    protected Optional<PixKeyContext> validateAndApplyNext(PixKeyContext context) {
-        validate(context);
-        return Optional.of(context);
+    public boolean requiresFacts() {
+        return true;
     }
 
-    private void validate(PixKeyContext context) {
+    @Override
+    public void validate(PixKeyContext context) {
         List<ErrorMessageDTO> errorList = context.getErrorList();
         String key = context.getFields().getKeyValue();
 
@@ -44,10 +43,10 @@ public class GeneralValidationStep extends AbstractValidationStep {
         }
 
         if (Objects.equals("POST", context.getTransactionType())) {
-            hasAlreadyRegistered(key, errorList);
+            hasAlreadyRegistered(context, errorList);
         }
 
-        hasMoreThanFiveOrTwentyKeysRegisters(context.getFields(), errorList);
+        hasMoreThanFiveOrTwentyKeysRegisters(context, errorList);
     }
 
     private boolean checkIfKeyIsNonNull(String key, List<ErrorMessageDTO> errorList) {
@@ -55,30 +54,31 @@ public class GeneralValidationStep extends AbstractValidationStep {
             return true;
         }
 
-        errorList.add(new ErrorMessageDTO(VALIDATION_FAILED, "Falha ao validar campo valorChave"));
+        errorList.add(errorMessageCatalog.error(VALIDATION_FAILED, "Falha ao validar campo valorChave"));
         return false;
     }
 
-    private boolean hasAlreadyRegistered(String key, List<ErrorMessageDTO> errorList) {
-        if (ObjectUtils.isEmpty(pixKeyRegisterRepository.findByKeyValue(key))) {
+    private boolean hasAlreadyRegistered(PixKeyContext context, List<ErrorMessageDTO> errorList) {
+        if (!context.getFacts().isKeyAlreadyRegistered()) {
             return true;
         }
 
-        errorList.add(new ErrorMessageDTO(KEY_ALREADY_REGISTERED));
+        errorList.add(errorMessageCatalog.error(KEY_ALREADY_REGISTERED));
         return false;
     }
 
-    private boolean hasMoreThanFiveOrTwentyKeysRegisters(PixKeyRequestDTO pixKeyRequestDTO, List<ErrorMessageDTO> errorList) {
-        Integer countRegisters = pixKeyRegisterRepository.countByAgencyNumberAndAccountNumber(pixKeyRequestDTO.getAgencyNumber(),
-                pixKeyRequestDTO.getAccountNumber());
+    private boolean hasMoreThanFiveOrTwentyKeysRegisters(PixKeyContext context, List<ErrorMessageDTO> errorList) {
+        PixKeyRequestDTO pixKeyRequestDTO = context.getFields();
+        ValidationFacts facts = context.getFacts();
+        int countRegisters = facts.getActiveKeys();
 
         if (PixKeyType.CPF.equals(pixKeyRequestDTO.getKeyType()) && countRegisters > 5) {
-            errorList.add(new ErrorMessageDTO(EXCEEDED_REGISTERS_FOR_TYPE, CPF.getValue()));
+            errorList.add(errorMessageCatalog.error(EXCEEDED_REGISTERS_FOR_TYPE, CPF.getValue()));
             return false;
         }
 
         if (PixKeyType.CNPJ.equals(pixKeyRequestDTO.getKeyType()) && countRegisters > 20) {
-            errorList.add(new ErrorMessageDTO(EXCEEDED_REGISTERS_FOR_TYPE, CNPJ.getValue()));
+            errorList.add(errorMessageCatalog.error(EXCEEDED_REGISTERS_FOR_TYPE, CNPJ.getValue()));
             return false;
         }
 
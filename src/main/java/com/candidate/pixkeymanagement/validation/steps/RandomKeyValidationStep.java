@@ -0,0 +1,47 @@
+package com.candidate.pixkeymanagement.validation.steps;
+
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import com.candidate.pixkeymanagement.validation.scanner.RandomKeyScanner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.candidate.pixkeymanagement.enumeration.PixKeyType.RANDOM_KEY;
+import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
+
+
+@Service
+@RequiredArgsConstructor
+@Order(2)
+@Slf4j
+public class RandomKeyValidationStep implements ValidationStep {
+
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @Override
+    public void validate(PixKeyContext context) {
+        validateFields(context);
+    }
+
+    @Override
+    public Set<PixKeyType> keyTypes() {
+        return EnumSet.of(RANDOM_KEY);
+    }
+
+    private void validateFields(PixKeyContext context) {
+        if (RandomKeyScanner.isValid(context.getFields().getKeyValue())) {
+            return;
+        }
+
+        context.getErrorList().add(errorMessageCatalog.error(VALIDATION_FAILED, RANDOM_KEY.getValue(), "Chave aleatória inválida"));
+    }
+
+}
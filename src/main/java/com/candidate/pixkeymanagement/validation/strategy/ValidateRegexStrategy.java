@@ -1,6 +0,0 @@
-package com.candidate.pixkeymanagement.validation.strategy;
-
-public interface ValidateRegexStrategy {
-    boolean validate(String key);
-}
-
@@ -0,0 +1,32 @@
+-- Key values registered before KeyValueNormalizer kept their punctuation and case, so they are rewritten in the same
+-- canonical form: CPF and CNPJ without '.', '-', '/' and spaces (CNPJ letters upper-cased) and emails lower-cased,
+-- all trimmed. Active keys that end up with the same value keep the oldest registration; the others are inactivated
+-- before the rewrite, so the unique index of V2 can be built.
+UPDATE pix_key_register p
+SET key_inactivation_date = now()
+FROM (SELECT id,
+             row_number() OVER (PARTITION BY normalized_key_value ORDER BY key_registration_date, id) AS position
+      FROM (SELECT id, key_registration_date,
+                   CASE upper(key_type)
+                       WHEN 'CPF' THEN translate(btrim(key_value, E' \t\n\r\f'), './- ', '')
+                       WHEN 'CNPJ' THEN upper(translate(btrim(key_value, E' \t\n\r\f'), './- ', ''))
+                       ELSE lower(btrim(key_value, E' \t\n\r\f'))
+                       END AS normalized_key_value
+            FROM pix_key_register
+            WHERE key_inactivation_date IS NULL
+              AND upper(key_type) IN ('CPF', 'CNPJ', 'EMAIL')) normalized) ranked
+WHERE p.id = ranked.id
+  AND ranked.position > 1;
+
+UPDATE pix_key_register
+SET key_value = CASE upper(key_type)
+                    WHEN 'CPF' THEN translate(btrim(key_value, E' \t\n\r\f'), './- ', '')
+                    WHEN 'CNPJ' THEN upper(translate(btrim(key_value, E' \t\n\r\f'), './- ', ''))
+                    ELSE lower(btrim(key_value, E' \t\n\r\f'))
+                    END
+WHERE upper(key_type) IN ('CPF', 'CNPJ', 'EMAIL')
+  AND key_value <> CASE upper(key_type)
+                       WHEN 'CPF' THEN translate(btrim(key_value, E' \t\n\r\f'), './- ', '')
+                       WHEN 'CNPJ' THEN upper(translate(btrim(key_value, E' \t\n\r\f'), './- ', ''))
+                       ELSE lower(btrim(key_value, E' \t\n\r\f'))
+                       END;
@@ -0,0 +1,15 @@
+-- The unique index of V2 allows a single active row per key value. Tables that predate it may hold more than one, so
+-- for every key value the oldest active registration stays active and the others are inactivated.
+UPDATE pix_key_register p
+SET key_inactivation_date = now()
+FROM (SELECT id,
+             row_number() OVER (PARTITION BY key_value ORDER BY key_registration_date, id) AS position
+      FROM pix_key_register
+      WHERE key_inactivation_date IS NULL
+        AND key_value IN (SELECT key_value
+                          FROM pix_key_register
+                          WHERE key_inactivation_date IS NULL
+                          GROUP BY key_value
+                          HAVING count(*) > 1)) ranked
+WHERE p.id = ranked.id
+  AND ranked.position > 1;
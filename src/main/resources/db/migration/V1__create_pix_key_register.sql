@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS pix_key_register (
+    id uuid NOT NULL,
+    key_type varchar(9) NOT NULL,
+    key_value varchar(77) NOT NULL,
+    account_type varchar(10) NOT NULL,
+    agency_number int4 NOT NULL,
+    account_number int8 NOT NULL,
+    account_holder_first_name varchar(30) NOT NULL,
+    account_holder_last_name varchar(45) NULL,
+    key_registration_date timestamp(6) NOT NULL,
+    key_inactivation_date timestamp(6) NULL,
+    CONSTRAINT pix_key_register_account_type_check CHECK (account_type IN ('corrente', 'poupanca', 'CORRENTE', 'POUPANCA')),
+    CONSTRAINT pix_key_register_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,44 @@
+-- Built CONCURRENTLY so that writes to an existing table go on meanwhile, which rules out a transaction. A build that
+-- fails leaves an INVALID index behind that IF NOT EXISTS would skip, so those are dropped first.
+DO $$
+DECLARE
+    invalid_index regclass;
+BEGIN
+    FOR invalid_index IN
+        SELECT i.indexrelid::regclass
+        FROM pg_index i
+        WHERE i.indrelid = 'pix_key_register'::regclass
+          AND NOT i.indisvalid
+    LOOP
+        EXECUTE format('DROP INDEX %s', invalid_index);
+    END LOOP;
+END
+$$;
+
+-- existsByKeyValue / findExistingKeyValues: the duplicate check covers inactive keys too.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_key_value
+    ON pix_key_register (key_value);
+
+-- findActiveByKeyValue (resolve endpoint); also enforces one active row per key value.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_pix_key_register_key_value_active
+    ON pix_key_register (key_value)
+    WHERE key_inactivation_date IS NULL;
+
+-- countByAgencyNumberAndAccountNumber / countGroupedByAgencyAndAccount and /filter by agency (+ account).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_account
+    ON pix_key_register (agency_number, account_number);
+
+-- /filter by key type, optionally narrowed by agency and account.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_type_account
+    ON pix_key_register (key_type, agency_number, account_number);
+
+-- /filter by account number or holder name alone.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_account_number
+    ON pix_key_register (account_number);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_holder_first_name
+    ON pix_key_register (account_holder_first_name);
+
+-- Keyset pagination order of /filter.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_pix_key_register_registration
+    ON pix_key_register (key_registration_date, id);
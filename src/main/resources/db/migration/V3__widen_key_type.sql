@@ -0,0 +1,2 @@
+-- 'CHAVE ALEATORIA' does not fit in varchar(9).
+ALTER TABLE pix_key_register ALTER COLUMN key_type TYPE varchar(15);
@@ -0,0 +1,16 @@
+-- Active keys per account and key type, kept in step with pix_key_register by the services that register,
+-- move and inactivate keys. Durable source of the in-memory limit counters (AccountKeyCounter).
+CREATE TABLE IF NOT EXISTS key_count (
+    agency_number  int4        NOT NULL,
+    account_number int8        NOT NULL,
+    key_type       varchar(15) NOT NULL,
+    active_keys    int4        NOT NULL,
+    CONSTRAINT pk_key_count PRIMARY KEY (agency_number, account_number, key_type)
+);
+
+INSERT INTO key_count (agency_number, account_number, key_type, active_keys)
+SELECT agency_number, account_number, key_type, count(*)
+FROM pix_key_register
+WHERE key_inactivation_date IS NULL
+GROUP BY agency_number, account_number, key_type
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,3 @@
+-- Optimistic locking (@Version): an update or inactivation based on a stale read matches no row.
+-- A constant default doesn't rewrite the table, so this is instant on a large table.
+ALTER TABLE pix_key_register ADD COLUMN IF NOT EXISTS version int8 NOT NULL DEFAULT 0;
@@ -0,0 +1,30 @@
+-- Key and account types stored as the smallint codes of PixKeyType and AccountType instead of their display text.
+-- Every spelling the text columns held, including the lowercase account types V1 accepted, maps to its code; any
+-- other value maps to null, fails NOT NULL and rolls the whole migration back. Rewrites both tables and rebuilds
+-- their indexes under an exclusive lock.
+ALTER TABLE pix_key_register DROP CONSTRAINT IF EXISTS pix_key_register_account_type_check;
+
+ALTER TABLE pix_key_register
+    ALTER COLUMN key_type TYPE int2 USING CASE upper(key_type)
+        WHEN 'CELULAR' THEN 1
+        WHEN 'EMAIL' THEN 2
+        WHEN 'CPF' THEN 3
+        WHEN 'CNPJ' THEN 4
+        WHEN 'CHAVE ALEATORIA' THEN 5
+        END,
+    ALTER COLUMN account_type TYPE int2 USING CASE upper(account_type)
+        WHEN 'CORRENTE' THEN 1
+        WHEN 'POUPANCA' THEN 2
+        END,
+    ADD CONSTRAINT pix_key_register_key_type_check CHECK (key_type BETWEEN 1 AND 5),
+    ADD CONSTRAINT pix_key_register_account_type_check CHECK (account_type IN (1, 2));
+
+ALTER TABLE key_count
+    ALTER COLUMN key_type TYPE int2 USING CASE upper(key_type)
+        WHEN 'CELULAR' THEN 1
+        WHEN 'EMAIL' THEN 2
+        WHEN 'CPF' THEN 3
+        WHEN 'CNPJ' THEN 4
+        WHEN 'CHAVE ALEATORIA' THEN 5
+        END,
+    ADD CONSTRAINT key_count_key_type_check CHECK (key_type BETWEEN 1 AND 5);
@@ -0,0 +1,90 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.CONCURRENT_UPDATE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDeleteKeyServiceTest {
+
+    @InjectMocks
+    private ReactiveDeleteKeyService reactiveDeleteKeyService;
+
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
+    @Test
+    void shouldInactivateKey() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow()));
+        when(reactivePixKeyRegisterRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        PixKeyResponseDTO responseDTO = reactiveDeleteKeyService.process(UUID.randomUUID()).block();
+
+        assertEquals("Chave Pix deletada com sucesso", responseDTO.getMessage());
+        assertNotNull(responseDTO.getKeyInactivationDate());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenPixKeyNotFound() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.empty());
+
+        assertThrows(NotFoundException.class, () -> reactiveDeleteKeyService.process(UUID.randomUUID()).block());
+    }
+
+    @Test
+    void shouldThrowUnexpectedExceptionWhenPersistFails() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow()));
+        when(reactivePixKeyRegisterRepository.save(any())).thenReturn(Mono.error(new IllegalStateException()));
+
+        assertThrows(UnexpectedException.class, () -> reactiveDeleteKeyService.process(UUID.randomUUID()).block());
+    }
+
+    @Test
+    void shouldReturnConcurrentUpdateWhenVersionIsStale() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow()));
+        when(reactivePixKeyRegisterRepository.save(any())).thenReturn(Mono.error(new OptimisticLockingFailureException("stale version")));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> reactiveDeleteKeyService.process(UUID.randomUUID()).block());
+
+        assertEquals(errorMessageCatalog.getMessage(CONCURRENT_UPDATE), exception.getErrors().get(0).getMessage());
+    }
+
+    private PixKeyRegisterRow getRow() {
+        return PixKeyRegisterRow.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.orchestrator.ReactiveValidationStepEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRegisterKeyServiceTest {
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
+    @InjectMocks
+    private ReactiveRegisterKeyService reactiveRegisterKeyService;
+
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Mock
+    private ReactiveValidationStepEngine reactiveValidationStepEngine;
+
+    @Mock
+    private RandomKeyPool randomKeyPool;
+
+    @Test
+    void shouldRegisterKeyAsNewRow() {
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        PixKeyResponseDTO responseDTO = reactiveRegisterKeyService.process(getRequest()).block();
+
+        ArgumentCaptor<PixKeyRegisterRow> row = ArgumentCaptor.forClass(PixKeyRegisterRow.class);
+        verify(reactivePixKeyRegisterRepository).save(row.capture());
+        assertTrue(row.getValue().isNew());
+        assertEquals("lorem.ipsum@gmail.com", row.getValue().getKeyValue());
+        assertEquals(row.getValue().getId(), responseDTO.getId());
+        assertEquals("Chave Pix cadastrada com sucesso", responseDTO.getMessage());
+    }
+
+    @Test
+    void shouldRegisterRandomKeyTakenFromPool() {
+        String randomKey = "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11";
+        PixKeyRequestDTO request = getRequest();
+        request.setKeyType(PixKeyType.RANDOM_KEY);
+        request.setKeyValue(null);
+        when(randomKeyPool.take()).thenReturn(randomKey);
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        PixKeyResponseDTO responseDTO = reactiveRegisterKeyService.process(request).block();
+
+        assertEquals(randomKey, responseDTO.getKeyValue());
+        verify(reactivePixKeyRegisterRepository).save(argThat(row -> randomKey.equals(row.getKeyValue())));
+    }
+
+    @Test
+    void shouldNotPersistWhenValidationFails() {
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> {
+            PixKeyContext context = invocation.getArgument(0);
+            context.getErrorList().add(errorMessageCatalog.error(KEY_ALREADY_REGISTERED));
+            return Mono.just(context);
+        });
+
+        Mono<PixKeyResponseDTO> response = reactiveRegisterKeyService.process(getRequest());
+
+        assertThrows(UnprocessableEntityException.class, response::block);
+        verify(reactivePixKeyRegisterRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowUnexpectedExceptionWhenPersistFails() {
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenReturn(Mono.error(new IllegalStateException()));
+
+        assertThrows(UnexpectedException.class, () -> reactiveRegisterKeyService.process(getRequest()).block());
+    }
+
+    @Test
+    void shouldReturnKeyAlreadyRegisteredWhenConcurrentRegistrationWins() {
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenReturn(Mono.error(new DuplicateKeyException(
+                "duplicate key value violates unique constraint \"ux_pix_key_register_key_value_active\"")));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> reactiveRegisterKeyService.process(getRequest()).block());
+
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), exception.getErrors().get(0).getMessage());
+    }
+
+    private PixKeyRequestDTO getRequest() {
+        return PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.EMAIL)
+                .keyValue(" Lorem.Ipsum@gmail.com ")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveResolveKeyServiceTest {
+
+    @InjectMocks
+    private ReactiveResolveKeyService reactiveResolveKeyService;
+
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Test
+    void shouldResolveNormalizedKeyValue() {
+        when(reactivePixKeyRegisterRepository.findByKeyValueAndKeyInactivationDateIsNull("12345678909"))
+                .thenReturn(Mono.just(getRow(AccountType.SAVINGS)));
+
+        PixKeyResolveResponseDTO responseDTO = reactiveResolveKeyService.process("123.456.789-09").block();
+
+        assertEquals(PixKeyType.CPF, responseDTO.getKeyType());
+        assertEquals(AccountType.SAVINGS, responseDTO.getAccountType());
+        assertEquals("Ipsum", responseDTO.getAccountHolderLastName());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionForBlankKeyValue() {
+        assertThrows(NotFoundException.class, () -> reactiveResolveKeyService.process(" ").block());
+        verifyNoInteractions(reactivePixKeyRegisterRepository);
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenPixKeyNotFound() {
+        when(reactivePixKeyRegisterRepository.findByKeyValueAndKeyInactivationDateIsNull(any())).thenReturn(Mono.empty());
+
+        assertThrows(NotFoundException.class, () -> reactiveResolveKeyService.process("12345678909").block());
+    }
+
+    private PixKeyRegisterRow getRow(AccountType accountType) {
+        return PixKeyRegisterRow.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.CPF)
+                .keyValue("12345678909")
+                .accountType(accountType)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.configuration.FilterSearchProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyPageDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.relational.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.FIELD_INVALID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSearchKeyByFilterServiceTest {
+
+    private final ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private FilterSearchProperties filterSearchProperties;
+    private ReactiveSearchKeyByFilterService reactiveSearchKeyByFilterService;
+
+    @BeforeEach
+    void setUp() {
+        filterSearchProperties = new FilterSearchProperties();
+        reactiveSearchKeyByFilterService = new ReactiveSearchKeyByFilterService(reactivePixKeyRegisterRepository,
+                filterSearchProperties, errorMessageCatalog);
+    }
+
+    @Test
+    void shouldReturnPageWithCursorOfLastKey() {
+        List<PixKeyRegisterRow> rows = List.of(getRow(), getRow(), getRow());
+        when(reactivePixKeyRegisterRepository.findPageAfter(any(Criteria.class), isNull(), eq(3))).thenReturn(Flux.fromIterable(rows));
+
+        PixKeyPageDTO pixKeyPageDTO = reactiveSearchKeyByFilterService.process(PixKeyType.EMAIL.getValue(), "1234", "12345678",
+                "Lorem", null, 2).block();
+
+        assertEquals(2, pixKeyPageDTO.getKeys().size());
+        assertEquals(new KeysetCursor(rows.get(1).getKeyRegistrationDate(), rows.get(1).getId()),
+                KeysetCursor.decode(pixKeyPageDTO.getNextCursor()));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(reactivePixKeyRegisterRepository.findPageAfter(any(Criteria.class), eq(cursor), eq(101))).thenReturn(Flux.just(getRow()));
+
+        PixKeyPageDTO pixKeyPageDTO = reactiveSearchKeyByFilterService.process(null, null, null, null, cursor.encode(), null).block();
+
+        assertEquals(1, pixKeyPageDTO.getKeys().size());
+        assertNull(pixKeyPageDTO.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectInvalidLimitCursorAndNumericFilters() {
+        assertThrows(BadRequestException.class, () -> reactiveSearchKeyByFilterService.process(null, null, null, null, null, 0).block());
+        assertThrows(BadRequestException.class, () -> reactiveSearchKeyByFilterService.process(null, null, null, null, null,
+                filterSearchProperties.getMaxPageSize() + 1).block());
+        assertThrows(BadRequestException.class, () -> reactiveSearchKeyByFilterService.process(null, null, null, null, "lorem", null).block());
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> reactiveSearchKeyByFilterService.process(null, "lorem", null, null, null, null).block());
+        assertEquals(errorMessageCatalog.getMessage(FIELD_INVALID, "numeroAgencia"), exception.getError().getMessage());
+        verifyNoInteractions(reactivePixKeyRegisterRepository);
+    }
+
+    @Test
+    void shouldStreamEveryMatchingKey() {
+        when(reactivePixKeyRegisterRepository.streamAll(any(Criteria.class))).thenReturn(Flux.just(getRow(), getRow()));
+
+        List<PixKeyResponseDTO> keys = reactiveSearchKeyByFilterService.stream(null, "1234", "12345678", null).collectList().block();
+
+        assertEquals(2, keys.size());
+    }
+
+    @Test
+    void shouldRejectInvalidNumericFilterOnStream() {
+        Flux<PixKeyResponseDTO> keys = reactiveSearchKeyByFilterService.stream(null, null, "lorem", null);
+
+        assertThrows(BadRequestException.class, keys::blockLast);
+        verifyNoInteractions(reactivePixKeyRegisterRepository);
+    }
+
+    private PixKeyRegisterRow getRow() {
+        return PixKeyRegisterRow.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+    }
+}
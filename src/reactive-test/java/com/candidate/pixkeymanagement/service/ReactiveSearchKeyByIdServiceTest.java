@@ -0,0 +1,64 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSearchKeyByIdServiceTest {
+
+    @InjectMocks
+    private ReactiveSearchKeyByIdService reactiveSearchKeyByIdService;
+
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Test
+    void shouldFindActiveKey() {
+        PixKeyRegisterRow row = getRow(AccountType.CHECKING);
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(row.getId())).thenReturn(Mono.just(row));
+
+        PixKeyResponseDTO responseDTO = reactiveSearchKeyByIdService.process(row.getId()).block();
+
+        assertEquals(row.getId(), responseDTO.getId());
+        assertEquals(PixKeyType.EMAIL, responseDTO.getKeyType());
+        assertEquals("", responseDTO.getAccountHolderLastName());
+        assertNull(responseDTO.getMessage());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenPixKeyNotFound() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.empty());
+
+        assertThrows(NotFoundException.class, () -> reactiveSearchKeyByIdService.process(UUID.randomUUID()).block());
+    }
+
+    private PixKeyRegisterRow getRow(AccountType accountType) {
+        return PixKeyRegisterRow.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(accountType)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.orchestrator.ReactiveValidationStepEngine;
+import jakarta.validation.UnexpectedTypeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.EXCEEDED_REGISTERS_FOR_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUpdateKeyServiceTest {
+
+    private final ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
+    @InjectMocks
+    private ReactiveUpdateKeyService reactiveUpdateKeyService;
+
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Mock
+    private ReactiveValidationStepEngine reactiveValidationStepEngine;
+
+    @Test
+    void shouldUpdateKeySuccessfully() {
+        PixKeyRegisterRow row = getRow(PixKeyType.CELLPHONE);
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(row));
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        PixKeyResponseDTO responseDTO = reactiveUpdateKeyService.process(getUpdateRequest()).block();
+
+        assertEquals("Chave Pix atualizada com sucesso", responseDTO.getMessage());
+        assertEquals(4321, responseDTO.getAgencyNumber());
+        assertEquals("Dolor", responseDTO.getAccountHolderLastName());
+        assertFalse(row.isNew());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenPixKeyNotFound() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.empty());
+
+        assertThrows(NotFoundException.class, () -> reactiveUpdateKeyService.process(getUpdateRequest()).block());
+    }
+
+    @Test
+    void shouldNotUpdateRandomKey() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow(PixKeyType.RANDOM_KEY)));
+
+        assertThrows(UnexpectedTypeException.class, () -> reactiveUpdateKeyService.process(getUpdateRequest()).block());
+        verifyNoInteractions(reactiveValidationStepEngine);
+    }
+
+    @Test
+    void shouldNotPersistWhenValidationFails() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow(PixKeyType.CELLPHONE)));
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> {
+            PixKeyContext context = invocation.getArgument(0);
+            context.getErrorList().add(errorMessageCatalog.error(EXCEEDED_REGISTERS_FOR_TYPE, PixKeyType.CELLPHONE.getValue()));
+            return Mono.just(context);
+        });
+
+        assertThrows(UnprocessableEntityException.class, () -> reactiveUpdateKeyService.process(getUpdateRequest()).block());
+        verify(reactivePixKeyRegisterRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowUnexpectedExceptionWhenPersistFails() {
+        when(reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any())).thenReturn(Mono.just(getRow(PixKeyType.CELLPHONE)));
+        when(reactiveValidationStepEngine.validation(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactivePixKeyRegisterRepository.save(any())).thenReturn(Mono.error(new IllegalStateException()));
+
+        assertThrows(UnexpectedException.class, () -> reactiveUpdateKeyService.process(getUpdateRequest()).block());
+    }
+
+    private PixKeyUpdateRequestDTO getUpdateRequest() {
+        return PixKeyUpdateRequestDTO.builder()
+                .id(UUID.randomUUID())
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(4321)
+                .accountNumber(56789012345L)
+                .accountHolderFirstName("Lorem Ipsum")
+                .accountHolderLastName("Dolor")
+                .build();
+    }
+
+    private PixKeyRegisterRow getRow(PixKeyType keyType) {
+        return PixKeyRegisterRow.builder()
+                .id(UUID.randomUUID())
+                .keyType(keyType)
+                .keyValue("+55011912341234")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(56789012345L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Lorem")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.candidate.pixkeymanagement.validation.orchestrator;
+
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import com.candidate.pixkeymanagement.validation.prefetch.ReactiveValidationFactsLoader;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.EmailValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.RandomKeyValidationStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveValidationStepEngineTest {
+
+    private final ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @Mock
+    private ReactiveValidationFactsLoader reactiveValidationFactsLoader;
+    private ReactiveValidationStepEngine reactiveValidationStepEngine;
+
+    @BeforeEach
+    void setUp() {
+        reactiveValidationStepEngine = new ReactiveValidationStepEngine(new ValidationPipelines(List.of(new GeneralValidationStep(errorMessageCatalog),
+                new CellPhoneValidationStep(errorMessageCatalog), new CpfValidationStep(errorMessageCatalog),
+                new CnpjValidationStep(errorMessageCatalog), new EmailValidationStep(errorMessageCatalog),
+                new RandomKeyValidationStep(errorMessageCatalog)), new ValidationProperties(), new SimpleMeterRegistry()),
+                reactiveValidationFactsLoader);
+    }
+
+    @Test
+    void shouldResumePipelineWithLoadedFacts() {
+        when(reactiveValidationFactsLoader.load(any())).thenReturn(Mono.just(new ValidationFacts(true, Map.of())));
+
+        PixKeyContext context = reactiveValidationStepEngine.validation(getContext(PixKeyType.CPF, "949.286.190-99")).block();
+
+        assertEquals(1, context.getErrorList().size());
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), context.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void shouldNotSubscribeToFactsWhenFormatIsInvalid() {
+        PixKeyContext context = reactiveValidationStepEngine.validation(getContext(PixKeyType.EMAIL, "lorem.ipsum")).block();
+
+        assertEquals(1, context.getErrorList().size());
+        verifyNoInteractions(reactiveValidationFactsLoader);
+    }
+
+    @Test
+    void shouldNotRunStepsBeforeSubscription() {
+        PixKeyContext context = getContext(PixKeyType.EMAIL, "lorem.ipsum");
+
+        Mono<PixKeyContext> validation = reactiveValidationStepEngine.validation(context);
+
+        assertTrue(context.getErrorList().isEmpty());
+        assertSame(context, validation.block());
+        assertEquals(1, context.getErrorList().size());
+    }
+
+    private PixKeyContext getContext(PixKeyType keyType, String keyValue) {
+        PixKeyContext context = new PixKeyContext(PixKeyRequestDTO.builder()
+                .keyType(keyType)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build());
+        context.setTransactionType("POST");
+        return context;
+    }
+}
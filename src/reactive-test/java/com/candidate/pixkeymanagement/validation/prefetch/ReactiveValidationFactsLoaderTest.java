@@ -0,0 +1,78 @@
+package com.candidate.pixkeymanagement.validation.prefetch;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveValidationFactsLoaderTest {
+
+    private final String keyValue = "lorem.ipsum@gmail.com";
+    @InjectMocks
+    private ReactiveValidationFactsLoader reactiveValidationFactsLoader;
+    @Mock
+    private ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private PixKeyContext pixKeyContext;
+
+    @BeforeEach
+    void setUp() {
+        pixKeyContext = new PixKeyContext(PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.EMAIL)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .build());
+    }
+
+    @Test
+    void shouldLookUpKeyValueOnPost() {
+        KeyValidationFacts emailFacts = mock(KeyValidationFacts.class);
+        when(emailFacts.getKeyType()).thenReturn(PixKeyType.EMAIL);
+        when(emailFacts.getKeyValueMatches()).thenReturn(1L);
+        when(emailFacts.getActiveAccountKeys()).thenReturn(3L);
+        when(reactivePixKeyRegisterRepository.findValidationFacts(keyValue, 1234, 12345678L)).thenReturn(Flux.just(emailFacts));
+        pixKeyContext.setTransactionType("POST");
+
+        ValidationFacts facts = reactiveValidationFactsLoader.load(pixKeyContext).block();
+
+        assertTrue(facts.isKeyAlreadyRegistered());
+        assertEquals(3, facts.getActiveKeys(PixKeyType.EMAIL));
+        verify(reactivePixKeyRegisterRepository, never()).countGroupedByAgencyAndAccount(any(), any());
+    }
+
+    @Test
+    void shouldOnlyCountAccountKeysOnPatch() {
+        AccountKeyCount accountKeyCount = mock(AccountKeyCount.class);
+        when(accountKeyCount.getKeyType()).thenReturn(PixKeyType.CPF);
+        when(accountKeyCount.getTotal()).thenReturn(2L);
+        when(reactivePixKeyRegisterRepository.countGroupedByAgencyAndAccount(Set.of(1234), Set.of(12345678L)))
+                .thenReturn(Flux.just(accountKeyCount));
+        pixKeyContext.setTransactionType("PATCH");
+
+        ValidationFacts facts = reactiveValidationFactsLoader.load(pixKeyContext).block();
+
+        assertFalse(facts.isKeyAlreadyRegistered());
+        assertEquals(2, facts.getActiveKeys(PixKeyType.CPF));
+        verify(reactivePixKeyRegisterRepository, never()).findValidationFacts(any(), any(), any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.candidate.pixkeymanagement.configuration;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.util.List;
+
+/**
+ * Spring Data R2DBC writes enums as their names; these converters make {@code PixKeyRegisterRow} read and write the
+ * same {@code smallint} codes as the JPA mapping.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataConfig {
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), List.of(
+                new PixKeyTypeWritingConverter(), new PixKeyTypeReadingConverter(),
+                new AccountTypeWritingConverter(), new AccountTypeReadingConverter()));
+    }
+
+    @WritingConverter
+    static class PixKeyTypeWritingConverter implements Converter<PixKeyType, Short> {
+
+        @Override
+        public Short convert(PixKeyType keyType) {
+            return keyType.getCode();
+        }
+    }
+
+    @ReadingConverter
+    static class PixKeyTypeReadingConverter implements Converter<Short, PixKeyType> {
+
+        @Override
+        public PixKeyType convert(Short code) {
+            return PixKeyType.fromCode(code)
+                    .orElseThrow(() -> new IllegalStateException("Unknown key type code: " + code));
+        }
+    }
+
+    @WritingConverter
+    static class AccountTypeWritingConverter implements Converter<AccountType, Short> {
+
+        @Override
+        public Short convert(AccountType accountType) {
+            return accountType.getCode();
+        }
+    }
+
+    @ReadingConverter
+    static class AccountTypeReadingConverter implements Converter<Short, AccountType> {
+
+        @Override
+        public AccountType convert(Short code) {
+            return AccountType.fromCode(code)
+                    .orElseThrow(() -> new IllegalStateException("Unknown account type code: " + code));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.candidate.pixkeymanagement.controller;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
+import com.candidate.pixkeymanagement.service.*;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * WebFlux version of {@link PixKeyManagementController} with the same paths, payloads and status codes. Batch
+ * registration is only served by the servlet build.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1")
+public class ReactivePixKeyManagementController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Proximo-Cursor";
+
+    private final ReactiveRegisterKeyService reactiveRegisterKeyService;
+    private final ReactiveUpdateKeyService reactiveUpdateKeyService;
+    private final ReactiveSearchKeyByIdService reactiveSearchKeyByIdService;
+    private final ReactiveResolveKeyService reactiveResolveKeyService;
+    private final ReactiveSearchKeyByFilterService reactiveSearchKeyByFilterService;
+    private final ReactiveDeleteKeyService reactiveDeleteKeyService;
+
+    @PostMapping
+    private Mono<ResponseEntity<PixKeyResponseDTO>> createPixKey(@Valid @RequestBody PixKeyRequestDTO pixKeyRequestDTO) {
+        log.debug("Started POST/ pix key: {}", pixKeyRequestDTO);
+        return reactiveRegisterKeyService.process(pixKeyRequestDTO)
+                .map(pixKeyResponseDTO -> ResponseEntity.status(HttpStatus.CREATED).body(pixKeyResponseDTO));
+    }
+
+    @PatchMapping
+    private Mono<ResponseEntity<PixKeyResponseDTO>> updatePixKey(@Valid @RequestBody PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO) {
+        log.debug("Started PATCH/ pix key: {}", pixKeyUpdateRequestDTO);
+        return reactiveUpdateKeyService.process(pixKeyUpdateRequestDTO)
+                .map(pixKeyResponseDTO -> ResponseEntity.status(HttpStatus.OK).body(pixKeyResponseDTO));
+    }
+
+    @GetMapping("/{id}")
+    private Mono<ResponseEntity<PixKeyResponseDTO>> getPixKeyById(@PathVariable UUID id) {
+        log.debug("Started GET/{id} pix key");
+        return reactiveSearchKeyByIdService.process(id)
+                .map(pixKeyResponseDTO -> ResponseEntity.status(HttpStatus.OK).body(pixKeyResponseDTO));
+    }
+
+    @GetMapping("/key/{valorChave}")
+    private Mono<ResponseEntity<PixKeyResolveResponseDTO>> resolvePixKey(@PathVariable("valorChave") String keyValue) {
+        log.debug("Started GET/key/{valorChave} pix key");
+        return reactiveResolveKeyService.process(keyValue)
+                .map(pixKeyResolveResponseDTO -> ResponseEntity.status(HttpStatus.OK).body(pixKeyResolveResponseDTO));
+    }
+
+    @GetMapping("/filter")
+    private Mono<ResponseEntity<List<PixKeyResponseDTO>>> getPixKeyByFilter(@RequestParam(value = "tipoChave", required = false) String keyType,
+                                                                            @RequestParam(value = "numeroAgencia", required = false) String agencyNumber,
+                                                                            @RequestParam(value = "numeroConta", required = false) String accountNumber,
+                                                                            @RequestParam(value = "nomeCorrentista", required = false) String accountHolderFirstName,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                            @RequestParam(value = "limite", required = false) Integer limit) {
+        log.debug("Started GET/filter pix key");
+        return reactiveSearchKeyByFilterService.process(keyType, agencyNumber, accountNumber, accountHolderFirstName, cursor, limit)
+                .map(pixKeyPageDTO -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+                    if (Objects.nonNull(pixKeyPageDTO.getNextCursor())) {
+                        response.header(NEXT_CURSOR_HEADER, pixKeyPageDTO.getNextCursor());
+                    }
+                    return response.body(pixKeyPageDTO.getKeys());
+                });
+    }
+
+    @GetMapping(value = "/filter/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    private Flux<PixKeyResponseDTO> streamPixKeyByFilter(@RequestParam(value = "tipoChave", required = false) String keyType,
+                                                         @RequestParam(value = "numeroAgencia", required = false) String agencyNumber,
+                                                         @RequestParam(value = "numeroConta", required = false) String accountNumber,
+                                                         @RequestParam(value = "nomeCorrentista", required = false) String accountHolderFirstName) {
+        log.debug("Started GET/filter/stream pix key");
+        return reactiveSearchKeyByFilterService.stream(keyType, agencyNumber, accountNumber, accountHolderFirstName);
+    }
+
+    @DeleteMapping("/{id}")
+    private Mono<ResponseEntity<PixKeyResponseDTO>> deletePixKeyById(@PathVariable UUID id) {
+        log.debug("Started DELETE/{id} pix key");
+        return reactiveDeleteKeyService.process(id)
+                .map(pixKeyResponseDTO -> ResponseEntity.status(HttpStatus.OK).body(pixKeyResponseDTO));
+    }
+}
@@ -0,0 +1,138 @@
+package com.candidate.pixkeymanagement.controller;
+
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import io.micrometer.common.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+
+/**
+ * WebFlux version of {@link PixKeyManagementControllerAdvice}, answering with the same error bodies.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactivePixKeyManagementControllerAdvice extends ResponseEntityExceptionHandler {
+
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(WebExchangeBindException ex,
+                                                                          HttpHeaders headers,
+                                                                          HttpStatusCode status,
+                                                                          ServerWebExchange exchange) {
+        log.debug("Handling WebExchangeBindException", ex);
+        Object target = ex.getBindingResult().getTarget();
+        List<ErrorMessageDTO> errors = ex.getBindingResult().getAllErrors().stream()
+                .map(error -> createError(error, Objects.nonNull(target) ? target.getClass() : Object.class))
+                .toList();
+        return handleExceptionInternal(ex, errors, headers, HttpStatus.BAD_REQUEST, exchange);
+    }
+
+    @Override
+    protected Mono<ResponseEntity<Object>> handleServerWebInputException(ServerWebInputException ex,
+                                                                         HttpHeaders headers,
+                                                                         HttpStatusCode status,
+                                                                         ServerWebExchange exchange) {
+        log.debug("Handling ServerWebInputException", ex);
+        if (ex instanceof MissingRequestValueException missing) {
+            return handleExceptionInternal(ex, errorMessageCatalog.error(FIELD_REQUIRED, missing.getName()), headers,
+                    HttpStatus.BAD_REQUEST, exchange);
+        }
+
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof JsonMappingException cause) {
+            String field = cause.getPath().stream()
+                    .map(JsonMappingException.Reference::getFieldName)
+                    .filter(StringUtils::isNotBlank)
+                    .collect(Collectors.joining("."));
+            return handleExceptionInternal(ex, errorMessageCatalog.error(FIELD_INVALID, field), headers, HttpStatus.BAD_REQUEST, exchange);
+        }
+
+        if (Objects.nonNull(ex.getMethodParameter())) {
+            List<ErrorMessageDTO> errors = List.of(errorMessageCatalog.error(FIELD_INVALID, ex.getMethodParameter().getParameterName()));
+            return handleExceptionInternal(ex, errors, headers, HttpStatus.BAD_REQUEST, exchange);
+        }
+
+        return handleExceptionInternal(ex, null, headers, HttpStatus.BAD_REQUEST, exchange);
+    }
+
+    @ExceptionHandler(value = BadRequestException.class)
+    protected Mono<ResponseEntity<Object>> handleBadRequestException(BadRequestException ex, ServerWebExchange exchange) {
+        log.debug("BadRequestException", ex);
+        return handleExceptionInternal(ex, ex.getError(), new HttpHeaders(), HttpStatus.BAD_REQUEST, exchange);
+    }
+
+    @ExceptionHandler(value = UnprocessableEntityException.class)
+    protected Mono<ResponseEntity<Object>> handleUnprocessableEntityException(UnprocessableEntityException ex, ServerWebExchange exchange) {
+        log.debug("UnprocessableEntityException", ex);
+        return handleExceptionInternal(ex, ex.getErrors(), new HttpHeaders(), ex.getStatus(), exchange);
+    }
+
+    @ExceptionHandler(value = NotFoundException.class)
+    protected Mono<ResponseEntity<Object>> handleNotFoundException(NotFoundException ex, ServerWebExchange exchange) {
+        log.debug("NotFoundException", ex);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(NOT_FOUND_KEY_PIX), new HttpHeaders(), HttpStatus.NOT_FOUND, exchange);
+    }
+
+    @ExceptionHandler(value = UnexpectedException.class)
+    protected Mono<ResponseEntity<Object>> handleUnexpectedException(UnexpectedException ex, ServerWebExchange exchange) {
+        log.debug("UnexpectedException", ex);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, exchange);
+    }
+
+    @ExceptionHandler(value = Exception.class)
+    protected Mono<ResponseEntity<Object>> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        log.error("Generic unhandled exception", ex);
+        return handleExceptionInternal(ex, errorMessageCatalog.error(UNEXPECTED_ERROR), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, exchange);
+    }
+
+    private ErrorMessageDTO createError(ObjectError error, Class<?> dtoClass) {
+        String field = "";
+        if (error instanceof FieldError fieldError) {
+            field = fieldError.getField();
+
+            try {
+                Field dtoField = dtoClass.getDeclaredField(field);
+
+                JsonProperty jsonProperty = dtoField.getAnnotation(JsonProperty.class);
+                if (jsonProperty != null) {
+                    field = jsonProperty.value();
+                }
+            } catch (NoSuchFieldException e) {
+                log.error(UNEXPECTED_ERROR);
+            }
+        }
+
+        return errorMessageCatalog.error(error.getDefaultMessage(), field);
+    }
+}
@@ -0,0 +1,71 @@
+package com.candidate.pixkeymanagement.model;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of the {@code pix_key_register} table used by the reactive profile. The id is assigned by the
+ * application, so {@link #isNew()} tells Spring Data whether {@code save} has to insert or update. The key and
+ * account types are read and written as their codes by the converters of {@code ReactiveDataConfig}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("pix_key_register")
+public class PixKeyRegisterRow implements Persistable<UUID> {
+
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("key_type")
+    private PixKeyType keyType;
+
+    @Column("key_value")
+    private String keyValue;
+
+    @Column("account_type")
+    private AccountType accountType;
+
+    @Column("agency_number")
+    private Integer agencyNumber;
+
+    @Column("account_number")
+    private Long accountNumber;
+
+    @Column("account_holder_first_name")
+    private String accountHolderFirstName;
+
+    @Column("account_holder_last_name")
+    private String accountHolderLastName;
+
+    @Column("key_registration_date")
+    private LocalDateTime keyRegistrationDate;
+
+    @Column("key_inactivation_date")
+    private LocalDateTime keyInactivationDate;
+
+    @Version
+    @Column("version")
+    private Long version;
+
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+}
@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.randomkey;
+
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Blocks on the query, which is fine on the pool's own refill thread.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRegisteredKeyLookup implements RegisteredKeyLookup {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    @Override
+    public Set<String> findRegistered(Collection<String> candidates) {
+        return reactivePixKeyRegisterRepository.findExistingKeyValues(candidates)
+                .collect(Collectors.toSet())
+                .block(TIMEOUT);
+    }
+}
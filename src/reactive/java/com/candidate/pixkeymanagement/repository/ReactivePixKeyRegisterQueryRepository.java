@@ -0,0 +1,25 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import org.springframework.data.relational.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * The queries of {@link PixKeyRegisterRepository} that derived R2DBC methods can't express: the validation facts
+ * aggregates and the keyset ordered filter.
+ */
+public interface ReactivePixKeyRegisterQueryRepository {
+
+    Flux<KeyValidationFacts> findValidationFacts(String keyValue, Integer agencyNumber, Long accountNumber);
+
+    Flux<AccountKeyCount> countGroupedByAgencyAndAccount(Collection<Integer> agencyNumbers, Collection<Long> accountNumbers);
+
+    Flux<PixKeyRegisterRow> findPageAfter(Criteria criteria, KeysetCursor after, int limit);
+
+    Flux<PixKeyRegisterRow> streamAll(Criteria criteria);
+}
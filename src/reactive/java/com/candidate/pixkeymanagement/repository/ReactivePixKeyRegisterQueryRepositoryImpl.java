@@ -0,0 +1,97 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class ReactivePixKeyRegisterQueryRepositoryImpl implements ReactivePixKeyRegisterQueryRepository {
+
+    private static final String KEY_REGISTRATION_DATE = "keyRegistrationDate";
+    private static final String ID = "id";
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private static final String VALIDATION_FACTS_SQL = "select key_type, " +
+            "sum(case when key_value = :keyValue then 1 else 0 end) as key_value_matches, " +
+            "sum(case when agency_number = :agencyNumber and account_number = :accountNumber " +
+            "and key_inactivation_date is null then 1 else 0 end) as active_account_keys " +
+            "from pix_key_register " +
+            "where key_value = :keyValue or (agency_number = :agencyNumber and account_number = :accountNumber) " +
+            "group by key_type";
+
+    private static final String ACCOUNT_KEY_COUNT_SQL = "select agency_number, account_number, key_type, count(*) as total " +
+            "from pix_key_register " +
+            "where agency_number in (:agencyNumbers) and account_number in (:accountNumbers) and key_inactivation_date is null " +
+            "group by agency_number, account_number, key_type";
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Override
+    public Flux<KeyValidationFacts> findValidationFacts(String keyValue, Integer agencyNumber, Long accountNumber) {
+        return r2dbcEntityTemplate.getDatabaseClient().sql(VALIDATION_FACTS_SQL)
+                .bind("keyValue", keyValue)
+                .bind("agencyNumber", agencyNumber)
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> PROJECTION_FACTORY.createProjection(KeyValidationFacts.class, Map.of(
+                        "keyType", keyType(row.get("key_type", Short.class)),
+                        "keyValueMatches", row.get("key_value_matches", Long.class),
+                        "activeAccountKeys", row.get("active_account_keys", Long.class))))
+                .all();
+    }
+
+    @Override
+    public Flux<AccountKeyCount> countGroupedByAgencyAndAccount(Collection<Integer> agencyNumbers, Collection<Long> accountNumbers) {
+        return r2dbcEntityTemplate.getDatabaseClient().sql(ACCOUNT_KEY_COUNT_SQL)
+                .bind("agencyNumbers", agencyNumbers)
+                .bind("accountNumbers", accountNumbers)
+                .map((row, metadata) -> PROJECTION_FACTORY.createProjection(AccountKeyCount.class, Map.of(
+                        "agencyNumber", row.get("agency_number", Integer.class),
+                        "accountNumber", row.get("account_number", Long.class),
+                        "keyType", keyType(row.get("key_type", Short.class)),
+                        "total", row.get("total", Long.class))))
+                .all();
+    }
+
+    @Override
+    public Flux<PixKeyRegisterRow> findPageAfter(Criteria criteria, KeysetCursor after, int limit) {
+        return r2dbcEntityTemplate.select(PixKeyRegisterRow.class)
+                .matching(orderedQuery(criteria, after).limit(limit))
+                .all();
+    }
+
+    @Override
+    public Flux<PixKeyRegisterRow> streamAll(Criteria criteria) {
+        return r2dbcEntityTemplate.select(PixKeyRegisterRow.class)
+                .matching(orderedQuery(criteria, null))
+                .all();
+    }
+
+    private static PixKeyType keyType(Short code) {
+        return PixKeyType.fromCode(code).orElseThrow(() -> new IllegalStateException("Unknown key type code: " + code));
+    }
+
+    private Query orderedQuery(Criteria criteria, KeysetCursor after) {
+        Criteria where = criteria;
+
+        if (Objects.nonNull(after)) {
+            where = where.and(Criteria.where(KEY_REGISTRATION_DATE).greaterThan(after.keyRegistrationDate())
+                    .or(Criteria.where(KEY_REGISTRATION_DATE).is(after.keyRegistrationDate()).and(ID).greaterThan(after.id())));
+        }
+
+        return Query.query(where).sort(Sort.by(Sort.Order.asc(KEY_REGISTRATION_DATE), Sort.Order.asc(ID)));
+    }
+}
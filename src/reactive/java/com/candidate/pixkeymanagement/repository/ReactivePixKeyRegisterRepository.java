@@ -0,0 +1,25 @@
+package com.candidate.pixkeymanagement.repository;
+
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ReactivePixKeyRegisterRepository extends R2dbcRepository<PixKeyRegisterRow, UUID>,
+        ReactivePixKeyRegisterQueryRepository {
+
+    Mono<Boolean> existsByKeyValue(String keyValue);
+
+    Mono<PixKeyRegisterRow> findByIdAndKeyInactivationDateIsNull(UUID id);
+
+    Mono<PixKeyRegisterRow> findByKeyValueAndKeyInactivationDateIsNull(String keyValue);
+
+    @Query("SELECT key_value FROM pix_key_register WHERE key_value IN (:keyValues)")
+    Flux<String> findExistingKeyValues(Collection<String> keyValues);
+}
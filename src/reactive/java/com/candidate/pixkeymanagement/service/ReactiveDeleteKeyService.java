@@ -0,0 +1,52 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.CONCURRENT_UPDATE;
+import static com.candidate.pixkeymanagement.util.MessageConstant.NOT_FOUND_KEY_PIX_DELETE;
+import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveDeleteKeyService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @Transactional
+    public Mono<PixKeyResponseDTO> process(UUID id) {
+        return reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(NOT_FOUND_KEY_PIX_DELETE)))
+                .flatMap(row -> {
+                    row.setKeyInactivationDate(LocalDateTime.now());
+                    return reactivePixKeyRegisterRepository.save(row).onErrorMap(e -> {
+                        if (PersistenceConflicts.isConcurrentUpdate(e)) {
+                            log.debug("Register changed by a concurrent request. Row id: {}", row.getId());
+                            return new UnprocessableEntityException(List.of(errorMessageCatalog.error(CONCURRENT_UPDATE)));
+                        }
+
+                        log.debug("Persistence delete failed");
+                        return new UnexpectedException(UNEXPECTED_ERROR);
+                    });
+                })
+                .map(row -> ReactivePixKeyResponseMapper.toResponseDTO(row, "Chave Pix deletada com sucesso"));
+    }
+}
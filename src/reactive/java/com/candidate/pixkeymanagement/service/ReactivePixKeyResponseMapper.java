@@ -0,0 +1,25 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row to response conversions of the reactive services, built like the servlet ones in {@link PixKeyResponseMapper}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+abstract class ReactivePixKeyResponseMapper {
+
+    static PixKeyResponseDTO toResponseDTO(PixKeyRegisterRow row, String message) {
+        return PixKeyResponseMapper.response(message, row.getId(), row.getKeyType(), row.getKeyValue(), row.getAccountType(),
+                row.getAgencyNumber(), row.getAccountNumber(), row.getAccountHolderFirstName(),
+                row.getAccountHolderLastName(), row.getKeyRegistrationDate(), row.getKeyInactivationDate());
+    }
+
+    static PixKeyResolveResponseDTO toResolveResponseDTO(PixKeyRegisterRow row) {
+        return PixKeyResponseMapper.resolveResponse(row.getKeyType(), row.getKeyValue(), row.getAccountType(),
+                row.getAgencyNumber(), row.getAccountNumber(), row.getAccountHolderFirstName(), row.getAccountHolderLastName());
+    }
+}
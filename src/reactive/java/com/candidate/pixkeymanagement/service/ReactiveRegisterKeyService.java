@@ -0,0 +1,104 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.model.id.UuidV7;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.KeyValueNormalizer;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.orchestrator.ReactiveValidationStepEngine;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
+import static com.candidate.pixkeymanagement.util.MessageConstant.UNEXPECTED_ERROR;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveRegisterKeyService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private final ReactiveValidationStepEngine reactiveValidationStepEngine;
+    private final RandomKeyPool randomKeyPool;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @Transactional
+    public Mono<PixKeyResponseDTO> process(PixKeyRequestDTO pixKeyRequestDTO) {
+        log.debug("Started pix key register. Request: {}", pixKeyRequestDTO);
+        assignRandomKey(pixKeyRequestDTO);
+        pixKeyRequestDTO.setKeyValue(KeyValueNormalizer.normalize(pixKeyRequestDTO.getKeyType(), pixKeyRequestDTO.getKeyValue()));
+
+        return validate(pixKeyRequestDTO)
+                .then(Mono.defer(() -> persist(pixKeyRequestDTO)))
+                .map(row -> PixKeyResponseDTO.builder()
+                        .message("Chave Pix cadastrada com sucesso")
+                        .id(row.getId())
+                        .keyValue(PixKeyType.RANDOM_KEY == row.getKeyType() ? row.getKeyValue() : null)
+                        .build())
+                .doOnNext(responseDTO -> log.debug("Finished pix key register. Response: {}", responseDTO));
+    }
+
+    private void assignRandomKey(PixKeyRequestDTO pixKeyRequestDTO) {
+        if (PixKeyType.RANDOM_KEY.equals(pixKeyRequestDTO.getKeyType())) {
+            pixKeyRequestDTO.setKeyValue(randomKeyPool.take());
+        }
+    }
+
+    private Mono<PixKeyContext> validate(PixKeyRequestDTO pixKeyRequestDTO) {
+        log.debug("Started validation. Pix key type: {}", pixKeyRequestDTO.getKeyType().getValue());
+        PixKeyContext context = new PixKeyContext(pixKeyRequestDTO);
+        context.setTransactionType("POST");
+
+        return reactiveValidationStepEngine.validation(context).flatMap(validated -> {
+            if (ObjectUtils.isNotEmpty(validated.getErrorList())) {
+                log.debug("Validation errors: {}", validated.getErrorList());
+                return Mono.error(new UnprocessableEntityException(validated.getErrorList()));
+            }
+            return Mono.just(validated);
+        });
+    }
+
+    private Mono<PixKeyRegisterRow> persist(PixKeyRequestDTO pixKeyRequestDTO) {
+        log.debug("Building pixKeyRegister row");
+        PixKeyRegisterRow row = PixKeyRegisterRow.builder()
+                .id(UuidV7.next())
+                .keyType(pixKeyRequestDTO.getKeyType())
+                .keyValue(pixKeyRequestDTO.getKeyValue())
+                .accountType(pixKeyRequestDTO.getAccountType())
+                .agencyNumber(pixKeyRequestDTO.getAgencyNumber())
+                .accountNumber(pixKeyRequestDTO.getAccountNumber())
+                .accountHolderFirstName(pixKeyRequestDTO.getAccountHolderFirstName())
+                .accountHolderLastName(pixKeyRequestDTO.getAccountHolderLastName())
+                .keyRegistrationDate(LocalDateTime.now())
+                .newRow(true)
+                .build();
+
+        log.debug("Saving pixKeyRegister row");
+        return reactivePixKeyRegisterRepository.save(row).onErrorMap(e -> {
+            if (PersistenceConflicts.isDuplicateKeyValue(e)) {
+                log.debug("Key value registered by a concurrent request");
+                return new UnprocessableEntityException(List.of(errorMessageCatalog.error(KEY_ALREADY_REGISTERED)));
+            }
+
+            log.error("Persistence pixKeyRegister row failed", e);
+            return new UnexpectedException(UNEXPECTED_ERROR);
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.KeyValueNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.NOT_FOUND_KEY_PIX;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveResolveKeyService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    public Mono<PixKeyResolveResponseDTO> process(String keyValue) {
+        log.debug("Start GET/ by key value");
+        String normalizedKeyValue = KeyValueNormalizer.normalize(keyValue);
+
+        if (StringUtils.isBlank(normalizedKeyValue)) {
+            return Mono.error(new NotFoundException(NOT_FOUND_KEY_PIX));
+        }
+
+        return reactivePixKeyRegisterRepository.findByKeyValueAndKeyInactivationDateIsNull(normalizedKeyValue)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(NOT_FOUND_KEY_PIX)))
+                .map(ReactivePixKeyResponseMapper::toResolveResponseDTO);
+    }
+}
@@ -0,0 +1,134 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.configuration.FilterSearchProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyPageDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveSearchKeyByFilterService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private final FilterSearchProperties filterSearchProperties;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    public Mono<PixKeyPageDTO> process(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName,
+                                       String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            log.debug("Start GET/ by filters");
+            int pageSize = resolvePageSize(limit);
+            KeysetCursor after = decodeCursor(cursor);
+            Criteria criteria = buildCriteria(keyType, agencyNumber, accountNumber, accountHolderFirstName);
+
+            return reactivePixKeyRegisterRepository.findPageAfter(criteria, after, pageSize + 1)
+                    .collectList()
+                    .map(rows -> toPage(rows, pageSize));
+        });
+    }
+
+    public Flux<PixKeyResponseDTO> stream(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName) {
+        return Flux.defer(() -> {
+            log.debug("Start GET/ by filters stream");
+            Criteria criteria = buildCriteria(keyType, agencyNumber, accountNumber, accountHolderFirstName);
+
+            return reactivePixKeyRegisterRepository.streamAll(criteria)
+                    .map(row -> ReactivePixKeyResponseMapper.toResponseDTO(row, null));
+        });
+    }
+
+    private PixKeyPageDTO toPage(List<PixKeyRegisterRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PixKeyRegisterRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        PixKeyRegisterRow last = hasNext ? page.get(page.size() - 1) : null;
+
+        log.debug("Finish GET/ by filters. Keys: {}, has next page: {}", page.size(), hasNext);
+        return PixKeyPageDTO.builder()
+                .keys(page.stream().map(row -> ReactivePixKeyResponseMapper.toResponseDTO(row, null)).toList())
+                .nextCursor(hasNext ? new KeysetCursor(last.getKeyRegistrationDate(), last.getId()).encode() : null)
+                .build();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (Objects.isNull(limit)) {
+            return filterSearchProperties.getDefaultPageSize();
+        }
+
+        if (limit < 1) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_MIN_LENGTH, "limite"));
+        }
+
+        if (limit > filterSearchProperties.getMaxPageSize()) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_MAX_LENGTH, "limite"));
+        }
+
+        return limit;
+    }
+
+    private KeysetCursor decodeCursor(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (RuntimeException e) {
+            log.debug("Invalid keyset cursor received: {}", cursor);
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_INVALID, "cursor"));
+        }
+    }
+
+    /**
+     * R2DBC binds parameters with their Java type, so the numeric filters are parsed here instead of being compared
+     * as text like the JPA criteria do. An unknown key type matches no row: {@code key_type} is never null.
+     */
+    private Criteria buildCriteria(String keyType, String agencyNumber, String accountNumber, String accountHolderFirstName) {
+        Criteria criteria = Criteria.empty();
+
+        if (Objects.nonNull(keyType)) {
+            Optional<PixKeyType> type = PixKeyType.fromValue(keyType);
+            criteria = type.isPresent() ? criteria.and("keyType").is(type.get()) : criteria.and("keyType").isNull();
+        }
+        if (Objects.nonNull(agencyNumber)) {
+            criteria = criteria.and("agencyNumber").is(parse(agencyNumber, Integer::valueOf, "numeroAgencia"));
+        }
+        if (Objects.nonNull(accountNumber)) {
+            criteria = criteria.and("accountNumber").is(parse(accountNumber, Long::valueOf, "numeroConta"));
+        }
+        if (Objects.nonNull(accountHolderFirstName)) {
+            criteria = criteria.and("accountHolderFirstName").is(accountHolderFirstName);
+        }
+
+        return criteria;
+    }
+
+    private <T> T parse(String value, Function<String, T> parser, String field) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(errorMessageCatalog.error(FIELD_INVALID, field));
+        }
+    }
+}
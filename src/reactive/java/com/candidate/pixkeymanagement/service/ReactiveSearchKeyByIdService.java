@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.NOT_FOUND_KEY_PIX;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveSearchKeyByIdService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    public Mono<PixKeyResponseDTO> process(UUID id) {
+        log.debug("Start GET/ by id. Id: {}", id);
+
+        return reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(NOT_FOUND_KEY_PIX)))
+                .map(row -> ReactivePixKeyResponseMapper.toResponseDTO(row, null));
+    }
+}
@@ -0,0 +1,116 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegisterRow;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.util.PersistenceConflicts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.orchestrator.ReactiveValidationStepEngine;
+import jakarta.transaction.Transactional;
+import jakarta.validation.UnexpectedTypeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static com.candidate.pixkeymanagement.enumeration.PixKeyType.RANDOM_KEY;
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Profile("reactive")
+public class ReactiveUpdateKeyService {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+    private final ReactiveValidationStepEngine reactiveValidationStepEngine;
+    private final ErrorMessageCatalog errorMessageCatalog;
+
+    @Transactional
+    public Mono<PixKeyResponseDTO> process(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO) {
+        log.debug("Start pix key update. Request: {}", pixKeyUpdateRequestDTO);
+
+        return reactivePixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(pixKeyUpdateRequestDTO.getId())
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(NOT_FOUND_KEY_PIX)))
+                .flatMap(row -> {
+                    checkIfIsAvailableUpdate(row);
+                    return validateValuesToUpdate(mergeRowAndUpdateRequestDTO(pixKeyUpdateRequestDTO, row))
+                            .then(Mono.defer(() -> persistUpdate(pixKeyUpdateRequestDTO, row)));
+                })
+                .map(row -> ReactivePixKeyResponseMapper.toResponseDTO(row, "Chave Pix atualizada com sucesso"))
+                .doOnNext(responseDTO -> log.debug("Finish pix key update. Response: {}", responseDTO));
+    }
+
+    private Mono<PixKeyContext> validateValuesToUpdate(PixKeyRequestDTO pixKeyMergedRequestDTO) {
+        log.debug("Started validation to update fields. Pix key type: {}", pixKeyMergedRequestDTO.getKeyType().getValue());
+        PixKeyContext context = new PixKeyContext(pixKeyMergedRequestDTO);
+        context.setTransactionType("PATCH");
+
+        return reactiveValidationStepEngine.validation(context).flatMap(validated -> {
+            if (ObjectUtils.isNotEmpty(validated.getErrorList())) {
+                log.debug("Validation errors: {}", validated.getErrorList());
+                return Mono.error(new UnprocessableEntityException(validated.getErrorList()));
+            }
+            return Mono.just(validated);
+        });
+    }
+
+    private Mono<PixKeyRegisterRow> persistUpdate(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO, PixKeyRegisterRow row) {
+        log.debug("Building pixKeyRegister row to update");
+        row.setKeyRegistrationDate(LocalDateTime.now());
+        row.setAccountType(pixKeyUpdateRequestDTO.getAccountType());
+        row.setAgencyNumber(pixKeyUpdateRequestDTO.getAgencyNumber());
+        row.setAccountNumber(pixKeyUpdateRequestDTO.getAccountNumber());
+        row.setAccountHolderFirstName(pixKeyUpdateRequestDTO.getAccountHolderFirstName());
+
+        if (Objects.nonNull(pixKeyUpdateRequestDTO.getAccountHolderLastName())) {
+            row.setAccountHolderLastName(pixKeyUpdateRequestDTO.getAccountHolderLastName());
+        }
+
+        log.debug("Updating pixKeyRegister in database");
+        return reactivePixKeyRegisterRepository.save(row).onErrorMap(e -> {
+            if (PersistenceConflicts.isConcurrentUpdate(e)) {
+                log.debug("Register changed by a concurrent request. Row id: {}", row.getId());
+                return new UnprocessableEntityException(List.of(errorMessageCatalog.error(CONCURRENT_UPDATE)));
+            }
+
+            log.debug("Persistence to update register failed. Row id: {}", row.getId());
+            return new UnexpectedException(UNEXPECTED_ERROR);
+        });
+    }
+
+    private void checkIfIsAvailableUpdate(PixKeyRegisterRow row) {
+        log.debug("Checking if keyType is available for updating");
+        if (RANDOM_KEY == row.getKeyType()) {
+            log.error("KeyType RANDOM_KEY is not available for updating");
+            throw new UnexpectedTypeException(NOT_UPDATED_RANDOM_KEY);
+        }
+    }
+
+    private PixKeyRequestDTO mergeRowAndUpdateRequestDTO(PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO, PixKeyRegisterRow row) {
+        log.debug("Merging pixKeyRegister by database and new fields to update by pixKeyUpdateRequestDTO");
+        return PixKeyRequestDTO.builder()
+                .keyType(row.getKeyType())
+                .keyValue(row.getKeyValue())
+                .accountType(row.getAccountType())
+                .agencyNumber(pixKeyUpdateRequestDTO.getAgencyNumber())
+                .accountNumber(pixKeyUpdateRequestDTO.getAccountNumber())
+                .accountHolderFirstName(pixKeyUpdateRequestDTO.getAccountHolderFirstName())
+                .accountHolderLastName(Objects.nonNull(pixKeyUpdateRequestDTO.getAccountHolderLastName()) ?
+                        pixKeyUpdateRequestDTO.getAccountHolderLastName() : StringUtils.EMPTY)
+                .build();
+    }
+}
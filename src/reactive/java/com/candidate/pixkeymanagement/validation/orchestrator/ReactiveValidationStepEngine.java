@@ -0,0 +1,39 @@
+package com.candidate.pixkeymanagement.validation.orchestrator;
+
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import com.candidate.pixkeymanagement.validation.prefetch.ReactiveValidationFactsLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same pipelines as {@link ValidationStepEngine}; the steps are plain CPU work and run inline, only the facts query
+ * is subscribed to instead of waited on.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveValidationStepEngine {
+
+    private final ValidationPipelines validationPipelines;
+    private final ReactiveValidationFactsLoader reactiveValidationFactsLoader;
+
+    public Mono<PixKeyContext> validation(PixKeyContext context) {
+        return Mono.defer(() -> {
+            ValidationStep[] pipeline = validationPipelines.pipelineOf(context);
+            int next = validationPipelines.run(context, pipeline, 0);
+
+            if (next == pipeline.length) {
+                return Mono.just(context);
+            }
+
+            return reactiveValidationFactsLoader.load(context).map(facts -> {
+                context.setFacts(facts);
+                validationPipelines.run(context, pipeline, next);
+                return context;
+            });
+        });
+    }
+}
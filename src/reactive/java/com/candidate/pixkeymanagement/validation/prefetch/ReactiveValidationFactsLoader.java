@@ -0,0 +1,44 @@
+package com.candidate.pixkeymanagement.validation.prefetch;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.repository.ReactivePixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Reactive counterpart of {@link ValidationFactsLoader}, running the same single query. There is no key value index
+ * in front of it, so every POST looks the key value up.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveValidationFactsLoader {
+
+    private final ReactivePixKeyRegisterRepository reactivePixKeyRegisterRepository;
+
+    public Mono<ValidationFacts> load(PixKeyContext context) {
+        PixKeyRequestDTO fields = context.getFields();
+        String keyValue = fields.getKeyValue();
+
+        if (Objects.equals("POST", context.getTransactionType()) && Objects.nonNull(keyValue)) {
+            log.debug("Loading key value and account validation facts");
+            return reactivePixKeyRegisterRepository.findValidationFacts(keyValue, fields.getAgencyNumber(), fields.getAccountNumber())
+                    .collectList()
+                    .map(ValidationFactsLoader::fromKeyValidationFacts);
+        }
+
+        log.debug("Loading account validation facts");
+        return reactivePixKeyRegisterRepository.countGroupedByAgencyAndAccount(Set.of(fields.getAgencyNumber()), Set.of(fields.getAccountNumber()))
+                .collectList()
+                .map(ValidationFactsLoader::fromAccountKeyCounts);
+    }
+}
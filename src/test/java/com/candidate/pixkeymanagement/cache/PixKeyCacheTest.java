@@ -0,0 +1,118 @@
+package com.candidate.pixkeymanagement.cache;
+
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PixKeyCacheTest {
+
+    private final UUID id = UUID.randomUUID();
+    private PixKeyCacheProperties properties;
+    private MeterRegistry meterRegistry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PixKeyCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldServeCachedKeyAndRecordHit() {
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+
+        pixKeyCache.get(id, this::found);
+        Optional<PixKeyResponseDTO> cached = pixKeyCache.get(id, this::found);
+
+        assertEquals(id, cached.orElseThrow().getId());
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldCountNegativeHits() {
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+
+        pixKeyCache.get(id, this::notFound);
+        assertTrue(pixKeyCache.get(id, this::notFound).isEmpty());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.counter("pix.key.cache.negative.hits", "cache", "pixKeyById").count());
+    }
+
+    @Test
+    void shouldNotCacheMissesWhenNegativeCachingIsDisabled() {
+        properties.getById().setNegativeCaching(false);
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+
+        pixKeyCache.get(id, this::notFound);
+        pixKeyCache.get(id, this::notFound);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldApplyPutOnlyAfterCommit() {
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+
+        pixKeyCache.put(PixKeyResponseDTO.builder().id(id).build());
+        assertTrue(pixKeyCache.get(id, this::notFound).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(pixKeyCache.get(id, this::notFound).isPresent());
+    }
+
+    @Test
+    void shouldPropagateLoadFailureWithoutCachingIt() {
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> pixKeyCache.get(id, key -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(id, pixKeyCache.get(id, this::found).orElseThrow().getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        properties.setEnabled(false);
+        PixKeyCache pixKeyCache = new PixKeyCache(properties, meterRegistry);
+
+        pixKeyCache.get(id, this::found);
+        pixKeyCache.get(id, this::found);
+
+        assertEquals(2, loads.get());
+    }
+
+    private Optional<PixKeyResponseDTO> found(UUID key) {
+        loads.incrementAndGet();
+        return Optional.of(PixKeyResponseDTO.builder().id(key).build());
+    }
+
+    private Optional<PixKeyResponseDTO> notFound(UUID key) {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+}
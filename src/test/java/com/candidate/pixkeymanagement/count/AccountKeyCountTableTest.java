@@ -0,0 +1,92 @@
+package com.candidate.pixkeymanagement.count;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.candidate.pixkeymanagement.count.AccountKeyCountTable.KEY_TYPES;
+import static com.candidate.pixkeymanagement.count.AccountKeyCountTable.pack;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountKeyCountTableTest {
+
+    @Test
+    void shouldKeepCountsPerAccountAndKeyType() {
+        AccountKeyCountTable table = new AccountKeyCountTable(16, 4);
+        table.add(pack(1, 2L), PixKeyType.CPF.ordinal(), 2);
+        table.add(pack(2, 1L), PixKeyType.EMAIL.ordinal(), 1);
+        table.add(pack(1, 2L), PixKeyType.CPF.ordinal(), -1);
+
+        int[] counts = new int[KEY_TYPES];
+        table.read(pack(1, 2L), counts);
+        assertEquals(1, counts[PixKeyType.CPF.ordinal()]);
+        assertEquals(0, counts[PixKeyType.EMAIL.ordinal()]);
+
+        table.read(pack(2, 1L), counts);
+        assertEquals(0, counts[PixKeyType.CPF.ordinal()]);
+        assertEquals(1, counts[PixKeyType.EMAIL.ordinal()]);
+        assertEquals(2, table.accounts());
+    }
+
+    @Test
+    void shouldReadUnknownAccountAsZeros() {
+        AccountKeyCountTable table = new AccountKeyCountTable(16, 4);
+        int[] counts = IntStream.generate(() -> 7).limit(KEY_TYPES).toArray();
+
+        table.read(pack(9999, 99_999_999L), counts);
+
+        assertArrayEquals(new int[KEY_TYPES], counts);
+    }
+
+    @Test
+    void shouldKeepCountsAcrossResizes() {
+        AccountKeyCountTable table = new AccountKeyCountTable(8, 2);
+        for (int account = 0; account < 100_000; account++) {
+            table.add(pack(account % 9999, account), account % KEY_TYPES, account % 20 + 1);
+        }
+
+        int[] counts = new int[KEY_TYPES];
+        for (int account = 0; account < 100_000; account++) {
+            table.read(pack(account % 9999, account), counts);
+            assertEquals(account % 20 + 1, counts[account % KEY_TYPES]);
+        }
+        assertEquals(100_000, table.accounts());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdates() {
+        AccountKeyCountTable table = new AccountKeyCountTable(16, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                    .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            table.add(pack(1234, i % 100), PixKeyType.CPF.ordinal(), 1);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int[] counts = new int[KEY_TYPES];
+        for (int account = 0; account < 100; account++) {
+            table.read(pack(1234, account), counts);
+            assertEquals(800, counts[PixKeyType.CPF.ordinal()]);
+        }
+    }
+
+    @Test
+    void shouldOnlyPackAccountsThatFitTheKey() {
+        assertTrue(AccountKeyCountTable.isPackable(9999, 99_999_999L));
+        assertTrue(AccountKeyCountTable.isPackable(Integer.MAX_VALUE, 0xFFFF_FFFFL));
+        assertFalse(AccountKeyCountTable.isPackable(-1, 1L));
+        assertFalse(AccountKeyCountTable.isPackable(1, 0x1_0000_0000L));
+        assertFalse(AccountKeyCountTable.isPackable(null, 1L));
+    }
+}
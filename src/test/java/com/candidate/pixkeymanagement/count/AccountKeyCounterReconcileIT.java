@@ -0,0 +1,87 @@
+package com.candidate.pixkeymanagement.count;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the reconciliation from two threads at once, as two instances would at the same cron tick, against a
+ * {@code key_count} row that drifted from {@code pix_key_register}. The drift has to be corrected once.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AccountKeyCounterReconcileIT {
+
+    private static final int ROUNDS = 20;
+    private static final int AGENCY_NUMBER = 4321;
+    private static final long ACCOUNT_NUMBER = 87654321L;
+    private static final short EMAIL = 2;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AccountKeyCounter accountKeyCounter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Test
+    void shouldCorrectDriftOnceWhenReconciledConcurrently() throws Exception {
+        for (int key = 0; key < 3; key++) {
+            jdbcTemplate.update("insert into pix_key_register (id, key_type, key_value, account_type, agency_number, " +
+                            "account_number, account_holder_first_name, key_registration_date) values (?, ?, ?, 1, ?, ?, 'Lorem', now())",
+                    UUID.randomUUID(), EMAIL, "reconcile" + key + "@teste.com", AGENCY_NUMBER, ACCOUNT_NUMBER);
+        }
+
+        ExecutorService instances = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                jdbcTemplate.update("insert into key_count (agency_number, account_number, key_type, active_keys) " +
+                                "values (?, ?, ?, 1) on conflict (agency_number, account_number, key_type) do update set active_keys = 1",
+                        AGENCY_NUMBER, ACCOUNT_NUMBER, EMAIL);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> runs = List.of(
+                        instances.submit(() -> reconcileAfter(start)),
+                        instances.submit(() -> reconcileAfter(start)));
+                start.countDown();
+                for (Future<?> run : runs) {
+                    run.get();
+                }
+
+                assertEquals(3, jdbcTemplate.queryForObject("select active_keys from key_count where agency_number = ? " +
+                        "and account_number = ? and key_type = ?", Integer.class, AGENCY_NUMBER, ACCOUNT_NUMBER, EMAIL));
+            }
+        } finally {
+            instances.shutdownNow();
+        }
+    }
+
+    private Void reconcileAfter(CountDownLatch start) throws InterruptedException {
+        start.await();
+        accountKeyCounter.reconcile();
+        return null;
+    }
+}
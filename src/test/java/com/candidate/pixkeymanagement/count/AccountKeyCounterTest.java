@@ -0,0 +1,168 @@
+package com.candidate.pixkeymanagement.count;
+
+import com.candidate.pixkeymanagement.configuration.KeyCountProperties;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.KeyCountBatchRepository.Delta;
+import com.candidate.pixkeymanagement.repository.KeyCountRepository;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountKeyCounterTest {
+
+    @Mock
+    private KeyCountRepository keyCountRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private KeyCountProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeyCountProperties();
+        properties.setExpectedAccounts(1_000);
+        properties.setSegments(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldNotAnswerBeforeWarmUpOrWhenDisabled() {
+        properties.setEnabled(false);
+        AccountKeyCounter accountKeyCounter = newCounter();
+
+        accountKeyCounter.afterSingletonsInstantiated();
+
+        assertEquals(Optional.empty(), accountKeyCounter.find(1234, 12345678L));
+        verify(keyCountRepository, never()).streamAllCounts();
+    }
+
+    @Test
+    void shouldAnswerFromCountsLoadedOnWarmUp() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter(
+                keyCountRow(1234, 12345678L, PixKeyType.CPF, 2),
+                keyCountRow(1234, 12345678L, PixKeyType.EMAIL, 1));
+
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 2, PixKeyType.EMAIL, 1)), accountKeyCounter.find(1234, 12345678L));
+        assertEquals(Optional.of(Map.of()), accountKeyCounter.find(4321, 12345678L));
+        assertEquals(1, meterRegistry.get("pix.key.count.accounts").gauge().value());
+    }
+
+    @Test
+    void shouldWriteChangesToTableAndMemory() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter();
+
+        accountKeyCounter.registered(pixKeyRegister(1234, 12345678L, PixKeyType.CPF));
+        accountKeyCounter.registered(pixKeyRegister(1234, 12345678L, PixKeyType.EMAIL));
+        accountKeyCounter.inactivated(pixKeyRegister(1234, 12345678L, PixKeyType.EMAIL));
+
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 1)), accountKeyCounter.find(1234, 12345678L));
+        verify(keyCountRepository, times(1)).add(1234, 12345678L, PixKeyType.CPF.getCode(), 1);
+        verify(keyCountRepository, times(1)).add(1234, 12345678L, PixKeyType.EMAIL.getCode(), -1);
+    }
+
+    @Test
+    void shouldMoveKeyBetweenAccountsInLockOrder() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter(keyCountRow(4321, 1L, PixKeyType.CPF, 1));
+
+        accountKeyCounter.moved(pixKeyRegister(1234, 1L, PixKeyType.CPF), 4321, 1L);
+
+        assertEquals(Optional.of(Map.of()), accountKeyCounter.find(4321, 1L));
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 1)), accountKeyCounter.find(1234, 1L));
+        verify(keyCountRepository, times(1)).addAll(List.of(
+                new Delta(1234, 1L, PixKeyType.CPF, 1),
+                new Delta(4321, 1L, PixKeyType.CPF, -1)));
+    }
+
+    @Test
+    void shouldIgnoreUpdateThatKeepsTheAccount() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter();
+
+        accountKeyCounter.moved(pixKeyRegister(1234, 1L, PixKeyType.CPF), 1234, 1L);
+
+        verify(keyCountRepository, never()).add(any(), any(), anyShort(), anyInt());
+        verify(keyCountRepository, never()).addAll(any());
+    }
+
+    @Test
+    void shouldAddBatchRegistrationsPerAccountAndKeyType() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter();
+
+        accountKeyCounter.registered(List.of(pixKeyRegister(1234, 1L, PixKeyType.CPF),
+                pixKeyRegister(1234, 1L, PixKeyType.CPF), pixKeyRegister(1, 1L, PixKeyType.EMAIL)));
+
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 2)), accountKeyCounter.find(1234, 1L));
+        verify(keyCountRepository, times(1)).addAll(List.of(
+                new Delta(1, 1L, PixKeyType.EMAIL, 1),
+                new Delta(1234, 1L, PixKeyType.CPF, 2)));
+    }
+
+    @Test
+    void shouldApplyReconciledDrift() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter(keyCountRow(1234, 1L, PixKeyType.CPF, 3));
+        KeyCountRow drift = keyCountRow(1234, 1L, PixKeyType.CPF, -2);
+        when(keyCountRepository.tryLockReconcile()).thenReturn(true);
+        when(keyCountRepository.reconcile()).thenReturn(List.of(drift));
+
+        accountKeyCounter.reconcile();
+
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 1)), accountKeyCounter.find(1234, 1L));
+        assertEquals(1, meterRegistry.counter("pix.key.count.reconciled").count());
+    }
+
+    @Test
+    void shouldSkipReconciliationRunningOnAnotherInstance() {
+        AccountKeyCounter accountKeyCounter = warmedUpCounter(keyCountRow(1234, 1L, PixKeyType.CPF, 3));
+        when(keyCountRepository.tryLockReconcile()).thenReturn(false);
+
+        accountKeyCounter.reconcile();
+
+        verify(keyCountRepository, never()).reconcile();
+        assertEquals(Optional.of(Map.of(PixKeyType.CPF, 3)), accountKeyCounter.find(1234, 1L));
+    }
+
+    private AccountKeyCounter warmedUpCounter(KeyCountRow... keyCountRows) {
+        when(keyCountRepository.streamAllCounts()).thenReturn(Stream.of(keyCountRows));
+        AccountKeyCounter accountKeyCounter = newCounter();
+        accountKeyCounter.afterSingletonsInstantiated();
+        return accountKeyCounter;
+    }
+
+    private AccountKeyCounter newCounter() {
+        return new AccountKeyCounter(keyCountRepository, new TransactionTemplate(transactionManager), properties, meterRegistry);
+    }
+
+    private KeyCountRow keyCountRow(Integer agencyNumber, Long accountNumber, PixKeyType keyType, long activeKeys) {
+        KeyCountRow keyCountRow = mock(KeyCountRow.class);
+        when(keyCountRow.getAgencyNumber()).thenReturn(agencyNumber);
+        when(keyCountRow.getAccountNumber()).thenReturn(accountNumber);
+        when(keyCountRow.getKeyTypeCode()).thenReturn(keyType.getCode());
+        when(keyCountRow.getActiveKeys()).thenReturn(activeKeys);
+        return keyCountRow;
+    }
+
+    private PixKeyRegister pixKeyRegister(Integer agencyNumber, Long accountNumber, PixKeyType keyType) {
+        return PixKeyRegister.builder()
+                .agencyNumber(agencyNumber)
+                .accountNumber(accountNumber)
+                .keyType(keyType)
+                .build();
+    }
+}
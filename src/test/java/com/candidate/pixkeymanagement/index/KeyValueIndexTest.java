@@ -0,0 +1,110 @@
+package com.candidate.pixkeymanagement.index;
+
+import com.candidate.pixkeymanagement.configuration.KeyValueIndexProperties;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeyValueIndexTest {
+
+    private final String registeredKey = "lorem.ipsum@gmail.com";
+    @Mock
+    private PixKeyRegisterRepository pixKeyRegisterRepository;
+    private KeyValueIndexProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KeyValueIndexProperties();
+        properties.setExpectedInsertions(1_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldQueryDatabaseBeforeWarmUp() {
+        when(pixKeyRegisterRepository.existsByKeyValue(registeredKey)).thenReturn(true);
+        KeyValueIndex keyValueIndex = new KeyValueIndex(pixKeyRegisterRepository, properties, meterRegistry);
+
+        assertTrue(keyValueIndex.isRegistered(registeredKey));
+        verify(pixKeyRegisterRepository, times(1)).existsByKeyValue(registeredKey);
+    }
+
+    @Test
+    void shouldAnswerNewKeyWithoutQueryingDatabase() {
+        KeyValueIndex keyValueIndex = warmedUpIndex();
+
+        assertFalse(keyValueIndex.isRegistered("dolor.sit@gmail.com"));
+        verify(pixKeyRegisterRepository, never()).existsByKeyValue(anyString());
+    }
+
+    @Test
+    void shouldConfirmIndexedKeyWithDatabase() {
+        when(pixKeyRegisterRepository.existsByKeyValue(registeredKey)).thenReturn(true);
+        KeyValueIndex keyValueIndex = warmedUpIndex();
+
+        assertTrue(keyValueIndex.isRegistered(registeredKey));
+        assertEquals(1, meterRegistry.counter("pix.key.index.fallbacks").count());
+        assertEquals(0, meterRegistry.counter("pix.key.index.false.positives").count());
+    }
+
+    @Test
+    void shouldCountFalsePositiveWhenDatabaseDoesNotHaveIndexedKey() {
+        when(pixKeyRegisterRepository.existsByKeyValue(registeredKey)).thenReturn(false);
+        KeyValueIndex keyValueIndex = warmedUpIndex();
+
+        assertFalse(keyValueIndex.isRegistered(registeredKey));
+        assertEquals(1, meterRegistry.counter("pix.key.index.false.positives").count());
+    }
+
+    @Test
+    void shouldFindKeyAddedAfterWarmUp() {
+        String newKey = "+55011912341234";
+        when(pixKeyRegisterRepository.existsByKeyValue(newKey)).thenReturn(true);
+        KeyValueIndex keyValueIndex = warmedUpIndex();
+
+        keyValueIndex.add(newKey);
+
+        assertTrue(keyValueIndex.isRegistered(newKey));
+    }
+
+    @Test
+    void shouldReportInconsistencyWhenConsistencyCheckIsEnabled() {
+        String unknownKey = "dolor.sit@gmail.com";
+        properties.setConsistencyCheck(true);
+        when(pixKeyRegisterRepository.existsByKeyValue(unknownKey)).thenReturn(true);
+        KeyValueIndex keyValueIndex = warmedUpIndex();
+
+        assertTrue(keyValueIndex.isRegistered(unknownKey));
+        assertEquals(1, meterRegistry.counter("pix.key.index.inconsistencies").count());
+    }
+
+    @Test
+    void shouldAlwaysQueryDatabaseWhenDisabled() {
+        properties.setEnabled(false);
+        KeyValueIndex keyValueIndex = new KeyValueIndex(pixKeyRegisterRepository, properties, meterRegistry);
+        keyValueIndex.warmUp();
+
+        assertFalse(keyValueIndex.isRegistered(registeredKey));
+        verify(pixKeyRegisterRepository, never()).streamAllKeyValues();
+        verify(pixKeyRegisterRepository, times(1)).existsByKeyValue(registeredKey);
+    }
+
+    private KeyValueIndex warmedUpIndex() {
+        when(pixKeyRegisterRepository.streamAllKeyValues()).thenReturn(Stream.of(registeredKey));
+        KeyValueIndex keyValueIndex = new KeyValueIndex(pixKeyRegisterRepository, properties, meterRegistry);
+        keyValueIndex.warmUp();
+        return keyValueIndex;
+    }
+}
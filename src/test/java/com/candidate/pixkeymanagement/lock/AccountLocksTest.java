@@ -0,0 +1,172 @@
+package com.candidate.pixkeymanagement.lock;
+
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties;
+import com.candidate.pixkeymanagement.configuration.AccountLockProperties.Mode;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.repository.KeyCountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLocksTest {
+
+    @Mock
+    private KeyCountRepository keyCountRepository;
+    private AccountLockProperties properties;
+    private MeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountLockProperties();
+        properties.setStripes(64);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newSingleThreadExecutor();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldHoldLocalLockUntilTransactionCompletes() throws Exception {
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+        accountLocks.lock(1234, 12345678L);
+
+        Future<?> sameAccount = executor.submit(() -> inTransaction(() -> accountLocks.lock(1234, 12345678L)));
+        assertThrows(TimeoutException.class, () -> sameAccount.get(200, TimeUnit.MILLISECONDS));
+
+        complete();
+
+        sameAccount.get(5, TimeUnit.SECONDS);
+        assertEquals(1, meterRegistry.get("pix.account.lock.contended").counter().count());
+        assertEquals(2, meterRegistry.get("pix.account.lock.wait").timer().count());
+        verifyNoInteractions(keyCountRepository);
+    }
+
+    @Test
+    void shouldNotWaitForAnotherStripe() throws Exception {
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+        accountLocks.lock(1234, 12345678L);
+        long otherAccount = 12345679L;
+        while (accountLocks.stripeIndex(AccountLocks.key(1234, otherAccount))
+                == accountLocks.stripeIndex(AccountLocks.key(1234, 12345678L))) {
+            otherAccount++;
+        }
+
+        long account = otherAccount;
+        executor.submit(() -> inTransaction(() -> accountLocks.lock(1234, account))).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, meterRegistry.get("pix.account.lock.contended").counter().count());
+    }
+
+    @Test
+    void shouldFailWhenLockIsNotReleasedInTime() throws Exception {
+        properties.setTimeout(Duration.ofMillis(50));
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+        accountLocks.lock(1234, 12345678L);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> executor
+                .submit(() -> inTransaction(() -> accountLocks.lock(1234, 12345678L))).get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(UnexpectedException.class, exception.getCause());
+        assertEquals(1, meterRegistry.get("pix.account.lock.timeouts").counter().count());
+        assertEquals(0, meterRegistry.get("pix.account.lock.waiting").gauge().value());
+    }
+
+    @Test
+    void shouldWaitForAdvisoryLockOnlyWhenItIsTaken() {
+        properties.setMode(Mode.ADVISORY);
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+        long key = AccountLocks.advisoryKey(accountLocks.stripeIndex(AccountLocks.key(1234, 12345678L)));
+        when(keyCountRepository.tryLockAccount(key)).thenReturn(false);
+
+        accountLocks.lock(1234, 12345678L);
+
+        InOrder inOrder = inOrder(keyCountRepository);
+        inOrder.verify(keyCountRepository).tryLockAccount(key);
+        inOrder.verify(keyCountRepository).lockAccount(key);
+        assertTrue(accountLocks.isClusterWide());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertEquals(1, meterRegistry.get("pix.account.lock.contended").counter().count());
+    }
+
+    @Test
+    void shouldLockEachStripeOnceInAscendingOrder() {
+        properties.setMode(Mode.ADVISORY);
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+        when(keyCountRepository.tryLockAccount(anyLong())).thenReturn(true);
+        List<AccountLocks.Account> accounts = LongStream.range(0, 200)
+                .mapToObj(accountNumber -> new AccountLocks.Account(1234, accountNumber))
+                .toList();
+
+        accountLocks.lockAll(accounts);
+
+        ArgumentCaptor<Long> keys = ArgumentCaptor.forClass(Long.class);
+        verify(keyCountRepository, atLeastOnce()).tryLockAccount(keys.capture());
+        long stripes = accounts.stream()
+                .mapToInt(account -> accountLocks.stripeIndex(AccountLocks.key(account.agencyNumber(), account.accountNumber())))
+                .distinct()
+                .count();
+        assertEquals(stripes, keys.getAllValues().size());
+        assertEquals(keys.getAllValues().stream().sorted().toList(), keys.getAllValues());
+    }
+
+    @Test
+    void shouldSkipLockingWhenDisabled() {
+        properties.setMode(Mode.NONE);
+        TransactionSynchronizationManager.clearSynchronization();
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+
+        accountLocks.lock(1234, 12345678L);
+
+        assertFalse(accountLocks.isClusterWide());
+        verifyNoInteractions(keyCountRepository);
+    }
+
+    @Test
+    void shouldRequireTransaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+        AccountLocks accountLocks = new AccountLocks(keyCountRepository, properties, meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> accountLocks.lock(1234, 12345678L));
+    }
+
+    private static void inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+        } finally {
+            complete();
+        }
+    }
+
+    private static void complete() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,48 @@
+package com.candidate.pixkeymanagement.message;
+
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+
+import java.util.Locale;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ErrorMessageCatalogTest {
+
+    private ErrorMessageCatalog errorMessageCatalog;
+
+    @BeforeEach
+    void setUp() {
+        errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    }
+
+    @Test
+    void shouldFormatMessageWithArguments() {
+        ErrorMessageDTO error = errorMessageCatalog.error(VALIDATION_FAILED, "CPF", "CPF inválido");
+
+        assertEquals("Falha ao validar chave do tipo CPF. Erro: CPF inválido.", error.getMessage());
+    }
+
+    @Test
+    void shouldReturnPatternWhenThereAreNoArguments() {
+        ErrorMessageDTO error = errorMessageCatalog.error(KEY_ALREADY_REGISTERED);
+
+        assertEquals("Chave Key já cadastrada.", error.getMessage());
+    }
+
+    @Test
+    void shouldFallbackToDefaultBundleForUnknownLocale() {
+        String message = errorMessageCatalog.getMessage(FIELD_REQUIRED, new Object[]{"tipoChave"}, Locale.JAPAN);
+
+        assertEquals("O campo tipoChave é obrigatório.", message);
+    }
+
+    @Test
+    void shouldThrowWhenCodeIsUnknown() {
+        assertThrows(NoSuchMessageException.class, () -> errorMessageCatalog.error("999.999"));
+    }
+}
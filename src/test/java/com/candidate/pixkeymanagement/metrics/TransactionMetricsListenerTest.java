@@ -0,0 +1,59 @@
+package com.candidate.pixkeymanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionMetricsListenerTest {
+
+    private MeterRegistry meterRegistry;
+    private TransactionMetricsListener listener;
+    private TransactionExecution transaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new TransactionMetricsListener(meterRegistry);
+        transaction = mock(TransactionExecution.class);
+        when(transaction.getTransactionName()).thenReturn("com.candidate.pixkeymanagement.service.RegisterKeyService.process");
+    }
+
+    @Test
+    void shouldTimeCommittedTransactionByMethod() {
+        listener.afterBegin(transaction, null);
+        listener.afterCommit(transaction, null);
+
+        assertEquals(1, meterRegistry.get("pix.transaction").tags("name", "RegisterKeyService.process", "outcome", "commit")
+                .timer().count());
+    }
+
+    @Test
+    void shouldTimeRolledBackTransaction() {
+        listener.afterBegin(transaction, null);
+        listener.afterRollback(transaction, null);
+
+        assertEquals(1, meterRegistry.get("pix.transaction").tag("outcome", "rollback").timer().count());
+    }
+
+    @Test
+    void shouldIgnoreTransactionThatFailedToBegin() {
+        listener.afterBegin(transaction, new IllegalStateException());
+        listener.afterRollback(transaction, null);
+
+        assertTrue(meterRegistry.find("pix.transaction").timers().isEmpty());
+    }
+
+    @Test
+    void shouldShortenTransactionName() {
+        assertEquals("SimpleJpaRepository.findById",
+                TransactionMetricsListener.shortName("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById"));
+        assertEquals("unnamed", TransactionMetricsListener.shortName(null));
+        assertEquals("process", TransactionMetricsListener.shortName("process"));
+    }
+}
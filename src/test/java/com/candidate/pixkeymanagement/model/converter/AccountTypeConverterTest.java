@@ -0,0 +1,31 @@
+package com.candidate.pixkeymanagement.model.converter;
+
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountTypeConverterTest {
+
+    private final AccountTypeConverter converter = new AccountTypeConverter();
+
+    @Test
+    void shouldStoreTheCodesOfTheMigration() {
+        assertEquals((short) 1, converter.convertToDatabaseColumn(AccountType.CHECKING));
+        assertEquals((short) 2, converter.convertToDatabaseColumn(AccountType.SAVINGS));
+    }
+
+    @Test
+    void shouldReadEveryStoredCodeBack() {
+        for (AccountType accountType : AccountType.values()) {
+            assertEquals(accountType, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(accountType)));
+        }
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void shouldFailOnUnknownCode() {
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute((short) -1));
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute((short) 3));
+    }
+}
@@ -0,0 +1,34 @@
+package com.candidate.pixkeymanagement.model.converter;
+
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PixKeyTypeConverterTest {
+
+    private final PixKeyTypeConverter converter = new PixKeyTypeConverter();
+
+    @Test
+    void shouldStoreTheCodesOfTheMigration() {
+        assertEquals((short) 1, converter.convertToDatabaseColumn(PixKeyType.CELLPHONE));
+        assertEquals((short) 2, converter.convertToDatabaseColumn(PixKeyType.EMAIL));
+        assertEquals((short) 3, converter.convertToDatabaseColumn(PixKeyType.CPF));
+        assertEquals((short) 4, converter.convertToDatabaseColumn(PixKeyType.CNPJ));
+        assertEquals((short) 5, converter.convertToDatabaseColumn(PixKeyType.RANDOM_KEY));
+    }
+
+    @Test
+    void shouldReadEveryStoredCodeBack() {
+        for (PixKeyType keyType : PixKeyType.values()) {
+            assertEquals(keyType, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(keyType)));
+        }
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void shouldFailOnUnknownCode() {
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute((short) 0));
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute((short) 6));
+    }
+}
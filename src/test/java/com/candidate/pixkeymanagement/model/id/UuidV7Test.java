@@ -0,0 +1,82 @@
+package com.candidate.pixkeymanagement.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void shouldCarryVersionVariantAndTimestamp() {
+        long now = System.currentTimeMillis();
+
+        UUID uuid = UuidV7.next(now);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue((uuid.getMostSignificantBits() >>> 16) >= now);
+    }
+
+    @Test
+    void shouldIncreaseWithinTheSameMillisecondAndWhenClockMovesBack() {
+        long now = System.currentTimeMillis();
+
+        UUID first = UuidV7.next(now);
+        UUID second = UuidV7.next(now);
+        UUID third = UuidV7.next(now - 1_000);
+
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(second.compareTo(third) < 0);
+    }
+
+    @Test
+    void shouldBorrowNextMillisecondWhenCounterRunsOut() {
+        long now = System.currentTimeMillis();
+        UUID first = UuidV7.next(now);
+
+        UUID last = first;
+        for (int i = 0; i < 4_096; i++) {
+            last = UuidV7.next(now);
+        }
+
+        assertTrue((last.getMostSignificantBits() >>> 16) > (first.getMostSignificantBits() >>> 16));
+    }
+
+    @Test
+    void shouldStayUniqueAndOrderedPerThreadAcrossThreads() throws Exception {
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> ordered = IntStream.range(0, 4).mapToObj(thread -> executor.submit(() -> {
+                UUID previous = UuidV7.next();
+                generated.add(previous);
+                boolean increasing = true;
+                for (int i = 0; i < 10_000; i++) {
+                    UUID next = UuidV7.next();
+                    increasing &= previous.compareTo(next) < 0;
+                    generated.add(next);
+                    previous = next;
+                }
+                return increasing;
+            })).toList();
+
+            for (Future<Boolean> future : ordered) {
+                assertTrue(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4 * 10_001, generated.size());
+    }
+}
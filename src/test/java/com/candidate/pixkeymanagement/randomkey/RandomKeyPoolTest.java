@@ -0,0 +1,104 @@
+package com.candidate.pixkeymanagement.randomkey;
+
+import com.candidate.pixkeymanagement.configuration.RandomKeyPoolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RandomKeyPoolTest {
+
+    @Mock
+    private RegisteredKeyLookup registeredKeyLookup;
+    private RandomKeyPoolProperties properties;
+    private MeterRegistry meterRegistry;
+    private RandomKeyPool randomKeyPool;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RandomKeyPoolProperties();
+        properties.setCapacity(10);
+        properties.setRefillThreshold(0);
+        properties.setCheckBatchSize(4);
+        meterRegistry = new SimpleMeterRegistry();
+        randomKeyPool = new RandomKeyPool(registeredKeyLookup, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        randomKeyPool.shutdown();
+    }
+
+    @Test
+    void shouldFillPoolInBatchesOfCheckedKeys() {
+        when(registeredKeyLookup.findRegistered(anyCollection())).thenReturn(Set.of());
+
+        randomKeyPool.refill();
+
+        assertEquals(10, randomKeyPool.size());
+        verify(registeredKeyLookup, times(3)).findRegistered(anyCollection());
+        assertEquals(10, meterRegistry.get("pix.random.key.pool.generated").counter().count());
+        assertEquals(1, meterRegistry.get("pix.random.key.pool.refills").counter().count());
+        assertEquals(10, meterRegistry.get("pix.random.key.pool.size").gauge().value());
+    }
+
+    @Test
+    void shouldDiscardCandidatesAlreadyRegistered() {
+        Set<String> registered = new HashSet<>();
+        when(registeredKeyLookup.findRegistered(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            if (!registered.isEmpty()) {
+                return Set.of();
+            }
+            String collision = candidates.iterator().next();
+            registered.add(collision);
+            return Set.of(collision);
+        });
+
+        randomKeyPool.refill();
+
+        Set<String> taken = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            taken.add(randomKeyPool.take());
+        }
+        assertEquals(10, taken.size());
+        assertTrue(taken.stream().noneMatch(registered::contains));
+        assertEquals(11, meterRegistry.get("pix.random.key.pool.generated").counter().count());
+        assertEquals(1, meterRegistry.get("pix.random.key.pool.collisions").counter().count());
+        assertEquals(0, meterRegistry.get("pix.random.key.pool.misses").counter().count());
+    }
+
+    @Test
+    void shouldGenerateKeyAndCountMissWhenPoolIsEmpty() {
+        String randomKey = randomKeyPool.take();
+
+        assertEquals(randomKey, UUID.fromString(randomKey).toString());
+        assertEquals(1, meterRegistry.get("pix.random.key.pool.misses").counter().count());
+    }
+
+    @Test
+    void shouldKeepKeysAlreadyInPoolWhenRefillFails() {
+        when(registeredKeyLookup.findRegistered(anyCollection()))
+                .thenReturn(Set.of())
+                .thenThrow(new IllegalStateException());
+
+        randomKeyPool.refill();
+
+        assertEquals(4, randomKeyPool.size());
+        assertEquals(0, meterRegistry.get("pix.random.key.pool.refills").counter().count());
+    }
+}
@@ -0,0 +1,149 @@
+package com.candidate.pixkeymanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs EXPLAIN on the SQL behind each repository query against a seeded table and fails on sequential scans.
+ * The statements mirror what Hibernate generates for PixKeyRegisterRepository; keep them in sync when a query
+ * changes. streamAllKeyValues and the NDJSON export read the whole table by design and are not checked.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PixKeyRegisterQueryPlanIT {
+
+    private static final int SEEDED_ROWS = 1_000_000;
+    private static final String PAGE_ORDER = " order by p.key_registration_date, p.id fetch first 101 rows only";
+    private static final String[] FILTERS = {
+            "p.key_type = 2",
+            "p.agency_number = 1234",
+            "p.account_number = 98765",
+            "p.account_holder_first_name = 'Nome42'"
+    };
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into pix_key_register (id, key_type, key_value, account_type, agency_number, account_number,
+                                                  account_holder_first_name, account_holder_last_name,
+                                                  key_registration_date, key_inactivation_date)
+                    select gen_random_uuid(),
+                           1 + i % 5,
+                           'chave-' || i,
+                           1 + i % 2,
+                           1 + i % 9999,
+                           1 + i / 5,
+                           'Nome' || i % 5000,
+                           'Sobrenome' || i % 700,
+                           timestamp '2024-01-01' + i * interval '1 second',
+                           case when i % 10 = 0 then timestamp '2024-06-01' end
+                    from generate_series(1, %d) as i
+                    """.formatted(SEEDED_ROWS));
+            statement.execute("analyze pix_key_register");
+        }
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        List<Arguments> queries = new ArrayList<>(List.of(
+                Arguments.of("existsByKeyValue",
+                        "select p.id from pix_key_register p where p.key_value = 'chave-500000' fetch first 1 rows only"),
+                Arguments.of("findExistingKeyValues",
+                        "select p.key_value from pix_key_register p where p.key_value in ('chave-1', 'chave-2', 'chave-3')"),
+                Arguments.of("findByIdAndKeyInactivationDateIsNull",
+                        "select * from pix_key_register p where p.id = '00000000-0000-0000-0000-000000000001' " +
+                                "and p.key_inactivation_date is null"),
+                Arguments.of("findActiveViewById",
+                        "select p.id, p.key_type, p.key_value, p.account_type, p.agency_number, p.account_number, " +
+                                "p.account_holder_first_name, p.account_holder_last_name, p.key_registration_date, " +
+                                "p.key_inactivation_date from pix_key_register p " +
+                                "where p.id = '00000000-0000-0000-0000-000000000001' and p.key_inactivation_date is null"),
+                Arguments.of("findActiveByKeyValue",
+                        "select p.key_type, p.key_value, p.account_type, p.agency_number, p.account_number " +
+                                "from pix_key_register p where p.key_value = 'chave-500001' and p.key_inactivation_date is null"),
+                Arguments.of("findValidationFacts",
+                        "select p.key_type, sum(case when p.key_value = 'chave-500000' then 1 else 0 end), " +
+                                "sum(case when p.agency_number = 1234 and p.account_number = 98765 " +
+                                "and p.key_inactivation_date is null then 1 else 0 end) from pix_key_register p " +
+                                "where p.key_value = 'chave-500000' or (p.agency_number = 1234 and p.account_number = 98765) " +
+                                "group by p.key_type"),
+                Arguments.of("countGroupedByAgencyAndAccount",
+                        "select p.agency_number, p.account_number, p.key_type, count(p.id) from pix_key_register p " +
+                                "where p.agency_number in (1234, 4321) and p.account_number in (98765, 56789) " +
+                                "and p.key_inactivation_date is null group by p.agency_number, p.account_number, p.key_type"),
+                Arguments.of("countGroupedByAccounts",
+                        "select p.agency_number, p.account_number, p.key_type, count(*) " +
+                                "from unnest(array[1234, 4321]::int4[], array[98765, 56789]::int8[]) as a(agency_number, account_number) " +
+                                "join pix_key_register p on p.agency_number = a.agency_number and p.account_number = a.account_number " +
+                                "where p.key_inactivation_date is null group by p.agency_number, p.account_number, p.key_type"),
+                Arguments.of("findPageAfter (cursor)",
+                        "select * from pix_key_register p where p.key_type = 2 and (p.key_registration_date > " +
+                                "timestamp '2024-01-05' or (p.key_registration_date = timestamp '2024-01-05' and " +
+                                "p.id > '00000000-0000-0000-0000-000000000001'))" + PAGE_ORDER)));
+
+        for (int mask = 0; mask < 1 << FILTERS.length; mask++) {
+            List<String> predicates = new ArrayList<>();
+            for (int filter = 0; filter < FILTERS.length; filter++) {
+                if ((mask & 1 << filter) != 0) {
+                    predicates.add(FILTERS[filter]);
+                }
+            }
+
+            String where = predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+            queries.add(Arguments.of("findPageAfter " + predicates, "select * from pix_key_register p" + where + PAGE_ORDER));
+        }
+
+        return queries.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void shouldNotScanWholeTable(String repositoryMethod, String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("Seq Scan on pix_key_register"), repositoryMethod + " falls back to a sequential scan:\n" + plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -1,9 +1,14 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.candidate.pixkeymanagement.util.MessageConstant.CONCURRENT_UPDATE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +39,18 @@ class DeleteKeyServiceTest {
     @Mock
     private PixKeyRegisterRepository pixKeyRegisterRepository;
 
+    @Mock
+    private PixKeyCache pixKeyCache;
+
+    @Mock
+    private PixKeyResolveCache pixKeyResolveCache;
+
+    @Mock
+    private AccountKeyCounter accountKeyCounter;
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
     private PixKeyRegister pixKeyRegister;
 
     private UUID pixKeyId;
@@ -47,11 +67,14 @@ class DeleteKeyServiceTest {
 
         when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(pixKeyId))
                 .thenReturn(Optional.of(pixKeyRegister));
-        when(pixKeyRegisterRepository.save(any())).thenReturn(pixKeyRegister);
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenReturn(pixKeyRegister);
 
         PixKeyResponseDTO responseDTO = deleteKeyService.process(pixKeyId);
         assertEquals(LocalDateTime.now().withNano(0), responseDTO.getKeyInactivationDate().withNano(0));
-        verify(pixKeyRegisterRepository, times(1)).save(any());
+        verify(pixKeyRegisterRepository, times(1)).saveAndFlush(any());
+        verify(pixKeyCache, times(1)).evict(pixKeyRegister.getId());
+        verify(pixKeyResolveCache, times(1)).evict(pixKeyRegister.getKeyValue());
+        verify(accountKeyCounter, times(1)).inactivated(pixKeyRegister);
         verify(pixKeyRegisterRepository, times(1)).findByIdAndKeyInactivationDateIsNull(any());
     }
 
@@ -62,16 +85,31 @@ class DeleteKeyServiceTest {
 
         assertThrows(NotFoundException.class, () -> deleteKeyService.process(pixKeyId));
         verify(pixKeyRegisterRepository, times(1)).findByIdAndKeyInactivationDateIsNull(any());
-        verify(pixKeyRegisterRepository, never()).save(any());
+        verify(pixKeyRegisterRepository, never()).saveAndFlush(any());
+        verify(pixKeyCache, never()).evict(any());
     }
 
+    @Test
+    void shouldReturnConcurrentUpdateWhenVersionIsStale() {
+        when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(pixKeyId))
+                .thenReturn(Optional.of(pixKeyRegister));
+        when(pixKeyRegisterRepository.saveAndFlush(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(PixKeyRegister.class, pixKeyRegister.getId()));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> deleteKeyService.process(pixKeyId));
+
+        assertEquals(errorMessageCatalog.getMessage(CONCURRENT_UPDATE), exception.getErrors().get(0).getMessage());
+        verify(pixKeyCache, never()).evict(any());
+        verify(accountKeyCounter, never()).inactivated(any());
+    }
 
     private PixKeyRegister getPixKeyRegisterEntity() {
         return PixKeyRegister.builder()
                 .id(UUID.randomUUID())
-                .keyType(PixKeyType.CELLPHONE.getValue())
+                .keyType(PixKeyType.CELLPHONE)
                 .keyValue("+55011912341234")
-                .accountType(AccountType.CHECKING.getValue())
+                .accountType(AccountType.CHECKING)
                 .agencyNumber(1234)
                 .accountNumber(56789012345L)
                 .accountHolderFirstName("Lorem")
@@ -0,0 +1,62 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PixKeyResponseMapperTest {
+
+    @Test
+    void shouldMapEntityWithMessage() {
+        PixKeyRegister pixKeyRegister = PixKeyRegister.builder()
+                .id(UUID.randomUUID())
+                .keyType(PixKeyType.EMAIL)
+                .keyValue("lorem.ipsum@gmail.com")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .keyRegistrationDate(LocalDateTime.now())
+                .build();
+
+        PixKeyResponseDTO responseDTO = PixKeyResponseMapper.toResponseDTO(pixKeyRegister, "Chave Pix deletada com sucesso");
+
+        assertEquals("Chave Pix deletada com sucesso", responseDTO.getMessage());
+        assertEquals(pixKeyRegister.getId(), responseDTO.getId());
+        assertEquals(PixKeyType.EMAIL, responseDTO.getKeyType());
+        assertEquals(AccountType.CHECKING, responseDTO.getAccountType());
+        assertEquals(1234, responseDTO.getAgencyNumber());
+        assertEquals(12345678L, responseDTO.getAccountNumber());
+        assertEquals("", responseDTO.getAccountHolderLastName());
+        assertEquals(pixKeyRegister.getKeyRegistrationDate(), responseDTO.getKeyRegistrationDate());
+    }
+
+    @Test
+    void shouldMapViewsInOrder() {
+        List<PixKeyView> pixKeyViews = List.of(getPixKeyView(PixKeyType.CELLPHONE, "+5511999999999"),
+                getPixKeyView(PixKeyType.CPF, "12345678909"));
+
+        List<PixKeyResponseDTO> responseDTOs = PixKeyResponseMapper.toResponseDTOs(pixKeyViews);
+
+        assertEquals(2, responseDTOs.size());
+        assertEquals(PixKeyType.CELLPHONE, responseDTOs.get(0).getKeyType());
+        assertEquals(PixKeyType.CPF, responseDTOs.get(1).getKeyType());
+        assertEquals(pixKeyViews.stream().map(PixKeyView::id).toList(),
+                PixKeyResponseMapper.toResponseDTOs(pixKeyViews.stream()).map(PixKeyResponseDTO::getId).toList());
+        assertNull(responseDTOs.get(0).getMessage());
+    }
+
+    private PixKeyView getPixKeyView(PixKeyType keyType, String keyValue) {
+        return new PixKeyView(UUID.randomUUID(), keyType, keyValue, AccountType.SAVINGS, 1234, 12345678L, "Lorem", "Ipsum",
+                LocalDateTime.now(), null);
+    }
+}
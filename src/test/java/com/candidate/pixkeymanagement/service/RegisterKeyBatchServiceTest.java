@@ -0,0 +1,265 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.configuration.BatchRegistrationProperties;
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
+import com.candidate.pixkeymanagement.dto.PixKeyBatchResponseDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.KeyCountRow;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationPipelines;
+import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
+import com.candidate.pixkeymanagement.validation.prefetch.ValidationFactsLoader;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterKeyBatchServiceTest {
+
+    private final ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @Mock
+    private PixKeyRegisterRepository pixKeyRegisterRepository;
+    @Mock
+    private KeyValueIndex keyValueIndex;
+    @Mock
+    private PixKeyResolveCache pixKeyResolveCache;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ValidationFactsLoader validationFactsLoader;
+    @Mock
+    private RandomKeyPool randomKeyPool;
+    @Mock
+    private AccountKeyCounter accountKeyCounter;
+    @Mock
+    private AccountLocks accountLocks;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private BatchRegistrationProperties properties;
+    private RegisterKeyBatchService registerKeyBatchService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BatchRegistrationProperties();
+        ValidationStepEngine validationStepEngine = new ValidationStepEngine(new ValidationPipelines(
+                List.of(new GeneralValidationStep(errorMessageCatalog)), new ValidationProperties(), new SimpleMeterRegistry()),
+                validationFactsLoader);
+        registerKeyBatchService = new RegisterKeyBatchService(pixKeyRegisterRepository, validationStepEngine, keyValueIndex, pixKeyResolveCache,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, errorMessageCatalog, properties, randomKeyPool,
+                accountKeyCounter, accountLocks, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void registerBatchSuccessfully() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+        when(pixKeyRegisterRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PixKeyRegister> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+            return entities;
+        });
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(
+                List.of(getRequest("12345678909"), getRequest("98765432100")));
+
+        assertEquals(2, responseDTO.getRegistered());
+        assertEquals(0, responseDTO.getRejected());
+        assertEquals(201, responseDTO.getResults().get(0).getStatus());
+        assertNotNull(responseDTO.getResults().get(1).getId());
+        verify(pixKeyRegisterRepository, never()).findExistingKeyValues(any());
+        verify(pixKeyRegisterRepository, never()).existsByKeyValue(any());
+        verify(validationFactsLoader, never()).load(any());
+        verify(pixKeyRegisterRepository, times(1)).flush();
+        verify(accountLocks, times(1)).lockAll(anyCollection());
+        verify(keyValueIndex, times(2)).add(anyString());
+        verify(pixKeyResolveCache, times(2)).evict(anyString());
+        verify(accountKeyCounter, times(1)).registered(anyCollection());
+    }
+
+    @Test
+    void shouldRejectItemsAlreadyRegisteredOrRepeatedInBatch() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(true);
+        when(pixKeyRegisterRepository.findExistingKeyValues(anyCollection())).thenReturn(Set.of("12345678909"));
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(List.of(getRequest("12345678909"),
+                getRequest("98765432100"), getRequest("98765432100")));
+
+        assertEquals(1, responseDTO.getRegistered());
+        assertEquals(2, responseDTO.getRejected());
+        assertEquals(422, responseDTO.getResults().get(0).getStatus());
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), responseDTO.getResults().get(0).getErrors().get(0).getMessage());
+        assertEquals(201, responseDTO.getResults().get(1).getStatus());
+        assertEquals(422, responseDTO.getResults().get(2).getStatus());
+    }
+
+    @Test
+    void shouldCountKeysAcceptedEarlierInBatchAgainstAccountLimit() {
+        KeyCountRow keyCountRow = mock(KeyCountRow.class);
+        when(keyCountRow.getAgencyNumber()).thenReturn(1234);
+        when(keyCountRow.getAccountNumber()).thenReturn(12345678L);
+        when(keyCountRow.getKeyTypeCode()).thenReturn(PixKeyType.EMAIL.getCode());
+        when(keyCountRow.getActiveKeys()).thenReturn(5L);
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of(keyCountRow));
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(
+                List.of(getRequest("12345678909"), getRequest("98765432100")));
+
+        assertEquals(1, responseDTO.getRegistered());
+        assertEquals(422, responseDTO.getResults().get(1).getStatus());
+        assertEquals(errorMessageCatalog.getMessage(EXCEEDED_REGISTERS_FOR_TYPE, PixKeyType.CPF.getValue()),
+                responseDTO.getResults().get(1).getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void shouldReadAccountLimitsFromKeyCounts() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(accountKeyCounter.find(1234, 12345678L)).thenReturn(Optional.of(Map.of(PixKeyType.EMAIL, 5)));
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(
+                List.of(getRequest("12345678909"), getRequest("98765432100")));
+
+        assertEquals(1, responseDTO.getRegistered());
+        assertEquals(422, responseDTO.getResults().get(1).getStatus());
+        verify(accountKeyCounter, times(1)).find(1234, 12345678L);
+        verify(pixKeyRegisterRepository, never()).countGroupedByAccounts(any(), any());
+    }
+
+    @Test
+    void shouldRejectItemWithInvalidFieldsUsingJsonFieldName() {
+        PixKeyRequestDTO invalidRequest = getRequest("12345678909");
+        invalidRequest.setAccountHolderFirstName(null);
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(List.of(invalidRequest));
+
+        assertEquals(0, responseDTO.getRegistered());
+        assertEquals(400, responseDTO.getResults().get(0).getStatus());
+        assertEquals(errorMessageCatalog.getMessage(FIELD_REQUIRED, "nomeCorrentista"),
+                responseDTO.getResults().get(0).getErrors().get(0).getMessage());
+        verify(pixKeyRegisterRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldGenerateRandomKeysAndRejectRandomKeyValueSentByClient() {
+        String randomKey = "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11";
+        PixKeyRequestDTO generatedRequest = getRequest(null);
+        generatedRequest.setKeyType(PixKeyType.RANDOM_KEY);
+        PixKeyRequestDTO sentRequest = getRequest(randomKey);
+        sentRequest.setKeyType(PixKeyType.RANDOM_KEY);
+        when(randomKeyPool.take()).thenReturn(randomKey);
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(List.of(generatedRequest, sentRequest));
+
+        assertEquals(201, responseDTO.getResults().get(0).getStatus());
+        assertEquals(randomKey, responseDTO.getResults().get(0).getKeyValue());
+        assertEquals(400, responseDTO.getResults().get(1).getStatus());
+        assertEquals(errorMessageCatalog.getMessage(FIELD_NOT_ALLOWED, "valorChave"),
+                responseDTO.getResults().get(1).getErrors().get(0).getMessage());
+        verify(randomKeyPool, times(1)).take();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchIsEmptyOrTooLarge() {
+        properties.setMaxItems(1);
+
+        assertThrows(BadRequestException.class, () -> registerKeyBatchService.process(List.of()));
+        assertThrows(BadRequestException.class, () -> registerKeyBatchService.process(
+                List.of(getRequest("12345678909"), getRequest("98765432100"))));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPersistFailed() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+        when(pixKeyRegisterRepository.saveAll(anyList())).thenThrow(new RuntimeException());
+
+        assertThrows(UnexpectedException.class, () -> registerKeyBatchService.process(List.of(getRequest("12345678909"))));
+        verify(keyValueIndex, never()).add(any());
+    }
+
+    @Test
+    void shouldRejectBatchWhenConcurrentRegistrationWins() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+        when(pixKeyRegisterRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("insert failed", new RuntimeException("duplicate key value violates unique constraint \"ux_pix_key_register_key_value_active\"")));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> registerKeyBatchService.process(List.of(getRequest("12345678909"))));
+
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), exception.getErrors().get(0).getMessage());
+        verify(keyValueIndex, never()).add(any());
+    }
+
+    @Test
+    void shouldRejectOnlyItemsRegisteredByConcurrentRequest() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAccounts(any(), any())).thenReturn(List.of());
+        when(pixKeyRegisterRepository.findExistingKeyValues(anyCollection())).thenReturn(Set.of("12345678909"));
+        when(pixKeyRegisterRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("insert failed", new RuntimeException("duplicate key value violates unique constraint \"ux_pix_key_register_key_value_active\"")))
+                .thenAnswer(invocation -> {
+                    List<PixKeyRegister> entities = invocation.getArgument(0);
+                    entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+                    return entities;
+                });
+
+        PixKeyBatchResponseDTO responseDTO = registerKeyBatchService.process(
+                List.of(getRequest("12345678909"), getRequest("98765432100")));
+
+        assertEquals(1, responseDTO.getRegistered());
+        assertEquals(422, responseDTO.getResults().get(0).getStatus());
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), responseDTO.getResults().get(0).getErrors().get(0).getMessage());
+        assertEquals(201, responseDTO.getResults().get(1).getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(accountLocks, times(2)).lockAll(anyCollection());
+        verify(keyValueIndex, times(1)).add("12345678909");
+        verify(keyValueIndex, times(1)).add("98765432100");
+    }
+
+    private PixKeyRequestDTO getRequest(String keyValue) {
+        return PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.CPF)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+    }
+}
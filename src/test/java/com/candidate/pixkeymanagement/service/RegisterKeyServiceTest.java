@@ -1,5 +1,8 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
@@ -7,22 +10,31 @@ import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.UnexpectedException;
 import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
+import com.candidate.pixkeymanagement.randomkey.RandomKeyPool;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
 import com.candidate.pixkeymanagement.validation.orchestrator.ValidationStepEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
 import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +50,27 @@ class RegisterKeyServiceTest {
     @Mock
     private ValidationStepEngine validationStepEngine;
 
+    @Mock
+    private KeyValueIndex keyValueIndex;
+
+    @Mock
+    private PixKeyCache pixKeyCache;
+
+    @Mock
+    private PixKeyResolveCache pixKeyResolveCache;
+
+    @Mock
+    private RandomKeyPool randomKeyPool;
+
+    @Mock
+    private AccountKeyCounter accountKeyCounter;
+
+    @Mock
+    private AccountLocks accountLocks;
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
     private PixKeyContext pixKeyContext;
     private PixKeyRequestDTO pixKeyRequestDTO;
     private PixKeyRegister pixKeyRegister;
@@ -52,10 +85,51 @@ class RegisterKeyServiceTest {
     @Test
     void registerKeySuccessfully() {
         when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
-        when(pixKeyRegisterRepository.save(any())).thenReturn(pixKeyRegister);
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenReturn(pixKeyRegister);
 
         PixKeyResponseDTO responseDTO = registerKeyService.process(pixKeyRequestDTO);
         assertEquals(responseDTO.getMessage(), "Chave Pix cadastrada com sucesso");
+        assertNull(responseDTO.getKeyValue());
+        verify(randomKeyPool, never()).take();
+        verify(keyValueIndex, times(1)).add(pixKeyRegister.getKeyValue());
+        verify(pixKeyCache, times(1)).put(argThat(cached -> pixKeyRegister.getKeyValue().equals(cached.getKeyValue())));
+        verify(pixKeyResolveCache, times(1)).evict(pixKeyRegister.getKeyValue());
+        verify(accountKeyCounter, times(1)).registered(pixKeyRegister);
+
+        InOrder inOrder = inOrder(accountLocks, validationStepEngine, pixKeyRegisterRepository);
+        inOrder.verify(accountLocks).lock(1234, 56789012345L);
+        inOrder.verify(validationStepEngine).validation(any());
+        inOrder.verify(pixKeyRegisterRepository).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldNormalizeKeyValueBeforeValidation() {
+        pixKeyRequestDTO.setKeyType(PixKeyType.EMAIL);
+        pixKeyRequestDTO.setKeyValue(" Lorem.Ipsum@Gmail.com ");
+        when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenReturn(pixKeyRegister);
+
+        registerKeyService.process(pixKeyRequestDTO);
+
+        verify(pixKeyRegisterRepository).saveAndFlush(argThat(entity -> "lorem.ipsum@gmail.com".equals(entity.getKeyValue())));
+    }
+
+    @Test
+    void shouldRegisterRandomKeyTakenFromPool() {
+        String randomKey = "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11";
+        pixKeyRequestDTO.setKeyType(PixKeyType.RANDOM_KEY);
+        pixKeyRequestDTO.setKeyValue(null);
+        pixKeyRegister.setKeyType(PixKeyType.RANDOM_KEY);
+        pixKeyRegister.setKeyValue(randomKey);
+        when(randomKeyPool.take()).thenReturn(randomKey);
+        when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenReturn(pixKeyRegister);
+
+        PixKeyResponseDTO responseDTO = registerKeyService.process(pixKeyRequestDTO);
+
+        assertEquals(randomKey, responseDTO.getKeyValue());
+        verify(validationStepEngine).validation(argThat(context -> randomKey.equals(context.getFields().getKeyValue())));
+        verify(pixKeyRegisterRepository).saveAndFlush(argThat(entity -> randomKey.equals(entity.getKeyValue())));
     }
 
     @Test
@@ -66,16 +140,31 @@ class RegisterKeyServiceTest {
 
         when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
         assertThrows(UnprocessableEntityException.class, () -> registerKeyService.process(pixKeyRequestDTO));
-        verify(pixKeyRegisterRepository, never()).save(any(PixKeyRegister.class));
+        verify(pixKeyRegisterRepository, never()).saveAndFlush(any(PixKeyRegister.class));
+        verify(keyValueIndex, never()).add(any());
+        verify(accountKeyCounter, never()).registered(any(PixKeyRegister.class));
     }
 
     @Test
     void shouldThrowExceptionWhenPersistFailed() {
         when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
-        when(pixKeyRegisterRepository.save(any(PixKeyRegister.class))).thenThrow(new RuntimeException());
+        when(pixKeyRegisterRepository.saveAndFlush(any(PixKeyRegister.class))).thenThrow(new RuntimeException());
         assertThrows(UnexpectedException.class, () -> registerKeyService.process(pixKeyRequestDTO));
 
-        verify(pixKeyRegisterRepository, times(1)).save(any(PixKeyRegister.class));
+        verify(pixKeyRegisterRepository, times(1)).saveAndFlush(any(PixKeyRegister.class));
+    }
+
+    @Test
+    void shouldReturnKeyAlreadyRegisteredWhenConcurrentRegistrationWins() {
+        when(validationStepEngine.validation(any())).thenReturn(pixKeyContext);
+        when(pixKeyRegisterRepository.saveAndFlush(any(PixKeyRegister.class))).thenThrow(new DataIntegrityViolationException("insert failed", new RuntimeException("duplicate key value violates unique constraint \"ux_pix_key_register_key_value_active\"")));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> registerKeyService.process(pixKeyRequestDTO));
+
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), exception.getErrors().get(0).getMessage());
+        verify(keyValueIndex, never()).add(any());
+        verify(accountKeyCounter, never()).registered(any(PixKeyRegister.class));
     }
 
     private PixKeyRequestDTO getContextFields() {
@@ -92,9 +181,9 @@ class RegisterKeyServiceTest {
 
     private PixKeyRegister getPixKeyRegisterEntity() {
         return PixKeyRegister.builder()
-                .keyType(PixKeyType.CELLPHONE.getValue())
+                .keyType(PixKeyType.CELLPHONE)
                 .keyValue("+55011912341234")
-                .accountType(AccountType.CHECKING.getValue())
+                .accountType(AccountType.CHECKING)
                 .agencyNumber(1234)
                 .accountNumber(56789012345L)
                 .accountHolderFirstName("Lorem")
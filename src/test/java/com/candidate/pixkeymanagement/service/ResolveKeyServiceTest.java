@@ -0,0 +1,111 @@
+package com.candidate.pixkeymanagement.service;
+
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyResolveResponseDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.ResolvedPixKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResolveKeyServiceTest {
+
+    private static final String CPF_KEY = "12345678909";
+
+    @InjectMocks
+    private ResolveKeyService resolveKeyService;
+
+    @Mock
+    private PixKeyRegisterRepository pixKeyRegisterRepository;
+
+    @Mock
+    private KeyValueIndex keyValueIndex;
+
+    @Mock
+    private AccountLocks accountLocks;
+
+    @Spy
+    private PixKeyResolveCache pixKeyResolveCache = new PixKeyResolveCache(new PixKeyCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void shouldResolveNormalizedKeyValue() {
+        ResolvedPixKey resolvedPixKey = getResolvedPixKey();
+        when(keyValueIndex.mightBeRegistered(CPF_KEY)).thenReturn(true);
+        when(pixKeyRegisterRepository.findActiveByKeyValue(CPF_KEY)).thenReturn(Optional.of(resolvedPixKey));
+
+        PixKeyResolveResponseDTO responseDTO = resolveKeyService.process("123.456.789-09");
+
+        assertEquals(PixKeyType.CPF, responseDTO.getKeyType());
+        assertEquals(AccountType.CHECKING, responseDTO.getAccountType());
+        assertEquals(12345678L, responseDTO.getAccountNumber());
+        assertEquals("", responseDTO.getAccountHolderLastName());
+    }
+
+    @Test
+    void shouldServeRepeatedResolvesFromCache() {
+        ResolvedPixKey resolvedPixKey = getResolvedPixKey();
+        when(keyValueIndex.mightBeRegistered(CPF_KEY)).thenReturn(true);
+        when(pixKeyRegisterRepository.findActiveByKeyValue(CPF_KEY)).thenReturn(Optional.of(resolvedPixKey));
+
+        resolveKeyService.process(CPF_KEY);
+        resolveKeyService.process("123.456.789-09");
+
+        verify(pixKeyRegisterRepository, times(1)).findActiveByKeyValue(CPF_KEY);
+    }
+
+    @Test
+    void shouldThrowNotFoundWithoutQueryingWhenIndexRulesKeyOut() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> resolveKeyService.process("lorem.ipsum@gmail.com"));
+        verify(pixKeyRegisterRepository, never()).findActiveByKeyValue(anyString());
+    }
+
+    @Test
+    void shouldQueryDatabaseWhenIndexRulesKeyOutWithClusterWideLocks() {
+        ResolvedPixKey resolvedPixKey = getResolvedPixKey();
+        when(accountLocks.isClusterWide()).thenReturn(true);
+        when(pixKeyRegisterRepository.findActiveByKeyValue(CPF_KEY)).thenReturn(Optional.of(resolvedPixKey));
+
+        assertEquals(CPF_KEY, resolveKeyService.process(CPF_KEY).getKeyValue());
+        verify(keyValueIndex, never()).mightBeRegistered(anyString());
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenKeyIsInactive() {
+        when(keyValueIndex.mightBeRegistered(anyString())).thenReturn(true);
+        when(pixKeyRegisterRepository.findActiveByKeyValue("lorem.ipsum@gmail.com")).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> resolveKeyService.process("Lorem.Ipsum@gmail.com"));
+        assertThrows(NotFoundException.class, () -> resolveKeyService.process("lorem.ipsum@gmail.com"));
+        verify(pixKeyRegisterRepository, times(1)).findActiveByKeyValue("lorem.ipsum@gmail.com");
+    }
+
+    private ResolvedPixKey getResolvedPixKey() {
+        ResolvedPixKey resolvedPixKey = mock(ResolvedPixKey.class);
+        when(resolvedPixKey.getKeyType()).thenReturn(PixKeyType.CPF);
+        when(resolvedPixKey.getKeyValue()).thenReturn(CPF_KEY);
+        when(resolvedPixKey.getAccountType()).thenReturn(AccountType.CHECKING);
+        when(resolvedPixKey.getAgencyNumber()).thenReturn(1234);
+        when(resolvedPixKey.getAccountNumber()).thenReturn(12345678L);
+        when(resolvedPixKey.getAccountHolderFirstName()).thenReturn("Lorem");
+        return resolvedPixKey;
+    }
+}
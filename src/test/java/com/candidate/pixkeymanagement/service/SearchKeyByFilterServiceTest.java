@@ -1,9 +1,16 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.configuration.FilterSearchProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyPageDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.BadRequestException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.keyset.KeysetCursor;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -14,16 +21,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("unchecked")
@@ -36,6 +47,15 @@ class SearchKeyByFilterServiceTest {
     @Mock
     private PixKeyRegisterRepository pixKeyRegisterRepository;
 
+    @Spy
+    private FilterSearchProperties filterSearchProperties = new FilterSearchProperties();
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @Mock
     private Root<PixKeyRegister> root;
 
@@ -48,31 +68,82 @@ class SearchKeyByFilterServiceTest {
     @Mock
     private Predicate predicate;
 
-    private PixKeyRegister pixKeyRegister;
+    private PixKeyView pixKeyView;
 
     @BeforeEach
     void setUp() {
-        pixKeyRegister = getPixKeyRegisterEntity();
+        pixKeyView = getPixKeyView();
     }
 
     @Test
     void shouldProcessGetSuccessfully() {
-        when(pixKeyRegisterRepository.findAll(any(Specification.class))).thenReturn(List.of(pixKeyRegister));
-        assertDoesNotThrow(() -> searchKeyByFilterService.process("EMAIL", null, null, null));
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), any(), anyInt())).thenReturn(List.of(pixKeyView));
+        PixKeyPageDTO pixKeyPageDTO = assertDoesNotThrow(() -> searchKeyByFilterService.process("EMAIL", null, null, null, null, null));
+
+        assertEquals(1, pixKeyPageDTO.getKeys().size());
+        assertNull(pixKeyPageDTO.getNextCursor());
+        int expectedLimit = filterSearchProperties.getDefaultPageSize() + 1;
+        verify(pixKeyRegisterRepository).findPageAfter(any(Specification.class), isNull(), eq(expectedLimit));
+    }
+
+    @Test
+    void shouldReturnCursorOfLastKeyWhenThereIsNextPage() {
+        PixKeyView lastOfPage = getPixKeyView();
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), any(), eq(3)))
+                .thenReturn(List.of(getPixKeyView(), lastOfPage, getPixKeyView()));
+
+        PixKeyPageDTO pixKeyPageDTO = searchKeyByFilterService.process("EMAIL", null, null, null, null, 2);
+
+        assertEquals(2, pixKeyPageDTO.getKeys().size());
+        KeysetCursor cursor = KeysetCursor.decode(pixKeyPageDTO.getNextCursor());
+        assertEquals(lastOfPage.id(), cursor.id());
+        assertEquals(lastOfPage.keyRegistrationDate(), cursor.keyRegistrationDate());
+    }
+
+    @Test
+    void shouldSearchAfterReceivedCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), eq(cursor), anyInt())).thenReturn(List.of());
+
+        PixKeyPageDTO pixKeyPageDTO = searchKeyByFilterService.process("EMAIL", null, null, null, cursor.encode(), null);
+
+        assertTrue(pixKeyPageDTO.getKeys().isEmpty());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorOrLimitIsInvalid() {
+        assertThrows(BadRequestException.class, () -> searchKeyByFilterService.process("EMAIL", null, null, null, "lorem", null));
+        assertThrows(BadRequestException.class, () -> searchKeyByFilterService.process("EMAIL", null, null, null, null, 0));
+        int aboveMaxPageSize = filterSearchProperties.getMaxPageSize() + 1;
+        assertThrows(BadRequestException.class, () -> searchKeyByFilterService.process("EMAIL", null, null, null, null, aboveMaxPageSize));
+        verify(pixKeyRegisterRepository, never()).findPageAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldStreamKeysAsNdjson() {
+        when(pixKeyRegisterRepository.streamAll(any(Specification.class), anyInt()))
+                .thenReturn(Stream.of(pixKeyView, getPixKeyView()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        searchKeyByFilterService.stream("EMAIL", null, null, null, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(pixKeyView.id().toString()));
     }
 
     @Test
     void shouldFindByCombinedFiltersSuccessfully() {
-        when(pixKeyRegisterRepository.findAll(any(Specification.class))).thenReturn(List.of(pixKeyRegister));
-        searchKeyByFilterService.findRegisterByFilters("EMAIL", "1234", "12345678", "Lorem");
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), any(), anyInt())).thenReturn(List.of(pixKeyView));
+        searchKeyByFilterService.findRegisterByFilters("EMAIL", "1234", "12345678", "Lorem", null, 10);
 
         ArgumentCaptor<Specification<PixKeyRegister>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
-        verify(pixKeyRegisterRepository, times(1)).findAll(specificationCaptor.capture());
+        verify(pixKeyRegisterRepository, times(1)).findPageAfter(specificationCaptor.capture(), any(), anyInt());
 
-        when(criteriaBuilder.equal(any(), eq("EMAIL"))).thenReturn(predicate);
+        when(criteriaBuilder.equal(any(), eq(PixKeyType.EMAIL))).thenReturn(predicate);
         specificationCaptor.getValue().toPredicate(root, query, criteriaBuilder);
 
-        verify(criteriaBuilder).equal(root.get("keyType"), "EMAIL");
+        verify(criteriaBuilder).equal(root.get("keyType"), PixKeyType.EMAIL);
         verify(criteriaBuilder).equal(root.get("agencyNumber"), "1234");
         verify(criteriaBuilder).equal(root.get("accountNumber"), "12345678");
         verify(criteriaBuilder).equal(root.get("accountHolderFirstName"), "Lorem");
@@ -80,29 +151,34 @@ class SearchKeyByFilterServiceTest {
 
     @Test
     void shouldFindByOneFilterSuccessfully() {
-        when(pixKeyRegisterRepository.findAll(any(Specification.class))).thenReturn(List.of(pixKeyRegister));
-        searchKeyByFilterService.findRegisterByFilters("EMAIL", null, null, null);
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), any(), anyInt())).thenReturn(List.of(pixKeyView));
+        searchKeyByFilterService.findRegisterByFilters("EMAIL", null, null, null, null, 10);
+
+        ArgumentCaptor<Specification<PixKeyRegister>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        verify(pixKeyRegisterRepository, times(1)).findPageAfter(specificationCaptor.capture(), any(), anyInt());
+
+        when(criteriaBuilder.equal(any(), eq(PixKeyType.EMAIL))).thenReturn(predicate);
+        specificationCaptor.getValue().toPredicate(root, query, criteriaBuilder);
+
+        verify(criteriaBuilder).equal(root.get("keyType"), PixKeyType.EMAIL);
+    }
+
+    @Test
+    void shouldMatchNothingForUnknownKeyType() {
+        when(pixKeyRegisterRepository.findPageAfter(any(Specification.class), any(), anyInt())).thenReturn(List.of());
+        searchKeyByFilterService.findRegisterByFilters("LOREM", null, null, null, null, 10);
 
         ArgumentCaptor<Specification<PixKeyRegister>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
-        verify(pixKeyRegisterRepository, times(1)).findAll(specificationCaptor.capture());
+        verify(pixKeyRegisterRepository, times(1)).findPageAfter(specificationCaptor.capture(), any(), anyInt());
 
-        when(criteriaBuilder.equal(any(), eq("EMAIL"))).thenReturn(predicate);
         specificationCaptor.getValue().toPredicate(root, query, criteriaBuilder);
 
-        verify(criteriaBuilder).equal(root.get("keyType"), "EMAIL");
+        verify(criteriaBuilder).disjunction();
+        verify(criteriaBuilder, never()).equal(any(), any(Object.class));
     }
 
-    private PixKeyRegister getPixKeyRegisterEntity() {
-        return PixKeyRegister.builder()
-                .id(UUID.randomUUID())
-                .keyType(PixKeyType.EMAIL.getValue())
-                .keyValue("lorem.lorem@email.vom")
-                .accountType(AccountType.CHECKING.getValue())
-                .agencyNumber(1234)
-                .accountNumber(12345678L)
-                .accountHolderFirstName("Lorem")
-                .accountHolderLastName("Lorem")
-                .keyRegistrationDate(LocalDateTime.now())
-                .build();
+    private PixKeyView getPixKeyView() {
+        return new PixKeyView(UUID.randomUUID(), PixKeyType.EMAIL, "lorem.lorem@email.vom",
+                AccountType.CHECKING, 1234, 12345678L, "Lorem", "Lorem", LocalDateTime.now(), null);
     }
 }
\ No newline at end of file
@@ -1,16 +1,20 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.configuration.PixKeyCacheProperties;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
-import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.PixKeyView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -18,8 +22,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SearchKeyByIdServiceTest {
@@ -30,47 +33,72 @@ class SearchKeyByIdServiceTest {
     @Mock
     private PixKeyRegisterRepository pixKeyRegisterRepository;
 
+    @Spy
+    private PixKeyCache pixKeyCache = new PixKeyCache(new PixKeyCacheProperties(), new SimpleMeterRegistry());
+
     private UUID pixKeyId;
-    private PixKeyRegister pixKeyRegister;
+    private PixKeyView pixKeyView;
 
     @BeforeEach
     void setUp() {
         pixKeyId = UUID.randomUUID();
-        pixKeyRegister = getPixKeyRegisterEntity();
+        pixKeyView = getPixKeyView();
     }
 
     @Test
     void shouldReturnPixKeyResponseDTOWhenKeyFound() {
-        when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any(UUID.class)))
-                .thenReturn(Optional.of(pixKeyRegister));
+        when(pixKeyRegisterRepository.findActiveViewById(any(UUID.class)))
+                .thenReturn(Optional.of(pixKeyView));
 
         PixKeyResponseDTO responseDTO = searchKeyByIdService.process(pixKeyId);
         assertNotNull(responseDTO);
-        assertEquals(pixKeyRegister.getId(), responseDTO.getId());
-        assertEquals(PixKeyType.fromValue(pixKeyRegister.getKeyType()).orElseThrow(), responseDTO.getKeyType());
-        assertEquals(pixKeyRegister.getKeyValue(), responseDTO.getKeyValue());
-        assertEquals(AccountType.fromValue(pixKeyRegister.getAccountType()).orElseThrow(), responseDTO.getAccountType());
+        assertEquals(pixKeyView.id(), responseDTO.getId());
+        assertEquals(pixKeyView.keyType(), responseDTO.getKeyType());
+        assertEquals(pixKeyView.keyValue(), responseDTO.getKeyValue());
+        assertEquals(pixKeyView.accountType(), responseDTO.getAccountType());
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenPixKeyNotFound() {
-        when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any(UUID.class)))
+        when(pixKeyRegisterRepository.findActiveViewById(any(UUID.class)))
                 .thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> searchKeyByIdService.process(pixKeyId));
     }
 
-    private PixKeyRegister getPixKeyRegisterEntity() {
-        return PixKeyRegister.builder()
-                .id(UUID.randomUUID())
-                .keyType(PixKeyType.CELLPHONE.getValue())
-                .keyValue("+55011912341234")
-                .accountType(AccountType.CHECKING.getValue())
-                .agencyNumber(1234)
-                .accountNumber(56789012345L)
-                .accountHolderFirstName("Lorem")
-                .accountHolderLastName("Lorem")
-                .keyRegistrationDate(LocalDateTime.now())
-                .build();
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        when(pixKeyRegisterRepository.findActiveViewById(pixKeyId)).thenReturn(Optional.of(pixKeyView));
+
+        searchKeyByIdService.process(pixKeyId);
+        PixKeyResponseDTO responseDTO = searchKeyByIdService.process(pixKeyId);
+
+        assertEquals(pixKeyView.id(), responseDTO.getId());
+        verify(pixKeyRegisterRepository, times(1)).findActiveViewById(pixKeyId);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsOfUnknownIdFromNegativeCache() {
+        when(pixKeyRegisterRepository.findActiveViewById(pixKeyId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> searchKeyByIdService.process(pixKeyId));
+        assertThrows(NotFoundException.class, () -> searchKeyByIdService.process(pixKeyId));
+        verify(pixKeyRegisterRepository, times(1)).findActiveViewById(pixKeyId);
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        when(pixKeyRegisterRepository.findActiveViewById(pixKeyId)).thenReturn(Optional.of(pixKeyView));
+
+        searchKeyByIdService.process(pixKeyId);
+        pixKeyCache.evict(pixKeyId);
+        searchKeyByIdService.process(pixKeyId);
+
+        verify(pixKeyRegisterRepository, times(2)).findActiveViewById(pixKeyId);
+    }
+
+    private PixKeyView getPixKeyView() {
+        return new PixKeyView(UUID.randomUUID(), PixKeyType.CELLPHONE, "+55011912341234",
+                AccountType.CHECKING, 1234, 56789012345L, "Lorem", "Lorem", LocalDateTime.now(), null);
     }
 }
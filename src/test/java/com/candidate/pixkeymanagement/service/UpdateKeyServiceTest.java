@@ -1,11 +1,17 @@
 package com.candidate.pixkeymanagement.service;
 
+import com.candidate.pixkeymanagement.cache.PixKeyCache;
+import com.candidate.pixkeymanagement.cache.PixKeyResolveCache;
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyResponseDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyUpdateRequestDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
 import com.candidate.pixkeymanagement.exception.NotFoundException;
+import com.candidate.pixkeymanagement.exception.UnprocessableEntityException;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.model.PixKeyRegister;
 import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
@@ -14,17 +20,21 @@ import jakarta.validation.UnexpectedTypeException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.candidate.pixkeymanagement.util.MessageConstant.CONCURRENT_UPDATE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateKeyServiceTest {
@@ -38,6 +48,21 @@ class UpdateKeyServiceTest {
     @Mock
     private ValidationStepEngine validationStepEngine;
 
+    @Mock
+    private PixKeyCache pixKeyCache;
+
+    @Mock
+    private PixKeyResolveCache pixKeyResolveCache;
+
+    @Mock
+    private AccountKeyCounter accountKeyCounter;
+
+    @Mock
+    private AccountLocks accountLocks;
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+
     private PixKeyUpdateRequestDTO pixKeyUpdateRequestDTO;
     private PixKeyRegister pixKeyRegister;
 
@@ -55,11 +80,17 @@ class UpdateKeyServiceTest {
         when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any(UUID.class)))
                 .thenReturn(Optional.of(pixKeyRegister));
         when(validationStepEngine.validation(any())).thenReturn(context);
-        when(pixKeyRegisterRepository.save(any())).thenReturn(pixKeyRegister);
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenReturn(pixKeyRegister);
 
         PixKeyResponseDTO responseDTO = updateKeyService.process(pixKeyUpdateRequestDTO);
         assertNotNull(responseDTO);
         assertEquals("Chave Pix atualizada com sucesso", responseDTO.getMessage());
+        verify(pixKeyCache, times(1)).evict(pixKeyRegister.getId());
+        verify(accountKeyCounter, times(1)).moved(eq(pixKeyRegister), any(), any());
+
+        InOrder inOrder = inOrder(accountLocks, validationStepEngine);
+        inOrder.verify(accountLocks).lock(1234, 56789012345L);
+        inOrder.verify(validationStepEngine).validation(any());
     }
 
     @Test
@@ -75,11 +106,26 @@ class UpdateKeyServiceTest {
         when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any(UUID.class)))
                 .thenReturn(Optional.of(pixKeyRegister));
         when(validationStepEngine.validation(any())).thenReturn(new PixKeyContext(getPixKeyRequestDTO()));
-        when(pixKeyRegisterRepository.save(any())).thenThrow(new RuntimeException());
+        when(pixKeyRegisterRepository.saveAndFlush(any())).thenThrow(new RuntimeException());
 
         assertThrows(UnexpectedTypeException.class, () -> updateKeyService.process(pixKeyUpdateRequestDTO));
     }
 
+    @Test
+    void shouldReturnConcurrentUpdateWhenVersionIsStale() {
+        when(pixKeyRegisterRepository.findByIdAndKeyInactivationDateIsNull(any(UUID.class)))
+                .thenReturn(Optional.of(pixKeyRegister));
+        when(validationStepEngine.validation(any())).thenReturn(new PixKeyContext(getPixKeyRequestDTO()));
+        when(pixKeyRegisterRepository.saveAndFlush(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(PixKeyRegister.class, pixKeyRegister.getId()));
+
+        UnprocessableEntityException exception = assertThrows(UnprocessableEntityException.class,
+                () -> updateKeyService.process(pixKeyUpdateRequestDTO));
+
+        assertEquals(errorMessageCatalog.getMessage(CONCURRENT_UPDATE), exception.getErrors().get(0).getMessage());
+        verify(accountKeyCounter, never()).moved(any(), any(), any());
+    }
+
     private PixKeyUpdateRequestDTO getPixKeyUpdateRequestDTO() {
         return PixKeyUpdateRequestDTO.builder()
                 .id(UUID.randomUUID())
@@ -106,9 +152,9 @@ class UpdateKeyServiceTest {
     private PixKeyRegister getPixKeyRegisterEntity() {
         return PixKeyRegister.builder()
                 .id(UUID.randomUUID())
-                .keyType(PixKeyType.CELLPHONE.getValue())
+                .keyType(PixKeyType.CELLPHONE)
                 .keyValue("+55011912341234")
-                .accountType(AccountType.CHECKING.getValue())
+                .accountType(AccountType.CHECKING)
                 .agencyNumber(1234)
                 .accountNumber(56789012345L)
                 .accountHolderFirstName("Lorem")
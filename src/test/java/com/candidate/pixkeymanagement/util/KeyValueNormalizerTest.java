@@ -0,0 +1,40 @@
+package com.candidate.pixkeymanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static com.candidate.pixkeymanagement.enumeration.PixKeyType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeyValueNormalizerTest {
+
+    @Test
+    void shouldNormalizeByKeyType() {
+        assertEquals("12345678909", KeyValueNormalizer.normalize(CPF, "123.456.789-09"));
+        assertEquals("12345678000195", KeyValueNormalizer.normalize(CNPJ, "12.345.678/0001-95"));
+        assertEquals("12ABC34501DE35", KeyValueNormalizer.normalize(CNPJ, "12.abc.345/01de-35"));
+        assertEquals("lorem.ipsum@gmail.com", KeyValueNormalizer.normalize(EMAIL, " Lorem.Ipsum@Gmail.com "));
+        assertEquals("+55 21 912345678", KeyValueNormalizer.normalize(CELLPHONE, "+55 21 912345678"));
+        assertEquals("123abc456", KeyValueNormalizer.normalize(CPF, "123abc456"));
+        assertNull(KeyValueNormalizer.normalize(CPF, null));
+    }
+
+    @Test
+    void shouldInferNormalizationWithoutKeyType() {
+        assertEquals("12345678909", KeyValueNormalizer.normalize("123.456.789-09"));
+        assertEquals("12345678000195", KeyValueNormalizer.normalize("12.345.678/0001-95"));
+        assertEquals("12ABC34501DE35", KeyValueNormalizer.normalize("12.ABC.345/01DE-35"));
+        assertEquals("lorem.ipsum@gmail.com", KeyValueNormalizer.normalize("Lorem.Ipsum@Gmail.com"));
+        assertEquals("+5521912345678", KeyValueNormalizer.normalize("+5521912345678"));
+        assertEquals("5f1e5c0a-2b4d-4c1e-9f0a-1b2c3d4e5f60", KeyValueNormalizer.normalize("5f1e5c0a-2b4d-4c1e-9f0a-1b2c3d4e5f60"));
+    }
+
+    @Test
+    void shouldKeepPunctuationOutsideDocumentShapes() {
+        assertEquals("12345678-1234-5678-9012-345678901234", KeyValueNormalizer.normalize("12345678-1234-5678-9012-345678901234"));
+        assertEquals("123456789-09", KeyValueNormalizer.normalize("123456789-09"));
+        assertEquals("123.456.789.09", KeyValueNormalizer.normalize("123.456.789.09"));
+        assertEquals("12.345.678/0001-9X", KeyValueNormalizer.normalize("12.345.678/0001-9X"));
+        assertEquals("12345678909", KeyValueNormalizer.normalize(" 12345678909 "));
+    }
+}
@@ -0,0 +1,36 @@
+package com.candidate.pixkeymanagement.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceConflictsTest {
+
+    @Test
+    void shouldRecogniseDuplicateKeyValueByConstraintName() {
+        RuntimeException cause = new RuntimeException(
+                "ERROR: duplicate key value violates unique constraint \"ux_pix_key_register_key_value_active\"");
+
+        assertTrue(PersistenceConflicts.isDuplicateKeyValue(new DataIntegrityViolationException("could not execute statement", cause)));
+        assertTrue(PersistenceConflicts.isDuplicateKeyValue(new DuplicateKeyException(cause.getMessage())));
+    }
+
+    @Test
+    void shouldNotTreatOtherViolationsAsDuplicateKeyValue() {
+        assertFalse(PersistenceConflicts.isDuplicateKeyValue(new DataIntegrityViolationException(
+                "null value in column \"key_value\" violates not-null constraint")));
+        assertFalse(PersistenceConflicts.isDuplicateKeyValue(new IllegalStateException(
+                "ux_pix_key_register_key_value_active")));
+    }
+
+    @Test
+    void shouldRecogniseConcurrentUpdate() {
+        assertTrue(PersistenceConflicts.isConcurrentUpdate(new ObjectOptimisticLockingFailureException(Object.class, UUID.randomUUID())));
+        assertFalse(PersistenceConflicts.isConcurrentUpdate(new DataIntegrityViolationException("constraint")));
+    }
+}
@@ -0,0 +1,60 @@
+package com.candidate.pixkeymanagement.util;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import org.junit.jupiter.api.Test;
+
+import static com.candidate.pixkeymanagement.enumeration.PixKeyType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiiMaskerTest {
+
+    @Test
+    void shouldMaskKeyValueByKeyType() {
+        assertEquals("123******09", PiiMasker.maskKeyValue(CPF, "12345678909"));
+        assertEquals("+55*******5678", PiiMasker.maskKeyValue(CELLPHONE, "+5521912345678"));
+        assertEquals("l**********@gmail.com", PiiMasker.maskKeyValue(EMAIL, "lorem.ipsum@gmail.com"));
+        assertEquals("12345678000195", PiiMasker.maskKeyValue(CNPJ, "12345678000195"));
+        assertEquals("5f1e5c0a-2b4d-4c1e-9f0a-1b2c3d4e5f60", PiiMasker.maskKeyValue(RANDOM_KEY, "5f1e5c0a-2b4d-4c1e-9f0a-1b2c3d4e5f60"));
+        assertEquals("*******89", PiiMasker.maskKeyValue(null, "123456789"));
+        assertEquals("***em", PiiMasker.maskKeyValue(EMAIL, "lorem"));
+        assertNull(PiiMasker.maskKeyValue(CPF, null));
+    }
+
+    @Test
+    void shouldMaskValuesTooShortToKeepAnyPart() {
+        assertEquals("*****", PiiMasker.maskKeyValue(CPF, "12345"));
+        assertEquals("*******", PiiMasker.maskKeyValue(EMAIL, "a@x.com"));
+    }
+
+    @Test
+    void shouldMaskNamesAndAccountNumbers() {
+        assertEquals("L***", PiiMasker.maskName("Lorem"));
+        assertEquals("", PiiMasker.maskName(""));
+        assertEquals("****5678", PiiMasker.maskAccountNumber(12345678L));
+        assertNull(PiiMasker.maskAccountNumber((Long) null));
+        assertEquals("****5678", PiiMasker.maskAccountNumber("12345678"));
+        assertEquals("***", PiiMasker.maskAccountNumber("abc"));
+    }
+
+    @Test
+    void shouldKeepPersonalDataOutOfRequestToString() {
+        PixKeyRequestDTO pixKeyRequestDTO = PixKeyRequestDTO.builder()
+                .keyType(CPF)
+                .keyValue("12345678909")
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build();
+
+        String text = pixKeyRequestDTO.toString();
+
+        assertTrue(text.contains("keyValue=123******09"));
+        assertTrue(text.contains("accountHolderFirstName=L***"));
+        assertFalse(text.contains("12345678909"));
+        assertFalse(text.contains("12345678,"));
+        assertFalse(text.contains("Ipsum"));
+    }
+}
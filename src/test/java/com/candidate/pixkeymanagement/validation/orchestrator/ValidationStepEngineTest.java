@@ -0,0 +1,175 @@
+package com.candidate.pixkeymanagement.validation.orchestrator;
+
+import com.candidate.pixkeymanagement.configuration.ValidationProperties;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.exception.UnexpectedException;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import com.candidate.pixkeymanagement.validation.interfaces.ValidationStep;
+import com.candidate.pixkeymanagement.validation.prefetch.ValidationFactsLoader;
+import com.candidate.pixkeymanagement.validation.steps.CellPhoneValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CnpjValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.CpfValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.EmailValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.GeneralValidationStep;
+import com.candidate.pixkeymanagement.validation.steps.RandomKeyValidationStep;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
+import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationStepEngineTest {
+
+    private final ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @Mock
+    private ValidationFactsLoader validationFactsLoader;
+    private ValidationProperties validationProperties;
+    private MeterRegistry meterRegistry;
+    private ValidationStepEngine validationStepEngine;
+
+    @BeforeEach
+    void setUp() {
+        validationProperties = new ValidationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        validationStepEngine = newEngine();
+    }
+
+    @Test
+    void shouldRunFormatStepsOfKeyTypeBeforeLoadingFacts() {
+        when(validationFactsLoader.load(any())).thenReturn(new ValidationFacts(true, Map.of()));
+
+        PixKeyContext context = validationStepEngine.validation(getContext(PixKeyType.CPF, "949.286.190-99"));
+
+        assertEquals(1, context.getErrorList().size());
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), context.getErrorList().get(0).getMessage());
+        verify(validationFactsLoader, times(1)).load(any());
+    }
+
+    @Test
+    void shouldStopBeforeLoadingFactsWhenFormatIsInvalid() {
+        PixKeyContext context = validationStepEngine.validation(getContext(PixKeyType.EMAIL, "lorem.ipsum"));
+
+        assertEquals(1, context.getErrorList().size());
+        verifyNoInteractions(validationFactsLoader);
+    }
+
+    @Test
+    void shouldRejectCnpjWithInvalidCheckDigitsBeforeLoadingFacts() {
+        PixKeyContext context = validationStepEngine.validation(getContext(PixKeyType.CNPJ, "11222333000180"));
+
+        assertEquals(1, context.getErrorList().size());
+        assertEquals(errorMessageCatalog.getMessage(VALIDATION_FAILED, PixKeyType.CNPJ.getValue(), "CNPJ inválido"),
+                context.getErrorList().get(0).getMessage());
+        verifyNoInteractions(validationFactsLoader);
+    }
+
+    @Test
+    void shouldRunEveryStepWhenFailFastIsDisabled() {
+        validationProperties.setFailFast(false);
+        when(validationFactsLoader.load(any())).thenReturn(new ValidationFacts(true, Map.of()));
+
+        PixKeyContext context = validationStepEngine.validation(getContext(PixKeyType.EMAIL, "lorem.ipsum"));
+
+        assertEquals(2, context.getErrorList().size());
+        assertEquals(errorMessageCatalog.getMessage(KEY_ALREADY_REGISTERED), context.getErrorList().get(1).getMessage());
+    }
+
+    @Test
+    void shouldNotReloadFactsSetByCaller() {
+        PixKeyContext context = getContext(PixKeyType.RANDOM_KEY, "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11");
+        context.setFacts(new ValidationFacts(false, Map.of()));
+
+        validationStepEngine.validation(context);
+
+        assertTrue(context.getErrorList().isEmpty());
+        verifyNoInteractions(validationFactsLoader);
+    }
+
+    @Test
+    void shouldThrowUnexpectedExceptionWhenStepFails() {
+        ValidationStep failingStep = mock(ValidationStep.class);
+        when(failingStep.keyTypes()).thenCallRealMethod();
+        doThrow(new IllegalStateException()).when(failingStep).validate(any());
+        ValidationStepEngine engine = new ValidationStepEngine(new ValidationPipelines(List.of(failingStep), validationProperties,
+                meterRegistry), validationFactsLoader);
+
+        assertThrows(UnexpectedException.class, () -> engine.validation(getContext(PixKeyType.CPF, "949.286.190-99")));
+        assertEquals(1, meterRegistry.get("pix.validation.step.failures").tag("key.type", "CPF").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+
+    @Test
+    void shouldTimeEachStepAndCountRejectionsByKeyType() {
+        validationProperties.setMetricsSampleEvery(1);
+        when(validationFactsLoader.load(any())).thenReturn(new ValidationFacts(true, Map.of()));
+
+        validationStepEngine.validation(getContext(PixKeyType.CPF, "949.286.190-99"));
+
+        assertEquals(1, meterRegistry.get("pix.validation.step").tags("step", "CpfValidationStep", "key.type", "CPF").timer().count());
+        assertEquals(1, meterRegistry.get("pix.validation.step").tags("step", "GeneralValidationStep", "key.type", "CPF").timer().count());
+        assertEquals(0, meterRegistry.get("pix.validation.step.rejections").tags("step", "CpfValidationStep", "key.type", "CPF").counter().count());
+        assertEquals(1, meterRegistry.get("pix.validation.step.rejections").tags("step", "GeneralValidationStep", "key.type", "CPF").counter().count());
+    }
+
+    @Test
+    void shouldCountRejectionsOfRunsLeftOutOfTimerSample() {
+        validationProperties.setMetricsSampleEvery(Integer.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            validationStepEngine.validation(getContext(PixKeyType.EMAIL, "lorem.ipsum"));
+        }
+
+        assertEquals(3, meterRegistry.get("pix.validation.step.rejections").tags("step", "EmailValidationStep", "key.type", "EMAIL")
+                .counter().count());
+        assertTrue(meterRegistry.get("pix.validation.step").tags("step", "EmailValidationStep", "key.type", "EMAIL").timer().count() < 3);
+    }
+
+    @Test
+    void shouldNotRegisterStepMetersWhenMetricsAreDisabled() {
+        validationProperties.setMetricsEnabled(false);
+        meterRegistry = new SimpleMeterRegistry();
+
+        PixKeyContext context = newEngine().validation(getContext(PixKeyType.EMAIL, "lorem.ipsum"));
+
+        assertEquals(1, context.getErrorList().size());
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private ValidationStepEngine newEngine() {
+        return new ValidationStepEngine(new ValidationPipelines(List.of(new GeneralValidationStep(errorMessageCatalog),
+                new CellPhoneValidationStep(errorMessageCatalog), new CpfValidationStep(errorMessageCatalog),
+                new CnpjValidationStep(errorMessageCatalog), new EmailValidationStep(errorMessageCatalog),
+                new RandomKeyValidationStep(errorMessageCatalog)), validationProperties, meterRegistry), validationFactsLoader);
+    }
+
+    private PixKeyContext getContext(PixKeyType keyType, String keyValue) {
+        PixKeyContext context = new PixKeyContext(PixKeyRequestDTO.builder()
+                .keyType(keyType)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build());
+        context.setTransactionType("POST");
+        return context;
+    }
+}
@@ -0,0 +1,159 @@
+package com.candidate.pixkeymanagement.validation.prefetch;
+
+import com.candidate.pixkeymanagement.count.AccountKeyCounter;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.index.KeyValueIndex;
+import com.candidate.pixkeymanagement.lock.AccountLocks;
+import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.repository.projection.AccountKeyCount;
+import com.candidate.pixkeymanagement.repository.projection.KeyValidationFacts;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationFactsLoaderTest {
+
+    private final String keyValue = "lorem.ipsum@gmail.com";
+    @InjectMocks
+    private ValidationFactsLoader validationFactsLoader;
+    @Mock
+    private PixKeyRegisterRepository pixKeyRegisterRepository;
+    @Mock
+    private KeyValueIndex keyValueIndex;
+    @Mock
+    private AccountKeyCounter accountKeyCounter;
+    @Mock
+    private AccountLocks accountLocks;
+    private PixKeyContext pixKeyContext;
+
+    @BeforeEach
+    void setUp() {
+        pixKeyContext = new PixKeyContext(PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.EMAIL)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(12345678L)
+                .accountHolderFirstName("Lorem")
+                .accountHolderLastName("Ipsum")
+                .build());
+        pixKeyContext.setTransactionType("POST");
+    }
+
+    @Test
+    void shouldLoadKeyValueAndAccountFactsInOneQuery() {
+        KeyValidationFacts emailFacts = keyValidationFacts(PixKeyType.EMAIL, 1L, 2L);
+        KeyValidationFacts cpfFacts = keyValidationFacts(PixKeyType.CPF, 0L, 1L);
+        when(keyValueIndex.requiresDatabaseCheck(keyValue)).thenReturn(true);
+        when(pixKeyRegisterRepository.findValidationFacts(keyValue, 1234, 12345678L)).thenReturn(List.of(emailFacts, cpfFacts));
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertTrue(facts.isKeyAlreadyRegistered());
+        assertEquals(3, facts.getActiveKeys());
+        assertEquals(2, facts.getActiveKeys(PixKeyType.EMAIL));
+        verify(keyValueIndex, times(1)).recordDatabaseCheck(keyValue, true);
+        verify(pixKeyRegisterRepository, never()).countGroupedByAgencyAndAccount(any(), any());
+    }
+
+    @Test
+    void shouldOnlyCountAccountKeysWhenIndexRulesOutKeyValue() {
+        AccountKeyCount accountKeyCount = mock(AccountKeyCount.class);
+        when(accountKeyCount.getKeyType()).thenReturn(PixKeyType.CPF);
+        when(accountKeyCount.getTotal()).thenReturn(4L);
+        when(keyValueIndex.requiresDatabaseCheck(keyValue)).thenReturn(false);
+        when(pixKeyRegisterRepository.countGroupedByAgencyAndAccount(Set.of(1234), Set.of(12345678L))).thenReturn(List.of(accountKeyCount));
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertFalse(facts.isKeyAlreadyRegistered());
+        assertEquals(4, facts.getActiveKeys(PixKeyType.CPF));
+        verify(pixKeyRegisterRepository, never()).findValidationFacts(anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void shouldNotLookUpKeyValueOnUpdate() {
+        pixKeyContext.setTransactionType("PATCH");
+        when(pixKeyRegisterRepository.countGroupedByAgencyAndAccount(any(), any())).thenReturn(List.of());
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertFalse(facts.isKeyAlreadyRegistered());
+        assertEquals(0, facts.getActiveKeys());
+        verifyNoInteractions(keyValueIndex);
+    }
+
+    @Test
+    void shouldReadAccountFactsFromKeyCounts() {
+        when(accountKeyCounter.find(1234, 12345678L)).thenReturn(Optional.of(Map.of(PixKeyType.EMAIL, 2, PixKeyType.CPF, 1)));
+        when(keyValueIndex.isRegistered(keyValue)).thenReturn(true);
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertTrue(facts.isKeyAlreadyRegistered());
+        assertEquals(3, facts.getActiveKeys());
+        assertEquals(2, facts.getActiveKeys(PixKeyType.EMAIL));
+        verifyNoInteractions(pixKeyRegisterRepository);
+    }
+
+    @Test
+    void shouldNotQueryAnythingOnUpdateWhenKeyCountsAreAvailable() {
+        pixKeyContext.setTransactionType("PATCH");
+        when(accountKeyCounter.find(1234, 12345678L)).thenReturn(Optional.of(Map.of(PixKeyType.CPF, 5)));
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertFalse(facts.isKeyAlreadyRegistered());
+        assertEquals(5, facts.getActiveKeys());
+        verifyNoInteractions(pixKeyRegisterRepository, keyValueIndex);
+    }
+
+    @Test
+    void shouldCountAccountKeysInDatabaseWhenLocksAreClusterWide() {
+        KeyValidationFacts emailFacts = keyValidationFacts(PixKeyType.EMAIL, 0L, 4L);
+        when(accountLocks.isClusterWide()).thenReturn(true);
+        when(pixKeyRegisterRepository.findValidationFacts(keyValue, 1234, 12345678L)).thenReturn(List.of(emailFacts));
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertEquals(4, facts.getActiveKeys());
+        verifyNoInteractions(accountKeyCounter);
+    }
+
+    @Test
+    void shouldLookUpKeyValueWithoutIndexWhenLocksAreClusterWide() {
+        KeyValidationFacts emailFacts = keyValidationFacts(PixKeyType.EMAIL, 1L, 1L);
+        when(accountLocks.isClusterWide()).thenReturn(true);
+        when(pixKeyRegisterRepository.findValidationFacts(keyValue, 1234, 12345678L)).thenReturn(List.of(emailFacts));
+
+        ValidationFacts facts = validationFactsLoader.load(pixKeyContext);
+
+        assertTrue(facts.isKeyAlreadyRegistered());
+        verifyNoInteractions(keyValueIndex);
+    }
+
+    private KeyValidationFacts keyValidationFacts(PixKeyType keyType, Long keyValueMatches, Long activeAccountKeys) {
+        KeyValidationFacts keyValidationFacts = mock(KeyValidationFacts.class);
+        when(keyValidationFacts.getKeyType()).thenReturn(keyType);
+        when(keyValidationFacts.getKeyValueMatches()).thenReturn(keyValueMatches);
+        when(keyValidationFacts.getActiveAccountKeys()).thenReturn(activeAccountKeys);
+        return keyValidationFacts;
+    }
+}
@@ -0,0 +1,96 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import org.hibernate.validator.internal.constraintvalidators.hv.br.CNPJValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CnpjScannerTest {
+
+    private static final int CORPUS_SIZE = 200_000;
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int[] FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"11222333000181", "11.222.333/0001-81", "00000000000191", "12ABC34501DE35", "12.ABC.345/01DE-35",
+            "AAAAAAAAAAAA45"})
+    void shouldAcceptValidCnpj(String cnpj) {
+        assertTrue(CnpjScanner.isValid(cnpj));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"11222333000180", "11222333000191", "11.222.333.0001-81", "1122233300018a", "1122233300018",
+            "12abc34501de35", "12ABC34501DE36", "12ABC34501DEA5", "12.ABC.345-01DE/35", "12AB?34501DE35"})
+    void shouldRejectInvalidCnpj(String cnpj) {
+        assertFalse(CnpjScanner.isValid(cnpj));
+    }
+
+    @Test
+    void shouldAgreeWithReferenceOverGeneratedCorpus() {
+        SplittableRandom random = new SplittableRandom(42);
+        CNPJValidator cnpjValidator = new CNPJValidator();
+        cnpjValidator.initialize(null);
+
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            boolean numeric = i % 2 == 0;
+            String cnpj = generate(random, numeric);
+
+            assertTrue(CnpjScanner.isValid(cnpj), cnpj);
+            assertTrue(CnpjScanner.isValid(format(cnpj)), cnpj);
+
+            String mutated = mutate(random, cnpj, numeric);
+            assertEquals(isValidReference(mutated), CnpjScanner.isValid(mutated), mutated);
+            if (numeric) {
+                assertEquals(cnpjValidator.isValid(mutated, null), CnpjScanner.isValid(mutated), mutated);
+            }
+        }
+    }
+
+    private static String generate(SplittableRandom random, boolean numeric) {
+        StringBuilder base = new StringBuilder(14);
+        for (int i = 0; i < 12; i++) {
+            base.append(ALPHANUMERIC.charAt(random.nextInt(numeric ? 10 : ALPHANUMERIC.length())));
+        }
+
+        return base.append(checkDigits(base.toString())).toString();
+    }
+
+    private static String mutate(SplittableRandom random, String cnpj, boolean numeric) {
+        char[] chars = cnpj.toCharArray();
+        int index = random.nextInt(chars.length);
+        chars[index] = ALPHANUMERIC.charAt(random.nextInt(numeric || index >= 12 ? 10 : ALPHANUMERIC.length()));
+        return new String(chars);
+    }
+
+    private static String format(String cnpj) {
+        return cnpj.substring(0, 2) + "." + cnpj.substring(2, 5) + "." + cnpj.substring(5, 8) + "/" + cnpj.substring(8, 12)
+                + "-" + cnpj.substring(12);
+    }
+
+    private static boolean isValidReference(String cnpj) {
+        return cnpj.matches("[0-9A-Z]{12}[0-9]{2}") && cnpj.substring(12).equals(checkDigits(cnpj.substring(0, 12)));
+    }
+
+    private static String checkDigits(String base) {
+        int first = checkDigit(base, FIRST_WEIGHTS);
+        int second = checkDigit(base + first, SECOND_WEIGHTS);
+        return String.valueOf(first) + second;
+    }
+
+    private static int checkDigit(String value, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += (value.charAt(i) - '0') * weights[i];
+        }
+
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -0,0 +1,25 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpfScannerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"94928619099", "949286190-99", "949.286.190-99", "12345678909"})
+    void shouldAcceptValidCpf(String cpf) {
+        assertTrue(CpfScanner.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"94928619098", "94928619089", "123.123.190-99", "a49.286.190-99", "949.286.19099",
+            "949-286-190.99", "987.949.286.190-99", "9492861909"})
+    void shouldRejectInvalidCpf(String cpf) {
+        assertFalse(CpfScanner.isValid(cpf));
+    }
+}
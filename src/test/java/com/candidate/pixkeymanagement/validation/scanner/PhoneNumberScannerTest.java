@@ -0,0 +1,32 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.candidate.pixkeymanagement.validation.scanner.PhoneNumberScanner.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PhoneNumberScannerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"+5511912341234", "+55011912341234", "+55 11912341234", "+55 011 912341234"})
+    void shouldAcceptValidPhoneNumber(String phoneNumber) {
+        assertEquals(0, scan(phoneNumber));
+    }
+
+    @Test
+    void shouldReportEachInvalidPart() {
+        assertEquals(INVALID_COUNTRY_CODE, scan("55011912341234"));
+        assertEquals(INVALID_COUNTRY_CODE, scan("+a519123456789"));
+        assertEquals(NON_NUMERIC_NUMBER, scan("+551991234123a"));
+        assertEquals(NON_NUMERIC_DDD | INVALID_DDD_LENGTH, scan("+55a9912341239"));
+        assertEquals(INVALID_DDD_LENGTH, scan("+550912341234"));
+    }
+
+    @Test
+    void shouldReportMissingDddInsteadOfFailingOnShortNumbers() {
+        assertEquals(NON_NUMERIC_NUMBER | NON_NUMERIC_DDD | INVALID_DDD_LENGTH, scan("+551234"));
+        assertEquals(INVALID_COUNTRY_CODE | NON_NUMERIC_NUMBER | NON_NUMERIC_DDD | INVALID_DDD_LENGTH, scan("+5"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.candidate.pixkeymanagement.validation.scanner;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomKeyScannerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11", "00000000-0000-4000-8000-000000000000"})
+    void shouldAcceptCanonicalRandomKey(String randomKey) {
+        assertTrue(RandomKeyScanner.isValid(randomKey));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"5F0C6A4E-2F1D-4F8A-9C43-0C4A2B8E7D11", "5f0c6a4e2f1d4f8a9c430c4a2b8e7d11",
+            "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d1", "5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11a", "5f0c6a4e-2f1d-4f8a-9c43_0c4a2b8e7d11",
+            "5f0c6a4g-2f1d-4f8a-9c43-0c4a2b8e7d11"})
+    void shouldRejectInvalidRandomKey(String randomKey) {
+        assertFalse(RandomKeyScanner.isValid(randomKey));
+    }
+}
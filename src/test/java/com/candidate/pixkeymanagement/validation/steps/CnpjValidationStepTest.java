@@ -0,0 +1,109 @@
+package com.candidate.pixkeymanagement.validation.steps;
+
+import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class CnpjValidationStepTest {
+
+    private final String cnpjWithMask = "12.ABC.345/01DE-35";
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @InjectMocks
+    private CnpjValidationStep step;
+    private PixKeyContext pixKeyContext;
+
+    @BeforeEach
+    void setUp() {
+        pixKeyContext = getContextFields();
+    }
+
+    @Test
+    void shouldReturnSuccessWhenCnpjIsValid() {
+        step.validate(pixKeyContext);
+
+        assertEquals(0, pixKeyContext.getErrorList().size());
+    }
+
+    @Test
+    void shouldReturnSuccessWhenNumericCnpjIsValidAndWithoutMask() {
+        pixKeyContext.getFields().setKeyValue("11222333000181");
+        step.validate(pixKeyContext);
+
+        assertEquals(0, pixKeyContext.getErrorList().size());
+    }
+
+    @Test
+    void shouldThrowErrorWhenCnpjIsInvalidByMod11() {
+        pixKeyContext.getFields().setKeyValue("12.ABC.345/01DE-36");
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(VALIDATION_FAILED, PixKeyType.CNPJ.getValue(), "CNPJ inválido");
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
+    }
+
+
+    @Test
+    void shouldThrowErrorIfCnpjHasLowerCaseLetters() {
+        pixKeyContext.getFields().setKeyValue("12.abc.345/01de-35");
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(VALIDATION_FAILED, PixKeyType.CNPJ.getValue(), "CNPJ inválido");
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void shouldThrowErrorIfCnpjHasMoreThanFourteenCharacters() {
+        pixKeyContext.getFields().setKeyValue("12.ABC.345/01DE-351");
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(VALIDATION_FAILED, PixKeyType.CNPJ.getValue(), "CNPJ inválido");
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void shouldThrowErrorIfCnpjIsNull() {
+        pixKeyContext.getFields().setKeyValue(null);
+        step.validate(pixKeyContext);
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+    }
+
+    @Test
+    void shouldOnlyApplyToCnpjKeys() {
+        assertEquals(EnumSet.of(PixKeyType.CNPJ), step.keyTypes());
+        assertFalse(step.requiresFacts());
+    }
+
+    private PixKeyContext getContextFields() {
+        PixKeyRequestDTO pixKeyRequestDTO = PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.CNPJ)
+                .keyValue(cnpjWithMask)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(56789012345L)
+                .accountHolderFirstName("Lorem Ipsum")
+                .accountHolderLastName("Lorem Ipsum")
+                .build();
+
+        return new PixKeyContext(pixKeyRequestDTO);
+    }
+}
\ No newline at end of file
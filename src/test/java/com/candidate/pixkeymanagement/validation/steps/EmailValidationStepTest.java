@@ -4,14 +4,16 @@ import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.EnumSet;
 
 import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.*;
 class EmailValidationStepTest {
 
     private final String validEmail = "lorem.ipsum@gmail.com";
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
     @InjectMocks
     private EmailValidationStep step;
     private PixKeyContext pixKeyContext;
@@ -31,60 +35,52 @@ class EmailValidationStepTest {
 
     @Test
     void shouldReturnSuccessWhenEmailIsValid() {
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(0, context.get().getErrorList().size());
+        assertEquals(0, pixKeyContext.getErrorList().size());
     }
 
     @Test
     void shouldReturnSuccessWhenEmailIsAlfaNumeric() {
         pixKeyContext.getFields().setKeyValue("123.ipsum@gmail.com");
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(0, context.get().getErrorList().size());
+        assertEquals(0, pixKeyContext.getErrorList().size());
     }
 
     @Test
     void shouldThrowErrorIfEmailDoesNotContainAtSymbol() {
         pixKeyContext.getFields().setKeyValue("lorem.ipsum.gmail.com");
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        ErrorMessageDTO errorMessageDTO = new ErrorMessageDTO(VALIDATION_FAILED, PixKeyType.EMAIL.getValue(), "Email inválido");
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(VALIDATION_FAILED, PixKeyType.EMAIL.getValue(), "Email inválido");
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
-        assertEquals(errorMessageDTO.getMessage(), context.get().getErrorList().get(0).getMessage());
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
     }
 
     @Test
     void shouldThrowErrorWhenEmailHasMoreThanSeventySevenCharacters() {
         pixKeyContext.getFields().setKeyValue("lorem.ipsum.dolor.sit.amet.consectetur.adipiscing.elit.sed.do.eiusmod@exemplo.com");
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        ErrorMessageDTO errorMessageDTO = new ErrorMessageDTO(VALIDATION_FAILED, PixKeyType.EMAIL.getValue(), "Campo valorChave excedeu tamanho máximo");
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(VALIDATION_FAILED, PixKeyType.EMAIL.getValue(), "Campo valorChave excedeu tamanho máximo");
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
-        assertEquals(errorMessageDTO.getMessage(), context.get().getErrorList().get(0).getMessage());
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
 
     }
 
     @Test
-    void shouldNotProcessWhenKeyTypeIsDifferentFromEmail() {
-        pixKeyContext.getFields().setKeyType(PixKeyType.CNPJ);
-        assertDoesNotThrow(() -> step.validateAndApplyNext(pixKeyContext));
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        assertTrue(context.isPresent());
-        assertEquals(0, context.get().getErrorList().size());
+    void shouldOnlyApplyToEmailKeys() {
+        assertEquals(EnumSet.of(PixKeyType.EMAIL), step.keyTypes());
+        assertFalse(step.requiresFacts());
     }
 
     @Test
     void shouldThrowErrorIfEmailIsNull() {
         pixKeyContext.getFields().setKeyValue(null);
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
+        assertEquals(1, pixKeyContext.getErrorList().size());
     }
 
 
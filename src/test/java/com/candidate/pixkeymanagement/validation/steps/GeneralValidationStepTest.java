@@ -4,19 +4,18 @@ import com.candidate.pixkeymanagement.dto.ErrorMessageDTO;
 import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
 import com.candidate.pixkeymanagement.enumeration.AccountType;
 import com.candidate.pixkeymanagement.enumeration.PixKeyType;
-import com.candidate.pixkeymanagement.model.PixKeyRegister;
-import com.candidate.pixkeymanagement.repository.PixKeyRegisterRepository;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
 import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import com.candidate.pixkeymanagement.validation.ValidationFacts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
-import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.EnumSet;
+import java.util.Map;
 
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CNPJ;
 import static com.candidate.pixkeymanagement.enumeration.PixKeyType.CPF;
@@ -24,58 +23,64 @@ import static com.candidate.pixkeymanagement.util.MessageConstant.EXCEEDED_REGIS
 import static com.candidate.pixkeymanagement.util.MessageConstant.KEY_ALREADY_REGISTERED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GeneralValidationStepTest {
 
     private final String validEmail = "lorem.ipsum@gmail.com";
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
     @InjectMocks
     private GeneralValidationStep step;
-    @Mock
-    private PixKeyRegisterRepository pixKeyRegisterRepository;
     private PixKeyContext pixKeyContext;
-    private PixKeyRegister pixKeyRegister;
 
     @BeforeEach
     void setUp() {
         pixKeyContext = getContextFields();
         pixKeyContext.setTransactionType("POST");
-        pixKeyRegister = getPixKeyRegisterEntity();
+        pixKeyContext.setFacts(new ValidationFacts(false, Map.of()));
     }
 
     @Test
-    void shouldReturnSuccessIfValueWasNotRegistered() {
-        when(pixKeyRegisterRepository.findByKeyValue(pixKeyContext.getFields().getKeyValue())).thenReturn(List.of());
+    void shouldApplyToEveryKeyTypeAfterFactsAreLoaded() {
+        assertEquals(EnumSet.allOf(PixKeyType.class), step.keyTypes());
+        assertTrue(step.requiresFacts());
+    }
 
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
+    @Test
+    void shouldReturnSuccessIfValueWasNotRegistered() {
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(0, context.get().getErrorList().size());
-        verify(pixKeyRegisterRepository, times(1)).findByKeyValue(anyString());
+        assertEquals(0, pixKeyContext.getErrorList().size());
     }
 
     @Test
     void shouldThrowErrorIfValueAlreadyRegistered() {
-        when(pixKeyRegisterRepository.findByKeyValue(pixKeyContext.getFields().getKeyValue())).thenReturn(List.of(pixKeyRegister));
+        pixKeyContext.setFacts(new ValidationFacts(true, Map.of()));
+
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(KEY_ALREADY_REGISTERED);
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void shouldNotCheckDuplicateOnUpdate() {
+        pixKeyContext.setTransactionType("PATCH");
+        pixKeyContext.setFacts(new ValidationFacts(true, Map.of()));
 
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        ErrorMessageDTO errorMessageDTO = new ErrorMessageDTO(KEY_ALREADY_REGISTERED);
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
-        assertEquals(errorMessageDTO.getMessage(), context.get().getErrorList().get(0).getMessage());
-        verify(pixKeyRegisterRepository, times(1)).findByKeyValue(anyString());
+        assertEquals(0, pixKeyContext.getErrorList().size());
     }
 
     @Test
     void shouldThrowErrorIfKeyValueIsNull() {
         pixKeyContext.getFields().setKeyValue(null);
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
+        step.validate(pixKeyContext);
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
+        assertEquals(1, pixKeyContext.getErrorList().size());
     }
 
 
@@ -84,18 +89,13 @@ class GeneralValidationStepTest {
         pixKeyContext.getFields().setKeyValue("949.286.190-99");
         pixKeyContext.getFields().setKeyType(PixKeyType.CPF);
 
-        when(pixKeyRegisterRepository.countByAgencyNumberAndAccountNumber(pixKeyContext.getFields().getAgencyNumber(),
-                pixKeyContext.getFields().getAccountNumber()))
-                .thenReturn(6);
+        pixKeyContext.setFacts(new ValidationFacts(false, Map.of(CPF, 2, PixKeyType.EMAIL, 4)));
 
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        ErrorMessageDTO errorMessageDTO = new ErrorMessageDTO(EXCEEDED_REGISTERS_FOR_TYPE, CPF.getValue());
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(EXCEEDED_REGISTERS_FOR_TYPE, CPF.getValue());
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
-        assertEquals(errorMessageDTO.getMessage(), context.get().getErrorList().get(0).getMessage());
-        verify(pixKeyRegisterRepository, times(1)).findByKeyValue(anyString());
-        verify(pixKeyRegisterRepository, times(1)).countByAgencyNumberAndAccountNumber(anyInt(), anyLong());
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
     }
 
     @Test
@@ -103,18 +103,13 @@ class GeneralValidationStepTest {
         pixKeyContext.getFields().setKeyValue("949.286.190-99");
         pixKeyContext.getFields().setKeyType(CNPJ);
 
-        when(pixKeyRegisterRepository.countByAgencyNumberAndAccountNumber(pixKeyContext.getFields().getAgencyNumber(),
-                pixKeyContext.getFields().getAccountNumber()))
-                .thenReturn(21);
+        pixKeyContext.setFacts(new ValidationFacts(false, Map.of(CNPJ, 21)));
 
-        Optional<PixKeyContext> context = step.validateAndApplyNext(pixKeyContext);
-        ErrorMessageDTO errorMessageDTO = new ErrorMessageDTO(EXCEEDED_REGISTERS_FOR_TYPE, CNPJ.getValue());
+        step.validate(pixKeyContext);
+        ErrorMessageDTO errorMessageDTO = errorMessageCatalog.error(EXCEEDED_REGISTERS_FOR_TYPE, CNPJ.getValue());
 
-        assertTrue(context.isPresent());
-        assertEquals(1, context.get().getErrorList().size());
-        assertEquals(errorMessageDTO.getMessage(), context.get().getErrorList().get(0).getMessage());
-        verify(pixKeyRegisterRepository, times(1)).findByKeyValue(anyString());
-        verify(pixKeyRegisterRepository, times(1)).countByAgencyNumberAndAccountNumber(anyInt(), anyLong());
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageDTO.getMessage(), pixKeyContext.getErrorList().get(0).getMessage());
     }
 
 
@@ -131,17 +126,4 @@ class GeneralValidationStepTest {
 
         return new PixKeyContext(pixKeyRequestDTO);
     }
-
-    private PixKeyRegister getPixKeyRegisterEntity() {
-        return PixKeyRegister.builder()
-                .keyType(PixKeyType.EMAIL.getValue())
-                .keyValue(validEmail)
-                .accountType(AccountType.CHECKING.getValue())
-                .agencyNumber(1234)
-                .accountNumber(56789012345L)
-                .accountHolderFirstName("Lorem")
-                .accountHolderLastName("Lorem Ipsum")
-                .keyRegistrationDate(LocalDateTime.now())
-                .build();
-    }
 }
\ No newline at end of file
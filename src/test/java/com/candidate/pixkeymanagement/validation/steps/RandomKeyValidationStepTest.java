@@ -0,0 +1,64 @@
+package com.candidate.pixkeymanagement.validation.steps;
+
+import com.candidate.pixkeymanagement.dto.PixKeyRequestDTO;
+import com.candidate.pixkeymanagement.enumeration.AccountType;
+import com.candidate.pixkeymanagement.enumeration.PixKeyType;
+import com.candidate.pixkeymanagement.message.ErrorMessageCatalog;
+import com.candidate.pixkeymanagement.validation.PixKeyContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+
+import static com.candidate.pixkeymanagement.util.MessageConstant.VALIDATION_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RandomKeyValidationStepTest {
+
+    @Spy
+    private ErrorMessageCatalog errorMessageCatalog = ErrorMessageCatalog.load("messages");
+    @InjectMocks
+    private RandomKeyValidationStep step;
+
+    @Test
+    void shouldReturnSuccessWhenRandomKeyIsValid() {
+        PixKeyContext pixKeyContext = getContextFields("5f0c6a4e-2f1d-4f8a-9c43-0c4a2b8e7d11");
+        step.validate(pixKeyContext);
+
+        assertEquals(0, pixKeyContext.getErrorList().size());
+    }
+
+    @Test
+    void shouldThrowErrorIfRandomKeyIsNotCanonicalUuid() {
+        PixKeyContext pixKeyContext = getContextFields("5f0c6a4e2f1d4f8a9c430c4a2b8e7d11");
+        step.validate(pixKeyContext);
+
+        assertEquals(1, pixKeyContext.getErrorList().size());
+        assertEquals(errorMessageCatalog.getMessage(VALIDATION_FAILED, PixKeyType.RANDOM_KEY.getValue(), "Chave aleatória inválida"),
+                pixKeyContext.getErrorList().get(0).getMessage());
+    }
+
+    @Test
+    void shouldOnlyApplyToRandomKeys() {
+        assertEquals(EnumSet.of(PixKeyType.RANDOM_KEY), step.keyTypes());
+        assertFalse(step.requiresFacts());
+    }
+
+    private PixKeyContext getContextFields(String keyValue) {
+        PixKeyRequestDTO pixKeyRequestDTO = PixKeyRequestDTO.builder()
+                .keyType(PixKeyType.RANDOM_KEY)
+                .keyValue(keyValue)
+                .accountType(AccountType.CHECKING)
+                .agencyNumber(1234)
+                .accountNumber(56789012345L)
+                .accountHolderFirstName("Lorem Ipsum")
+                .accountHolderLastName("Lorem Ipsum")
+                .build();
+
+        return new PixKeyContext(pixKeyRequestDTO);
+    }
+}